@@ -0,0 +1,95 @@
+package org.scoula.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 내장 H2 데이터베이스 (MySQL 호환 모드)
+ * - benchmark/schema.sql 로 테이블 생성 후 회원/권한, 상품 데이터 생성
+ */
+public final class BenchmarkDatabase {
+
+    public static final int BANK_COUNT = 20;
+    public static final int[] TERMS = {1, 3, 6, 12, 24, 36};
+
+    private BenchmarkDatabase() {
+    }
+
+    public static HikariDataSource create(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("benchmark-" + name);
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() * 2);
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("benchmark/schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * member0 ~ member{count-1} 회원과 ROLE_MEMBER 권한 생성 (member0 은 ROLE_ADMIN 추가)
+     */
+    public static void seedMembers(HikariDataSource dataSource, int count) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Object[]> members = new ArrayList<>(count);
+        List<Object[]> auths = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            String username = "member" + i;
+            members.add(new Object[]{username, "{bcrypt}dummy", username + "@finmate.test"});
+            auths.add(new Object[]{username, "ROLE_MEMBER"});
+        }
+        auths.add(new Object[]{"member0", "ROLE_ADMIN"});
+
+        jdbcTemplate.batchUpdate("INSERT INTO tbl_member (username, password, email) VALUES (?, ?, ?)", members);
+        jdbcTemplate.batchUpdate("INSERT INTO tbl_member_auth (username, auth) VALUES (?, ?)", auths);
+    }
+
+    /**
+     * 상품 count 건 생성 (유형 3종, 은행 BANK_COUNT 곳, 기간 TERMS, 금리 1.00 ~ 5.99)
+     */
+    public static void seedProducts(HikariDataSource dataSource, int count) {
+        String[] types = {"DEPOSIT", "SAVING", "FUND"};
+        Random random = new Random(42);
+        List<Object[]> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int baseRate = 100 + random.nextInt(400);
+            products.add(new Object[]{
+                    (long) i, types[random.nextInt(types.length)], bankCode(random.nextInt(BANK_COUNT)),
+                    "product" + i, TERMS[random.nextInt(TERMS.length)],
+                    BigDecimal.valueOf(baseRate, 2), BigDecimal.valueOf(baseRate + random.nextInt(100), 2)});
+        }
+        new JdbcTemplate(dataSource).batchUpdate("INSERT INTO tbl_product "
+                + "(product_id, product_type, bank_code, product_name, term_months, base_rate, max_rate) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", products);
+    }
+
+    public static String bankCode(int index) {
+        return String.format("B%03d", index);
+    }
+
+    /**
+     * 매퍼 인터페이스와 같은 경로의 XML 을 읽어 SqlSessionFactory 생성
+     */
+    public static SqlSessionFactory sqlSessionFactory(HikariDataSource dataSource, Class<?>... mappers) {
+        Environment environment = new Environment("benchmark", new JdbcTransactionFactory(), dataSource);
+        Configuration configuration = new Configuration(environment);
+        configuration.setMapUnderscoreToCamelCase(true);
+        for (Class<?> mapper : mappers) {
+            configuration.addMapper(mapper);
+        }
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+}
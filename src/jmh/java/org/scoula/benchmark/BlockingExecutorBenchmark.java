@@ -0,0 +1,81 @@
+package org.scoula.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoula.common.async.VirtualThreads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 모델 비교: JDBC 대기처럼 블로킹되는 요청 N개를 처리하는 데 걸리는 시간
+ * - platform : Tomcat 기본 maxThreads(200)와 같은 크기의 고정 스레드 풀 (현재 방식)
+ * - virtual  : 요청마다 가상 스레드 (JDK 21+ 에서만 실행, 그 외에는 해당 파라미터 실패로 표시)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BlockingExecutorBenchmark (JDK 21 로 실행해야 virtual 결과가 나옴)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BlockingExecutorBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    // 동시에 들어오는 요청 수
+    @Param({"1000", "5000"})
+    public int requests;
+
+    // 요청당 블로킹 시간 (DB 왕복 시뮬레이션)
+    @Param({"10"})
+    public int blockMillis;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = VirtualThreads.newThreadPerTaskExecutor("bench-vt-");
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void handleBurst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
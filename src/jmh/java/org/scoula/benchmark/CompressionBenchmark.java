@@ -0,0 +1,102 @@
+package org.scoula.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.scoula.common.filter.CompressingOutputStream;
+import org.scoula.common.filter.DeflaterPool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 큰 JSON 응답(상품 목록) 압축 비용과 크기
+ * - pooled : CompressionFilter 가 사용하는 CompressingOutputStream + DeflaterPool
+ * - jdk    : 응답마다 GZIPOutputStream 생성 (Deflater 네이티브 메모리 매번 할당)
+ * 압축 전/후 바이트는 Trial 종료 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressionBenchmark {
+
+    @Param({"100", "2000"})
+    public int products;
+
+    @Param({"1", "5", "9"})
+    public int level;
+
+    private byte[] payload;
+    private DeflaterPool pool;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Map<String, Object>> list = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("productCode", "DEP" + (100000 + i));
+            product.put("productName", "FinMate 정기예금 " + i);
+            product.put("bankName", i % 3 == 0 ? "국민은행" : i % 3 == 1 ? "신한은행" : "우리은행");
+            product.put("termMonths", 6 + i % 30);
+            product.put("baseRate", 2.5 + (i % 100) / 100.0);
+            product.put("maxRate", 3.5 + (i % 100) / 100.0);
+            product.put("joinWay", "인터넷,스마트폰,영업점");
+            product.put("description", "가입 기간 동안 약정 금리를 보장하는 상품입니다. 중도 해지 시 중도해지 이율 적용.");
+            list.add(product);
+        }
+        payload = new ObjectMapper().writeValueAsBytes(list);
+        pool = new DeflaterPool(level, 8192, 4);
+        out = new ByteArrayOutputStream(payload.length);
+    }
+
+    @TearDown
+    public void report() throws IOException {
+        System.out.printf("%n[%d products, level %d] JSON %,d bytes -> gzip %,d bytes (%.1f%%)%n",
+                products, level, payload.length, pooled(), 100.0 * pooled() / payload.length);
+    }
+
+    @Benchmark
+    public int pooled() throws IOException {
+        out.reset();
+        CompressingOutputStream gzip = new CompressingOutputStream(out, CompressingOutputStream.Encoding.GZIP, pool);
+        gzip.write(payload);
+        gzip.finish();
+        return out.size();
+    }
+
+    @Benchmark
+    public int jdk() throws IOException {
+        out.reset();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(level);
+            }
+        };
+        gzip.write(payload);
+        gzip.finish();
+        gzip.close();
+        return out.size();
+    }
+
+    @Benchmark
+    public int uncompressedCopy() {
+        out.reset();
+        out.write(payload, 0, payload.length);
+        return out.size();
+    }
+}
@@ -0,0 +1,143 @@
+package org.scoula.benchmark;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.scoula.common.web.StacklessDispatcherServlet;
+import org.scoula.exception.CommonExceptionAdvice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * API 클라이언트 오류 요청 1건당 처리 비용 (MockMvc, 로그는 임시 파일로 출력)
+ * - legacy  : 기존 CommonExceptionAdvice (예외마다 ERROR 로그, JSP 뷰 이름 반환)
+ * - problem : 현재 CommonExceptionAdvice (미리 직렬화한 problem+json, 404 는 DEBUG, 5xx 스택 표본 추출)
+ * MockMvc 는 JSP 를 실제로 렌더링하지 않고 forward URL 만 기록하므로 legacy 수치는 하한값
+ *
+ * notFoundException : 필터 체인 깊이(약 80 프레임)에서 404 예외 생성 비용
+ * - legacy  : NoHandlerFoundException (스택 트레이스 채움)
+ * - problem : StacklessDispatcherServlet 의 스택 없는 예외
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorHandlingBenchmark {
+
+    private static final int FILTER_CHAIN_DEPTH = 80;
+
+    @Param({"legacy", "problem"})
+    public String mode;
+
+    private File logFile;
+    private MockMvc mockMvc;
+
+    @RestController
+    public static class FailingController {
+        @GetMapping("/api/fail")
+        public String fail() {
+            throw new IllegalStateException("상품 조회 실패");
+        }
+    }
+
+    // 변경 전 CommonExceptionAdvice
+    @ControllerAdvice
+    @Log4j2
+    public static class LegacyExceptionAdvice {
+        @ExceptionHandler(Exception.class)
+        public String except(Exception ex, Model model) {
+            log.error("Exception: {}", ex.getMessage());
+            model.addAttribute("exception", ex);
+            return "error_page";
+        }
+
+        @ExceptionHandler(NoHandlerFoundException.class)
+        @ResponseStatus(HttpStatus.NOT_FOUND)
+        public String handle404(NoHandlerFoundException ex, HttpServletRequest request, Model model) {
+            log.error("404 Error: {}", ex.getMessage());
+            model.addAttribute("uri", request.getRequestURI());
+            return "custom404";
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("finmate-error-benchmark", ".log").toFile();
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setStatusLevel(Level.ERROR);
+        builder.add(builder.newAppender("file", "RandomAccessFile")
+                .addAttribute("fileName", logFile.getAbsolutePath())
+                .addAttribute("immediateFlush", false)
+                .add(builder.newLayout("PatternLayout").addAttribute("pattern",
+                        "%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%t] %c{1.} - %m%n")));
+        builder.add(builder.newRootLogger(Level.INFO).add(builder.newAppenderRef("file")));
+        Configurator.reconfigure(builder.build());
+
+        Object advice = "legacy".equals(mode) ? new LegacyExceptionAdvice() : new CommonExceptionAdvice(60);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+                .setControllerAdvice(advice)
+                .setViewResolvers(new InternalResourceViewResolver("/WEB-INF/views/", ".jsp"))
+                .addDispatcherServletCustomizer(servlet -> servlet.setThrowExceptionIfNoHandlerFound(true))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logFile.delete();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse apiError() throws Exception {
+        return mockMvc.perform(get("/api/fail").accept(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse apiNotFound() throws Exception {
+        return mockMvc.perform(get("/api/missing").accept(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public Exception notFoundException() {
+        return createAtDepth(FILTER_CHAIN_DEPTH);
+    }
+
+    private Exception createAtDepth(int depth) {
+        if (depth > 0) {
+            return createAtDepth(depth - 1);
+        }
+        return "legacy".equals(mode)
+                ? new NoHandlerFoundException("GET", "/wp-login.php", new HttpHeaders())
+                : new StacklessDispatcherServlet.StacklessNoHandlerFoundException("GET", "/wp-login.php");
+    }
+}
@@ -0,0 +1,138 @@
+package org.scoula.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+import lombok.Setter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.scoula.common.json.JsonMappers;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FinMate 응답 DTO 직렬화 / 역직렬화 비용
+ * - builder : Jackson2ObjectMapperBuilder.json().build() (기존 MVC 기본 컨버터 / CursorExporter 와 같은 설정)
+ * - shared  : JsonMappers.create() (Blackbird, 날짜 숫자, RootConfig.objectMapper)
+ * 응답 스트림 대신 재사용하는 ByteArrayOutputStream 에 씀 (MVC 컨버터와 같은 writeValue(OutputStream) 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"builder", "shared"})
+    public String mapper;
+
+    private ObjectWriter pageWriter;
+    private ObjectReader pageReader;
+    private ObjectWriter memberWriter;
+
+    private ProductPage page;
+    private Member member;
+    private byte[] pageJson;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = "shared".equals(mapper) ? JsonMappers.create() : Jackson2ObjectMapperBuilder.json().build();
+        pageWriter = objectMapper.writerFor(ProductPage.class);
+        pageReader = objectMapper.readerFor(new TypeReference<ProductPage>() { });
+        memberWriter = objectMapper.writerFor(Member.class);
+
+        page = new ProductPage();
+        page.setPage(1);
+        page.setSize(20);
+        page.setTotal(1_234);
+        page.setItems(new ArrayList<>());
+        for (int i = 0; i < 20; i++) {
+            Product product = new Product();
+            product.setProductId(100_000L + i);
+            product.setProductCode("DEP" + (100000 + i));
+            product.setProductName("FinMate 정기예금 " + i);
+            product.setBankName(i % 3 == 0 ? "국민은행" : i % 3 == 1 ? "신한은행" : "우리은행");
+            product.setTermMonths(6 + i % 30);
+            product.setBaseRate(2.5 + i / 100.0);
+            product.setMaxRate(3.5 + i / 100.0);
+            product.setJoinWay("인터넷,스마트폰,영업점");
+            product.setUpdatedAt(new Date(1_750_000_000_000L + i));
+            page.getItems().add(product);
+        }
+
+        member = new Member();
+        member.setMemberId(42L);
+        member.setUsername("member42");
+        member.setEmail("member42@finmate.test");
+        member.setAuthList(List.of("ROLE_MEMBER"));
+        member.setRegDate(new Date(1_750_000_000_000L));
+
+        pageJson = objectMapper.writeValueAsBytes(page);
+        out = new ByteArrayOutputStream(pageJson.length * 2);
+    }
+
+    @Benchmark
+    public int serializeProductPage() throws IOException {
+        out.reset();
+        pageWriter.writeValue(out, page);
+        return out.size();
+    }
+
+    @Benchmark
+    public ProductPage deserializeProductPage() throws IOException {
+        return pageReader.readValue(pageJson);
+    }
+
+    @Benchmark
+    public int serializeMember() throws IOException {
+        out.reset();
+        memberWriter.writeValue(out, member);
+        return out.size();
+    }
+
+    @Getter
+    @Setter
+    public static class ProductPage {
+        private int page;
+        private int size;
+        private long total;
+        private List<Product> items;
+    }
+
+    @Getter
+    @Setter
+    public static class Product {
+        private long productId;
+        private String productCode;
+        private String productName;
+        private String bankName;
+        private int termMonths;
+        private double baseRate;
+        private double maxRate;
+        private String joinWay;
+        private Date updatedAt;
+    }
+
+    @Getter
+    @Setter
+    public static class Member {
+        private long memberId;
+        private String username;
+        private String email;
+        private List<String> authList;
+        private Date regDate;
+    }
+}
@@ -0,0 +1,112 @@
+package org.scoula.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.scoula.security.util.JwtClaimsCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 비용
+ * - JwtProcessor 와 같은 방식(HS256, jwt.secret_key, 5분 만료)으로 토큰을 만들고 검증
+ * - validate* : 유효 / 만료 / 형식 오류 토큰 (JwtProcessor.validateToken 과 같이 예외를 잡아 boolean 반환)
+ * - validateValidCached : JwtClaimsCache 적중 시 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final long TOKEN_VALID_MILLISECONDS = 1000L * 60 * 5;
+
+    private Key key;
+    private JwtParser parser;
+    private JwtClaimsCache claimsCache;
+
+    private String validToken;
+    private String expiredToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor("benchmark-secret-key-for-finmate-jwt-0123456789".getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        claimsCache = new JwtClaimsCache(10_000, 600);
+
+        validToken = generateToken("user0");
+        expiredToken = Jwts.builder()
+                .setSubject("user0")
+                .setIssuedAt(new Date(System.currentTimeMillis() - TOKEN_VALID_MILLISECONDS * 2))
+                .setExpiration(new Date(System.currentTimeMillis() - TOKEN_VALID_MILLISECONDS))
+                .signWith(key)
+                .compact();
+        malformedToken = "invalid.jwt.token";
+    }
+
+    private String generateToken(String subject) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(new Date().getTime() + TOKEN_VALID_MILLISECONDS))
+                .signWith(key)
+                .compact();
+    }
+
+    private boolean validate(String token) {
+        try {
+            parser.parseClaimsJws(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return generateToken("user0");
+    }
+
+    @Benchmark
+    public String generateTokenWithRole() {
+        return Jwts.builder()
+                .setSubject("user0")
+                .claim("role", "ROLE_MEMBER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(new Date().getTime() + TOKEN_VALID_MILLISECONDS))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateValid() {
+        return validate(validToken);
+    }
+
+    @Benchmark
+    public boolean validateExpired() {
+        return validate(expiredToken);
+    }
+
+    @Benchmark
+    public boolean validateMalformed() {
+        return validate(malformedToken);
+    }
+
+    @Benchmark
+    public Claims validateValidCached() {
+        return claimsCache.get(validToken, t -> parser.parseClaimsJws(t).getBody());
+    }
+}
@@ -0,0 +1,93 @@
+package org.scoula.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.scoula.security.util.JwtKeyRing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 처리량 (초당 검증 수)
+ * - rebuildParser : 요청마다 키 / 파서를 새로 만드는 방식
+ * - singleKey     : 미리 만든 단일 키 파서 (키 교체 불가)
+ * - keyRing       : JwtKeyRing (kid 로 키 선택, 교체 중 2개 키 활성)
+ * threads=1 결과가 코어 1개당 처리량, *Parallel 은 모든 코어에서 동시에 검증할 때 (락 경합 확인용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtKeyRingBenchmark {
+
+    private static final String SECRET_A = "benchmark-secret-key-for-finmate-jwt-0123456789";
+    private static final String SECRET_B = "benchmark-secret-key-for-finmate-jwt-9876543210";
+
+    // 서명한 키 (a: 교체 전 키, b: 새 키)
+    @Param({"a", "b"})
+    public String signedWith;
+
+    private Key key;
+    private JwtKeyRing keyRing;
+    private JwtParser singleKeyParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = "a".equals(signedWith) ? SECRET_A : SECRET_B;
+        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        singleKeyParser = Jwts.parserBuilder().setSigningKey(key).build();
+        // b 는 방금 활성화, a 는 overlap 기간 (둘 다 검증 가능)
+        keyRing = new JwtKeyRing("", "a:" + SECRET_A + ",b:" + SECRET_B + "@" + Instant.now().minusSeconds(60), 3600);
+        token = Jwts.builder()
+                .setHeaderParam("kid", signedWith)
+                .setSubject("user0")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims rebuildParser() {
+        String secret = "a".equals(signedWith) ? SECRET_A : SECRET_B;
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims singleKey() {
+        return singleKeyParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims keyRing() {
+        return keyRing.parse(token);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Claims singleKeyParallel() {
+        return singleKeyParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Claims keyRingParallel() {
+        return keyRing.parse(token);
+    }
+}
@@ -0,0 +1,94 @@
+package org.scoula.benchmark;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.api.LoggerComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건에서 발생하는 로그 호출 비용 비교
+ * - legacy : 기존 log4j2.xml (동기 Logger, %c(%M:%L) 위치 정보 패턴)
+ * - sync   : 동기 Logger, 위치 정보 없는 패턴 + MDC
+ * - async  : 비동기 Logger(LMAX Disruptor), 위치 정보 없는 패턴 + MDC (현재 설정)
+ *
+ * 할당량까지 보려면: ./gradlew jmh -Pjmh.includes=LoggingBenchmark 후
+ * 또는 jmhJar 로 실행 시 -prof gc 옵션 추가 (gc.alloc.rate.norm = 요청당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingBenchmark {
+
+    private static final String LEGACY_PATTERN = " %-5level %c(%M:%L) - %m%n";
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%t] [%X{requestId}] [%X{user}] %c{1.} - %m%n";
+
+    @Param({"legacy", "sync", "async"})
+    public String mode;
+
+    private File logFile;
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("finmate-logging-benchmark", ".log").toFile();
+        boolean legacy = "legacy".equals(mode);
+
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setConfigurationName("logging-benchmark-" + mode);
+        builder.setStatusLevel(Level.ERROR);
+        builder.add(builder.newAppender("file", "RandomAccessFile")
+                .addAttribute("fileName", logFile.getAbsolutePath())
+                .addAttribute("immediateFlush", legacy)
+                .add(builder.newLayout("PatternLayout").addAttribute("pattern", legacy ? LEGACY_PATTERN : PATTERN)));
+
+        LoggerComponentBuilder loggerBuilder = "async".equals(mode)
+                ? builder.newAsyncLogger("org.scoula", Level.INFO)
+                : builder.newLogger("org.scoula", Level.INFO);
+        builder.add(loggerBuilder
+                .addAttribute("additivity", false)
+                .addAttribute("includeLocation", legacy)
+                .add(builder.newAppenderRef("file")));
+        builder.add(builder.newRootLogger(Level.ERROR));
+
+        context = new LoggerContext("logging-benchmark-" + mode);
+        context.start(builder.build());
+        logger = context.getLogger("org.scoula.controller.ProductController");
+
+        ThreadContext.put("requestId", "5f2c9a1e0b7d4c36");
+        ThreadContext.put("user", "user0");
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        ThreadContext.clearMap();
+        context.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void logRequest() {
+        long memberId = ThreadLocalRandom.current().nextLong(100_000);
+        logger.info("상품 목록 조회 memberId={}, page={}, size={}", memberId, 1, 20);
+    }
+}
@@ -0,0 +1,90 @@
+package org.scoula.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.scoula.security.password.AdaptiveBCryptPasswordEncoder;
+import org.scoula.security.password.LoginThrottle;
+import org.scoula.security.password.PasswordVerifier;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크리덴셜 스터핑 상황의 로그인 처리량
+ * - 계정 1,000개 중 무작위 계정으로 로그인, 시도의 successPercent% 만 올바른 비밀번호 (나머지는 유출 비밀번호 대입)
+ * - 공격 IP 20개, 호출 스레드 16개 (동시 로그인 요청)
+ * - direct   : 요청 스레드에서 바로 BCrypt 검증 (기존 방식)
+ * - verifier : PasswordVerifier (계정 / IP 잠금 + 인증 결과 캐시 + 전용 실행기)
+ * 점수는 처리된 로그인 시도 수 (LOCKED / BUSY 로 빨리 거부된 요청 포함) - 결과별 건수는 TearDown 에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class LoginStormBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int IPS = 20;
+
+    @Param({"direct", "verifier"})
+    public String mode;
+
+    @Param({"5"})
+    public int successPercent;
+
+    @Param({"6"})
+    public int strength;
+
+    private AdaptiveBCryptPasswordEncoder encoder;
+    private PasswordVerifier verifier;
+    private String[] usernames;
+    private String[] ips;
+    private String[] hashes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new AdaptiveBCryptPasswordEncoder(strength);
+        usernames = new String[ACCOUNTS];
+        hashes = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            usernames[i] = "member" + i;
+            hashes[i] = encoder.encode("password" + i);
+        }
+        ips = new String[IPS];
+        for (int i = 0; i < IPS; i++) {
+            ips[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        verifier = new PasswordVerifier(encoder,
+                new LoginThrottle(5, 300, 30, 900, 64, 100_000),
+                new LoginThrottle(50, 300, 30, 900, 64, 100_000),
+                threads, 64, 2000, 300, 10_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("\n" + mode + " " + verifier.stats());
+        verifier.close();
+    }
+
+    @Benchmark
+    public boolean login() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int account = random.nextInt(ACCOUNTS);
+        String password = random.nextInt(100) < successPercent ? "password" + account : "leaked" + random.nextInt(1000);
+        if ("direct".equals(mode)) {
+            return encoder.matches(password, hashes[account]);
+        }
+        return verifier.verify(usernames[account], ips[random.nextInt(IPS)], password, hashes[account], null)
+                .isSuccess();
+    }
+}
@@ -0,0 +1,107 @@
+package org.scoula.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.scoula.product.catalog.ProductCatalog;
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductSort;
+import org.scoula.product.domain.ProductType;
+import org.scoula.product.domain.ProductVO;
+import org.scoula.product.mapper.ProductMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색: SQL(ProductMapper.search, 내장 H2) vs 메모리 카탈로그(ProductCatalog.search)
+ * - 유형 / 은행 / 기간 범위 / 최소 금리 조건을 무작위로 조합한 QUERY_COUNT 개 검색을 돌아가며 실행, 상위 10건
+ * - 시작 시 두 방식의 결과가 같은지 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductCatalogBenchmark {
+
+    private static final int QUERY_COUNT = 256;
+
+    @Param({"10000"})
+    public int products;
+
+    private HikariDataSource dataSource;
+    private ProductMapper productMapper;
+    private ProductCatalog catalog;
+    private ProductSearch[] queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDatabase.create("catalog");
+        BenchmarkDatabase.seedProducts(dataSource, products);
+        productMapper = new SqlSessionTemplate(BenchmarkDatabase.sqlSessionFactory(dataSource, ProductMapper.class))
+                .getMapper(ProductMapper.class);
+        catalog = new ProductCatalog(productMapper);
+        catalog.reload();
+
+        Random random = new Random(1);
+        ProductType[] types = ProductType.values();
+        queries = new ProductSearch[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            ProductSearch search = new ProductSearch();
+            search.setTypes(Set.of(types[random.nextInt(types.length)]));
+            if (random.nextBoolean()) {
+                search.setBankCodes(Set.copyOf(List.of(
+                        BenchmarkDatabase.bankCode(random.nextInt(BenchmarkDatabase.BANK_COUNT)),
+                        BenchmarkDatabase.bankCode(random.nextInt(BenchmarkDatabase.BANK_COUNT)))));
+            }
+            search.setMinTerm(BenchmarkDatabase.TERMS[random.nextInt(3)]);
+            search.setMaxTerm(BenchmarkDatabase.TERMS[3 + random.nextInt(3)]);
+            if (random.nextInt(4) == 0) {
+                search.setMinRate(new BigDecimal("4.00"));
+            }
+            search.setSort(random.nextBoolean() ? ProductSort.MAX_RATE : ProductSort.BASE_RATE);
+            search.setLimit(10);
+            queries[i] = search;
+
+            if (!ids(productMapper.search(search)).equals(ids(catalog.search(search)))) {
+                throw new IllegalStateException("SQL / 카탈로그 검색 결과 불일치: " + search);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    private static List<Long> ids(List<ProductVO> products) {
+        return products.stream().map(ProductVO::getProductId).collect(Collectors.toList());
+    }
+
+    private ProductSearch nextQuery() {
+        return queries[ThreadLocalRandom.current().nextInt(QUERY_COUNT)];
+    }
+
+    @Benchmark
+    public List<ProductVO> sql() {
+        return productMapper.search(nextQuery());
+    }
+
+    @Benchmark
+    public List<ProductVO> catalog() {
+        return catalog.search(nextQuery());
+    }
+}
@@ -0,0 +1,63 @@
+package org.scoula.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.scoula.benchmark.mapper.BenchMemberVO;
+import org.scoula.benchmark.mapper.BenchUserDetailsMapper;
+import org.scoula.benchmark.mapper.CachedBenchUserDetailsMapper;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청마다 실행되는 UserDetailsMapper.get (회원 + 권한 조인) 경로
+ * - 내장 H2(MySQL 호환 모드) 대상, 요청마다 SqlSession 을 열고 닫는 실제 사용 패턴
+ * - secondLevelCache=true : CaffeineMybatisCache 2차 캐시 적용 매퍼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserDetailsMapperBenchmark {
+
+    private static final int MEMBER_COUNT = 10_000;
+
+    @Param({"false", "true"})
+    public boolean secondLevelCache;
+
+    private HikariDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDatabase.create("userdetails");
+        BenchmarkDatabase.seedMembers(dataSource, MEMBER_COUNT);
+        sqlSessionFactory = BenchmarkDatabase.sqlSessionFactory(dataSource,
+                BenchUserDetailsMapper.class, CachedBenchUserDetailsMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public BenchMemberVO get() {
+        String username = "member" + ThreadLocalRandom.current().nextInt(MEMBER_COUNT);
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return secondLevelCache
+                    ? session.getMapper(CachedBenchUserDetailsMapper.class).get(username)
+                    : session.getMapper(BenchUserDetailsMapper.class).get(username);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.scoula.benchmark.mapper;
+
+import lombok.Data;
+
+/**
+ * 벤치마크용 권한 VO (AuthVO 와 같은 구조)
+ */
+@Data
+public class BenchAuthVO {
+    private String username;
+    private String auth;
+}
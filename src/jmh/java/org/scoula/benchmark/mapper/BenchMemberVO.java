@@ -0,0 +1,20 @@
+package org.scoula.benchmark.mapper;
+
+import lombok.Data;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 벤치마크용 회원 VO (MemberVO 와 같은 구조)
+ */
+@Data
+public class BenchMemberVO {
+    private String username;
+    private String password;
+    private String email;
+    private Date regDate;
+    private Date updateDate;
+
+    private List<BenchAuthVO> authList;
+}
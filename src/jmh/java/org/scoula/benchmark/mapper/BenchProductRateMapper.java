@@ -0,0 +1,14 @@
+package org.scoula.benchmark.mapper;
+
+import java.util.List;
+
+/**
+ * 단건 INSERT / multi-row upsert (MapperTemplate.xml 의 insertAll 패턴)
+ */
+public interface BenchProductRateMapper {
+    int insert(BenchProductRateVO rate);
+
+    int insertAll(List<BenchProductRateVO> rates);
+
+    int deleteAll();
+}
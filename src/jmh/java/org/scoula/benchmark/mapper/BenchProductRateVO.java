@@ -0,0 +1,20 @@
+package org.scoula.benchmark.mapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 벤치마크용 상품 금리 VO (대량 등록 대상)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchProductRateVO {
+    private String productCode;
+    private int termMonths;
+    private BigDecimal baseRate;
+    private BigDecimal maxRate;
+}
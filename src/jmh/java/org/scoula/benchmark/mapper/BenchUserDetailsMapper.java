@@ -0,0 +1,8 @@
+package org.scoula.benchmark.mapper;
+
+/**
+ * UserDetailsMapper.get 과 같은 회원 + 권한 조인 조회
+ */
+public interface BenchUserDetailsMapper {
+    BenchMemberVO get(String username);
+}
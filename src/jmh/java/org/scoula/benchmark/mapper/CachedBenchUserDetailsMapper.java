@@ -0,0 +1,8 @@
+package org.scoula.benchmark.mapper;
+
+/**
+ * BenchUserDetailsMapper 와 같은 조회 + CaffeineMybatisCache 2차 캐시
+ */
+public interface CachedBenchUserDetailsMapper {
+    BenchMemberVO get(String username);
+}
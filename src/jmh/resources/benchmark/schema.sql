@@ -0,0 +1,37 @@
+-- 벤치마크용 내장 DB 스키마 (H2 MySQL 호환 모드)
+CREATE TABLE IF NOT EXISTS tbl_member (
+    username    VARCHAR(50)  PRIMARY KEY,
+    password    VARCHAR(128) NOT NULL,
+    email       VARCHAR(50)  NOT NULL,
+    reg_date    DATETIME     DEFAULT CURRENT_TIMESTAMP,
+    update_date DATETIME     DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS tbl_member_auth (
+    username VARCHAR(50) NOT NULL,
+    auth     VARCHAR(50) NOT NULL,
+    PRIMARY KEY (username, auth)
+);
+
+CREATE TABLE IF NOT EXISTS tbl_product_rate (
+    product_code VARCHAR(20)  NOT NULL,
+    term_months  INT          NOT NULL,
+    base_rate    DECIMAL(5,2) NOT NULL,
+    max_rate     DECIMAL(5,2) NOT NULL,
+    PRIMARY KEY (product_code, term_months)
+);
+
+CREATE TABLE IF NOT EXISTS tbl_product (
+    product_id   BIGINT       PRIMARY KEY,
+    product_type VARCHAR(10)  NOT NULL,
+    bank_code    VARCHAR(10)  NOT NULL,
+    product_name VARCHAR(100) NOT NULL,
+    term_months  INT          NOT NULL,
+    base_rate    DECIMAL(5,2) NOT NULL,
+    max_rate     DECIMAL(5,2) NOT NULL,
+    deleted      BOOLEAN      DEFAULT FALSE NOT NULL,
+    updated_at   DATETIME     DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_max_rate ON tbl_product (max_rate);
+CREATE INDEX IF NOT EXISTS idx_product_updated_at ON tbl_product (updated_at);
@@ -0,0 +1,28 @@
+package org.scoula.common.async;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * 비동기 작업 실행 시 요청 스레드의 MDC(requestId, user)를 작업 스레드로 복사
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = ThreadContext.getImmutableContext();
+        if (context.isEmpty()) {
+            return runnable;
+        }
+        return () -> {
+            ThreadContext.putAll(context);
+            try {
+                runnable.run();
+            } finally {
+                ThreadContext.clearMap();
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package org.scoula.common.async;
+
+/**
+ * 비동기 작업(@Async, MVC Callable/DeferredResult) 실행 스레드 모델
+ */
+public enum ThreadMode {
+    PLATFORM,   // 고정 크기 플랫폼 스레드 풀 (기존 방식)
+    VIRTUAL,    // 작업마다 가상 스레드 (JDK 21+ 필수)
+    AUTO;       // JDK 21+ 이면 VIRTUAL, 아니면 PLATFORM
+
+    public ThreadMode resolve() {
+        if (this == AUTO) {
+            return VirtualThreads.isSupported() ? VIRTUAL : PLATFORM;
+        }
+        return this;
+    }
+}
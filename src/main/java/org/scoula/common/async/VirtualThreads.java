@@ -0,0 +1,69 @@
+package org.scoula.common.async;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * JDK 21+ 가상 스레드 지원 (빌드 타깃은 Java 17 이므로 리플렉션으로 런타임에 선택)
+ */
+@Log4j2
+public final class VirtualThreads {
+
+    private static final boolean SUPPORTED = detect();
+
+    private VirtualThreads() {
+    }
+
+    private static boolean detect() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 현재 JVM 이 가상 스레드를 지원하는지 여부 (JDK 21+)
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * 이름이 prefix0, prefix1 ... 인 가상 스레드를 만드는 ThreadFactory
+     * = Thread.ofVirtual().name(prefix, 0).factory()
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21+, current: "
+                    + Runtime.version());
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 ExecutorService
+     * = Executors.newThreadPerTaskExecutor(threadFactory(prefix))
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = threadFactory(prefix);
+        try {
+            Method method = java.util.concurrent.Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+}
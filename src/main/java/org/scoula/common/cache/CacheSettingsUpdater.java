@@ -0,0 +1,54 @@
+package org.scoula.common.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.config.ConfigChangeListener;
+import org.scoula.common.config.ConfigSnapshot;
+import org.scoula.security.util.JwtClaimsCache;
+
+import java.util.Set;
+
+/**
+ * 캐시 크기 / TTL 설정 변경을 실행 중인 캐시에 반영
+ * - mybatis.cache.{매퍼 namespace}.maximum-size / .expire-after-write-seconds : MyBatis 2차 캐시
+ * - jwt.cache.maximum-size / jwt.cache.max-ttl-seconds : JwtClaimsCache
+ * 키를 지우면 현재 값 유지 (매퍼 XML 의 값으로 되돌리려면 재시작)
+ */
+@Log4j2
+public class CacheSettingsUpdater implements ConfigChangeListener {
+
+    private static final String MYBATIS_PREFIX = "mybatis.cache.";
+    private static final String MAXIMUM_SIZE = ".maximum-size";
+    private static final String EXPIRE_AFTER_WRITE = ".expire-after-write-seconds";
+
+    private final JwtClaimsCache jwtClaimsCache;
+
+    public CacheSettingsUpdater(JwtClaimsCache jwtClaimsCache) {
+        this.jwtClaimsCache = jwtClaimsCache;
+    }
+
+    @Override
+    public void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+        boolean mybatisChanged = false;
+        for (String key : changedKeys) {
+            mybatisChanged |= key.startsWith(MYBATIS_PREFIX)
+                    && (key.endsWith(MAXIMUM_SIZE) || key.endsWith(EXPIRE_AFTER_WRITE));
+        }
+        if (mybatisChanged) {
+            for (CaffeineMybatisCache cache : MybatisCacheRegistry.caches()) {
+                String prefix = MYBATIS_PREFIX + cache.getId();
+                long maximumSize = current.getLong(prefix + MAXIMUM_SIZE, cache.getMaximumSize());
+                long expireSeconds = current.getLong(prefix + EXPIRE_AFTER_WRITE, cache.getExpireAfterWriteSeconds());
+                if (maximumSize != cache.getMaximumSize() || expireSeconds != cache.getExpireAfterWriteSeconds()) {
+                    cache.resize(maximumSize, expireSeconds);
+                }
+            }
+        }
+
+        if (changedKeys.contains("jwt.cache.maximum-size") || changedKeys.contains("jwt.cache.max-ttl-seconds")) {
+            long maximumSize = current.getLong("jwt.cache.maximum-size", 10_000L);
+            long maxTtlSeconds = current.getLong("jwt.cache.max-ttl-seconds", 600L);
+            jwtClaimsCache.resize(maximumSize, maxTtlSeconds);
+            log.info("JWT Claims 캐시 설정 변경: maximumSize={}, maxTtl={}s", maximumSize, maxTtlSeconds);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.scoula.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine 기반 MyBatis 2차 캐시
+ * - 크기 제한(W-TinyLFU 퇴출) + 쓰기 후 TTL
+ * - mybatis-config.xml 의 typeAlias(caffeineCache)로 등록하고, 매퍼 XML 에서 다음과 같이 사용
+ * <pre>
+ *   &lt;cache type="caffeineCache"&gt;
+ *       &lt;property name="maximumSize" value="10000"/&gt;
+ *       &lt;property name="expireAfterWriteSeconds" value="300"/&gt;
+ *   &lt;/cache&gt;
+ * </pre>
+ * - 같은 namespace 의 insert/update/delete 는 MyBatis 가 캐시 전체를 비우고(flushCache),
+ *   특정 파라미터만 비우려면 {@link MybatisCacheRegistry#evict(org.apache.ibatis.session.Configuration, String, Object)} 사용
+ * - 객체를 직렬화하지 않고 참조 그대로 보관하므로 조회 결과는 읽기 전용으로 사용해야 한다.
+ */
+@Log4j2
+public class CaffeineMybatisCache implements Cache, InitializingObject {
+
+    private final String id;
+
+    // <property> 로 주입되는 설정값
+    private long maximumSize = 10_000L;
+    private long expireAfterWriteSeconds = 300L;
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+
+    // 캐시 미스 시각 기록 -> putObject 시점에 DB 로드 지연시간 계산
+    private com.github.benmanes.caffeine.cache.Cache<Object, Long> pendingLoads;
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Math::max, 0L);
+
+    public CaffeineMybatisCache(String id) {
+        this.id = id;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public void setExpireAfterWriteSeconds(long expireAfterWriteSeconds) {
+        this.expireAfterWriteSeconds = expireAfterWriteSeconds;
+    }
+
+    /**
+     * MyBatis 가 &lt;property&gt; 설정을 모두 적용한 뒤 호출
+     */
+    @Override
+    public void initialize() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        this.pendingLoads = Caffeine.newBuilder()
+                .maximumSize(Math.max(1_000L, maximumSize / 10))
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .build();
+        MybatisCacheRegistry.register(this);
+        log.info("MyBatis 2차 캐시 초기화: id={}, maximumSize={}, expireAfterWrite={}s",
+                id, maximumSize, expireAfterWriteSeconds);
+    }
+
+    /**
+     * 실행 중 최대 크기 / 만료 시간 변경 (캐시 내용은 유지, 만료 시간은 기존 엔트리에도 적용)
+     */
+    public void resize(long maximumSize, long expireAfterWriteSeconds) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteSeconds = expireAfterWriteSeconds;
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+        cache.policy().expireAfterWrite()
+                .ifPresent(expiration -> expiration.setExpiresAfter(expireAfterWriteSeconds, TimeUnit.SECONDS));
+        log.info("MyBatis 2차 캐시 설정 변경: id={}, maximumSize={}, expireAfterWrite={}s",
+                id, maximumSize, expireAfterWriteSeconds);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getExpireAfterWriteSeconds() {
+        return expireAfterWriteSeconds;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        Long missedAt = pendingLoads.asMap().remove(key);
+        if (missedAt != null) {
+            long elapsed = System.nanoTime() - missedAt;
+            loadCount.increment();
+            totalLoadNanos.add(elapsed);
+            maxLoadNanos.accumulate(elapsed);
+        }
+        if (value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Object value = cache.getIfPresent(key);
+        if (value == null) {
+            pendingLoads.put(key, System.nanoTime());
+        }
+        return value;
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        return cache.asMap().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public int getSize() {
+        return (int) cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long loadCount() {
+        return loadCount.sum();
+    }
+
+    public double averageLoadMillis() {
+        long count = loadCount.sum();
+        return count == 0 ? 0.0 : totalLoadNanos.sum() / (double) count / 1_000_000.0;
+    }
+
+    public double maxLoadMillis() {
+        return maxLoadNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Cache && id.equals(((Cache) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -0,0 +1,104 @@
+package org.scoula.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.SimpleExecutor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MyBatis 가 생성한 {@link CaffeineMybatisCache} 인스턴스 목록
+ * - 캐시는 MyBatis 가 직접 생성하므로 스프링 빈이 아닌 정적 레지스트리로 관리
+ * - 회원/권한 변경 시 대상 엔트리 제거, 관리자 엔드포인트용 통계 제공
+ */
+@Log4j2
+public final class MybatisCacheRegistry {
+
+    private static final Map<String, CaffeineMybatisCache> CACHES = new ConcurrentHashMap<>();
+
+    private MybatisCacheRegistry() {
+    }
+
+    static void register(CaffeineMybatisCache cache) {
+        CACHES.put(cache.getId(), cache);
+    }
+
+    /**
+     * 특정 statement + 파라미터로 캐시된 결과만 제거
+     * - MyBatis 가 조회 시 만드는 것과 같은 CacheKey(statement, 기본 RowBounds, SQL, 파라미터 값, 환경 ID)를
+     *   Executor.createCacheKey 로 만들어 해당 엔트리 하나만 제거 (전체 키를 훑지 않음)
+     * - RowBounds 를 지정해 조회한 결과는 대상이 아님 (필요하면 clear 로 namespace 전체 비우기)
+     * 예) 회원 정보 변경 후:
+     *     evict(sqlSessionFactory.getConfiguration(),
+     *           "org.scoula.security.account.mapper.UserDetailsMapper.get", username)
+     *
+     * @param statementId 매핑된 statement 전체 ID
+     * @param parameter   매퍼 메서드가 MyBatis 에 넘기는 파라미터 (인자가 하나면 그 값, @Param / 여러 인자면 이름별 Map)
+     * @return 제거된 엔트리 수 (0 또는 1)
+     */
+    public static int evict(Configuration configuration, String statementId, Object parameter) {
+        if (!configuration.hasStatement(statementId, false)) {
+            return 0;
+        }
+        MappedStatement ms = configuration.getMappedStatement(statementId, false);
+        CaffeineMybatisCache cache = ms.getCache() != null ? CACHES.get(ms.getCache().getId()) : null;
+        if (cache == null) {
+            return 0;
+        }
+        // createCacheKey 는 트랜잭션을 쓰지 않으므로 연결 없이 키만 계산
+        CacheKey key = new SimpleExecutor(configuration, null)
+                .createCacheKey(ms, parameter, RowBounds.DEFAULT, ms.getBoundSql(parameter));
+        int evicted = cache.removeObject(key) != null ? 1 : 0;
+        log.debug("캐시 엔트리 제거: cache={}, statement={}, evicted={}", cache.getId(), statementId, evicted);
+        return evicted;
+    }
+
+    /**
+     * namespace 캐시 전체 비우기
+     */
+    public static void clear(String cacheId) {
+        CaffeineMybatisCache cache = CACHES.get(cacheId);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public static CaffeineMybatisCache get(String cacheId) {
+        return CACHES.get(cacheId);
+    }
+
+    public static Iterable<CaffeineMybatisCache> caches() {
+        return CACHES.values();
+    }
+
+    public static void clearAll() {
+        CACHES.values().forEach(CaffeineMybatisCache::clear);
+    }
+
+    /**
+     * 캐시별 적중률 / 로드 지연시간 통계
+     */
+    public static Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        CACHES.forEach((id, cache) -> {
+            CacheStats stats = cache.stats();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("size", cache.getSize());
+            values.put("hitCount", stats.hitCount());
+            values.put("missCount", stats.missCount());
+            values.put("hitRatio", stats.hitRate());
+            values.put("evictionCount", stats.evictionCount());
+            values.put("loadCount", cache.loadCount());
+            values.put("averageLoadMillis", cache.averageLoadMillis());
+            values.put("maxLoadMillis", cache.maxLoadMillis());
+            result.put(id, values);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package org.scoula.common.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.async.MdcTaskDecorator;
+import org.scoula.common.async.ThreadMode;
+import org.scoula.common.async.VirtualThreads;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 비동기 작업 실행기 설정
+ * - @Async 메서드와 MVC 비동기 요청(Callable / DeferredResult / StreamingResponseBody)이 같은 실행기를 사용
+ * - thread.mode=PLATFORM | VIRTUAL | AUTO (기본 PLATFORM)
+ *   VIRTUAL: JDK 21+ 가상 스레드, JDBC 대기 중에도 캐리어 스레드를 점유하지 않음
+ */
+@Configuration
+@EnableAsync
+@Log4j2
+public class AsyncConfig implements AsyncConfigurer, DisposableBean {
+
+    @Value("${thread.mode:PLATFORM}")
+    ThreadMode threadMode;
+
+    // platform 모드 스레드 풀 크기
+    @Value("${thread.pool.core-size:16}")
+    int corePoolSize;
+    @Value("${thread.pool.max-size:64}")
+    int maxPoolSize;
+    @Value("${thread.pool.queue-capacity:1000}")
+    int queueCapacity;
+
+    // virtual 모드 실행기 (컨텍스트 종료 시 shutdown)
+    private ExecutorService virtualExecutor;
+
+    @Bean
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        ThreadMode mode = threadMode.resolve();
+        log.info("비동기 실행 모드: {} (설정값: {}, JDK {})", mode, threadMode, Runtime.version().feature());
+
+        if (mode == ThreadMode.VIRTUAL) {
+            virtualExecutor = VirtualThreads.newThreadPerTaskExecutor("finmate-vt-");
+            TaskExecutorAdapter adapter = new TaskExecutorAdapter(virtualExecutor);
+            adapter.setTaskDecorator(new MdcTaskDecorator());
+            return adapter;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("finmate-async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setTaskDecorator(new MdcTaskDecorator());   // 요청 로그 컨텍스트(MDC) 전달
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public AsyncTaskExecutor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new SimpleAsyncUncaughtExceptionHandler();
+    }
+
+    @Override
+    public void destroy() {
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
+    }
+}
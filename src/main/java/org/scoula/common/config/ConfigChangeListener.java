@@ -0,0 +1,14 @@
+package org.scoula.common.config;
+
+import java.util.Set;
+
+/**
+ * 설정 파일 변경 통지 (ConfigWatcher 가 새 스냅샷으로 교체한 직후 호출)
+ * - 루트 컨텍스트의 이 타입 빈은 자동 등록, 그 외에는 ConfigWatcher.addListener 로 등록
+ * - changedKeys 로 관심 있는 키가 바뀌었을 때만 반영
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys);
+}
@@ -0,0 +1,125 @@
+package org.scoula.common.config;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * ${config.location} 의 application.properties + application-{active.profile}.properties
+ * - 시작 시 한 번 읽은 값(load)을 루트 / 서블릿 컨텍스트의 PropertySourcesPlaceholderConfigurer 가 공유
+ * - 빈 생성 전 단계(BeanFactoryPostProcessor, Condition)에서도 사용할 수 있도록 정적 접근 제공
+ * - 실행 중 변경은 reload() 가 파일을 다시 읽어 current() 스냅샷을 통째로 교체 (ConfigWatcher 가 호출)
+ *   @Value 로 주입된 값은 바뀌지 않으므로, 실행 중 반영이 필요한 곳은 ConfigChangeListener 로 등록
+ */
+@Log4j2
+public final class ConfigProperties {
+
+    private static volatile ConfigSnapshot current;
+    private static volatile Properties bootProperties;
+
+    private ConfigProperties() {
+    }
+
+    /**
+     * 시작 시점 설정 (placeholder 치환용, 공유 객체이므로 수정하지 않음)
+     */
+    public static Properties load() throws IOException {
+        Properties loaded = bootProperties;
+        if (loaded == null) {
+            synchronized (ConfigProperties.class) {
+                loaded = bootProperties;
+                if (loaded == null) {
+                    current = read(1);
+                    loaded = current.toProperties();
+                    bootProperties = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 현재 설정 스냅샷 (락 없음)
+     */
+    public static ConfigSnapshot current() {
+        ConfigSnapshot snapshot = current;
+        if (snapshot == null) {
+            try {
+                load();
+            } catch (IOException e) {
+                throw new IllegalStateException("설정 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    public static String get(String key, String defaultValue) {
+        return current().get(key, defaultValue);
+    }
+
+    public static List<String> activeProfiles() {
+        return current().getActiveProfiles();
+    }
+
+    /**
+     * 설정 파일을 다시 읽어 스냅샷 교체
+     * - 모든 파일을 읽은 뒤에 교체하므로 읽는 쪽은 이전 스냅샷 또는 새 스냅샷 중 하나만 봄
+     * - 읽기에 실패하면 예외를 던지고 기존 스냅샷 유지
+     */
+    public static synchronized ConfigSnapshot reload() throws IOException {
+        ConfigSnapshot previous = current();
+        ConfigSnapshot next = read(previous.getVersion() + 1);
+        current = next;
+        return next;
+    }
+
+    // 테스트용: 다음 load() 에서 다시 읽음
+    static synchronized void reset() {
+        current = null;
+        bootProperties = null;
+    }
+
+    private static ConfigSnapshot read(long version) throws IOException {
+        String configLocation = System.getProperty("config.location");
+        if (configLocation == null) {
+            throw new IllegalStateException("System property 'config.location' must be set");
+        }
+        log.info("config.location: {} (user.dir: {}, version: {})",
+                configLocation, System.getProperty("user.dir"), version);
+
+        Properties merged = new Properties();
+        File baseFile = new File(configLocation, "application.properties");
+        if (baseFile.exists()) {
+            loadInto(merged, baseFile);
+        } else {
+            log.warn("Base config not found: {}", baseFile);
+        }
+
+        // application.properties 의 active.profile 순서대로 덮어씀
+        List<String> profiles = new ArrayList<>();
+        for (String profile : merged.getProperty("active.profile", "local").split("\\s*,\\s*")) {
+            File profileFile = new File(configLocation, "application-" + profile + ".properties");
+            profiles.add(profile);
+            if (profileFile.exists()) {
+                log.info("Load profile config: {}", profileFile);
+                loadInto(merged, profileFile);
+            } else {
+                log.warn("Profile config not found: {}", profileFile);
+            }
+        }
+        return new ConfigSnapshot(version, merged, profiles);
+    }
+
+    private static void loadInto(Properties target, File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            target.load(in);
+        }
+    }
+}
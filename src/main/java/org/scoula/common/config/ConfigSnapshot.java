@@ -0,0 +1,104 @@
+package org.scoula.common.config;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 특정 시점의 설정 값 (불변)
+ * - 설정 파일이 바뀌면 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 락 없이 volatile 읽기 한 번으로 사용
+ * - 요청 경로에서 값을 읽을 때는 ConfigProperties.current() 로 받은 스냅샷 하나에서 여러 값을 읽어야
+ *   중간에 교체되더라도 서로 어긋난 값(이전 rate + 새 burst 등)을 보지 않음
+ */
+public final class ConfigSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Map<String, String> values;
+    private final List<String> activeProfiles;
+
+    ConfigSnapshot(long version, Properties properties, List<String> activeProfiles) {
+        Map<String, String> copy = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            copy.put(name, properties.getProperty(name));
+        }
+        this.version = version;
+        this.loadedAt = Instant.now();
+        this.values = Collections.unmodifiableMap(copy);
+        this.activeProfiles = List.copyOf(activeProfiles);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /**
+     * previous 와 비교해 추가 / 변경 / 삭제된 키
+     */
+    public Set<String> changedKeys(ConfigSnapshot previous) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!entry.getValue().equals(previous.values.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : previous.values.keySet()) {
+            if (!values.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return Collections.unmodifiableSet(changed);
+    }
+
+    Properties toProperties() {
+        Properties properties = new Properties();
+        properties.putAll(values);
+        return properties;
+    }
+}
@@ -0,0 +1,133 @@
+package org.scoula.common.config;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * config.location 디렉토리를 WatchService 로 감시해 application*.properties 변경 시 다시 읽음
+ * - 에디터 저장 / 배포 스크립트는 파일을 여러 번 나눠 쓰므로 마지막 이벤트 후 debounce 동안 조용해지면 한 번만 reload
+ * - 파일을 모두 읽은 뒤 스냅샷을 교체하고, 실제로 값이 바뀐 키가 있을 때만 리스너 호출
+ * - 리스너 하나가 실패해도 나머지 리스너와 감시는 계속
+ */
+@Log4j2
+public class ConfigWatcher implements Closeable {
+
+    private static final Pattern CONFIG_FILE = Pattern.compile("application(-[\\w.-]+)?\\.properties");
+
+    private final Path directory;
+    private final long debounceMillis;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private WatchService watchService;
+    private Thread thread;
+
+    public ConfigWatcher(Path directory, long debounceMillis) {
+        this.directory = directory;
+        this.debounceMillis = debounceMillis;
+    }
+
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        thread = new Thread(this::watch, "config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("설정 파일 감시 시작: {} (debounce {}ms, 리스너 {}개)", directory, debounceMillis, listeners.size());
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = drain(key);
+                // debounce: 조용해질 때까지 이어지는 이벤트를 모음
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(key);
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 종료
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (context instanceof Path && CONFIG_FILE.matcher(context.toString()).matches())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    /**
+     * 설정 파일을 다시 읽고 변경된 키가 있으면 리스너에 통지 (관리자 엔드포인트에서 수동 호출 가능)
+     *
+     * @return 변경된 키 (읽기 실패 시 빈 집합, 기존 설정 유지)
+     */
+    public synchronized Set<String> reload() {
+        ConfigSnapshot previous = ConfigProperties.current();
+        ConfigSnapshot current;
+        try {
+            current = ConfigProperties.reload();
+        } catch (IOException | RuntimeException e) {
+            log.warn("설정 파일 다시 읽기 실패, 기존 설정 유지: {}", e.getMessage());
+            return Set.of();
+        }
+
+        Set<String> changedKeys = current.changedKeys(previous);
+        if (changedKeys.isEmpty()) {
+            return changedKeys;
+        }
+        log.info("설정 변경 반영 (version {} -> {}): {}", previous.getVersion(), current.getVersion(), changedKeys);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onConfigChange(previous, current, changedKeys);
+            } catch (RuntimeException e) {
+                log.warn("설정 변경 리스너 실패: {} - {}", listener.getClass().getName(), e.getMessage(), e);
+            }
+        }
+        return changedKeys;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.scoula.common.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * logging.level.{로거 이름}=LEVEL 설정 변경을 log4j2 에 반영
+ * - 예) logging.level.org.scoula=DEBUG, logging.level.jdbc.sqltiming=INFO, logging.level.root=WARN
+ * - 키를 지우면 처음 변경하기 전의 레벨(log4j2.xml 값)로 되돌림
+ */
+@Log4j2
+public class LogLevelUpdater implements ConfigChangeListener {
+
+    private static final String PREFIX = "logging.level.";
+    private static final String ROOT = "root";
+
+    // 처음 변경하기 전 레벨 (되돌리기용)
+    private final Map<String, Level> originalLevels = new ConcurrentHashMap<>();
+
+    @Override
+    public void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+        for (String key : changedKeys) {
+            if (!key.startsWith(PREFIX)) {
+                continue;
+            }
+            String loggerName = key.substring(PREFIX.length());
+            String value = current.get(key);
+            Level level = value != null ? Level.toLevel(value.trim(), null) : originalLevels.remove(loggerName);
+            if (level == null) {
+                if (value != null) {
+                    log.warn("알 수 없는 로그 레벨 무시: {}={}", key, value);
+                }
+                continue;
+            }
+            if (value != null) {
+                originalLevels.computeIfAbsent(loggerName, this::configuredLevel);
+            }
+            if (ROOT.equals(loggerName)) {
+                Configurator.setRootLevel(level);
+            } else {
+                Configurator.setLevel(loggerName, level);
+            }
+            log.info("로그 레벨 변경: {} -> {}", loggerName, level);
+        }
+    }
+
+    private Level configuredLevel(String loggerName) {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        String name = ROOT.equals(loggerName) ? LogManager.ROOT_LOGGER_NAME : loggerName;
+        return context.getConfiguration().getLoggerConfig(name).getLevel();
+    }
+}
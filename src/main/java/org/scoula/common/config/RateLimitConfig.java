@@ -0,0 +1,86 @@
+package org.scoula.common.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.filter.MdcLoggingFilter;
+import org.scoula.common.ratelimit.GcraRateLimiter;
+import org.scoula.common.ratelimit.RateLimitFilter;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.common.ratelimit.RouteBulkheads;
+import org.scoula.security.util.JwtClaimsCache;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 수 / 동시 처리 수 제한 설정 (RateLimitFilter 는 WebConfig 에서 DelegatingFilterProxy 로 연결)
+ * - ratelimit.requests-per-second / burst : 사용자(JWT subject) 또는 IP 별 허용량
+ * - ratelimit.bulkheads : 경로별 최대 동시 처리 수 (예: /api/files/**=8,/api/**=40)
+ * - ratelimit.exclude   : 제한하지 않을 경로 (정적 리소스, Swagger UI)
+ *                         관리자 API / 지표(/metrics)도 제한 대상 - 무차별 대입이나 과도한 스크랩이 서비스에 영향을 주지 않도록
+ * requests-per-second / burst 는 설정 파일 수정 시 재시작 없이 반영
+ * 요청 주체(JWT subject) 결정은 requestKeyResolver 빈 하나를 로그(MDC) 필터, 요청 제한, 응답 캐시가 공유
+ */
+@Configuration
+@Log4j2
+@ComponentScan(basePackageClasses = JwtClaimsCache.class)
+public class RateLimitConfig {
+
+    @Value("${ratelimit.requests-per-second:20}")
+    double requestsPerSecond;
+    @Value("${ratelimit.burst:40}")
+    int burst;
+    @Value("${ratelimit.maximum-keys:100000}")
+    long maximumKeys;
+    @Value("${ratelimit.bulkheads:/api/files/**=8,/api/**=40}")
+    String bulkheads;
+    @Value("${ratelimit.exclude:/resources/**,/webjars/**,/swagger-resources/**,/swagger-ui.html}")
+    String exclude;
+
+    @Bean
+    public GcraRateLimiter gcraRateLimiter() {
+        return new GcraRateLimiter(requestsPerSecond, burst, maximumKeys);
+    }
+
+    // ratelimit.requests-per-second / burst 변경을 실행 중인 제한기에 반영 (ConfigWatcher)
+    @Bean
+    public ConfigChangeListener rateLimitConfigListener(GcraRateLimiter gcraRateLimiter) {
+        return (previous, current, changedKeys) -> {
+            if (changedKeys.contains("ratelimit.requests-per-second") || changedKeys.contains("ratelimit.burst")) {
+                gcraRateLimiter.update(current.getDouble("ratelimit.requests-per-second", requestsPerSecond),
+                        current.getInt("ratelimit.burst", burst));
+                log.info("요청 수 제한 변경: {}/s, burst {}", gcraRateLimiter.getRatePerSecond(),
+                        gcraRateLimiter.getBurst());
+            }
+        };
+    }
+
+    @Bean
+    public RequestKeyResolver requestKeyResolver(JwtKeyRing jwtKeyRing, JwtClaimsCache jwtClaimsCache) {
+        return new RequestKeyResolver(jwtKeyRing, jwtClaimsCache);
+    }
+
+    // 요청 ID / 사용자 로그 컨텍스트 (WebConfig 에서 DelegatingFilterProxy 로 연결, rateLimitFilter 보다 먼저)
+    @Bean
+    public MdcLoggingFilter mdcLoggingFilter(RequestKeyResolver requestKeyResolver) {
+        return new MdcLoggingFilter(requestKeyResolver);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(GcraRateLimiter gcraRateLimiter, RequestKeyResolver requestKeyResolver) {
+        List<String> excludePatterns = Arrays.stream(exclude.split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .collect(Collectors.toList());
+        return new RateLimitFilter(
+                gcraRateLimiter,
+                new RouteBulkheads(bulkheads),
+                requestKeyResolver,
+                excludePatterns);
+    }
+}
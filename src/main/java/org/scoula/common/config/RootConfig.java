@@ -1,31 +1,53 @@
 package org.scoula.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Properties;
 import javax.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.scoula.common.cache.CacheSettingsUpdater;
+import org.scoula.common.datasource.HikariPoolProperties;
+import org.scoula.common.datasource.HikariPoolResizer;
+import org.scoula.common.datasource.PoolWarmup;
+import org.scoula.common.datasource.Replica;
+import org.scoula.common.datasource.ReplicaRouter;
+import org.scoula.common.datasource.ReplicationRoutingDataSource;
+import org.scoula.common.json.JsonMappers;
+import org.scoula.common.metrics.HikariMetricsTrackerFactory;
+import org.scoula.common.mybatis.MybatisBatchSupport;
+import org.scoula.common.mybatis.SqlMetricsInterceptor;
+import org.scoula.common.startup.LazyInitBeanFactoryPostProcessor;
+import org.scoula.common.startup.StartupTimeline;
+import org.scoula.security.util.JwtClaimsCache;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 
 @Configuration
+@EnableTransactionManagement
+@Log4j2
 //@PropertySource("file:${config.location}/application.properties")
 //@MapperScan(basePackages = {"org.scoula.mapper"}) // Mapper 인터페이스 스캔 설정
 public class RootConfig {
@@ -38,77 +60,234 @@ public class RootConfig {
   String username;
   @Value("${jdbc.password}")
   String password;
+
+  // 읽기 전용 복제본 설정 (jdbc.replica.urls 가 비어 있으면 primary 만 사용)
+  @Value("${jdbc.replica.urls:}")
+  String replicaUrls;                   // 콤마로 구분한 복제본 JDBC URL 목록
+  @Value("${jdbc.replica.username:${jdbc.username}}")
+  String replicaUsername;
+  @Value("${jdbc.replica.password:${jdbc.password}}")
+  String replicaPassword;
+  @Value("${jdbc.replica.strategy:ROUND_ROBIN}")
+  ReplicaRouter.Strategy replicaStrategy;  // ROUND_ROBIN | LEAST_ACTIVE
+  @Value("${jdbc.replica.lag-query:SHOW REPLICA STATUS}")
+  String replicaLagQuery;               // 복제 지연(초) 조회 쿼리
+  @Value("${jdbc.replica.max-lag-seconds:5}")
+  long replicaMaxLagSeconds;            // 허용 최대 지연, 초과 시 primary 로 대체
+  @Value("${jdbc.replica.lag-check-interval-seconds:5}")
+  long replicaLagCheckIntervalSeconds;
+
+  // 이 시간(ms)을 넘는 SQL 은 느린 SQL 로 기록
+  @Value("${mybatis.slow-query-ms:500}")
+  long slowQueryMillis;
+
+  // BATCH 세션에서 executeBatch 를 호출할 행 수
+  @Value("${mybatis.batch.flush-size:1000}")
+  int batchFlushSize;
+
+  // 설정 파일 변경 감시 (jdbc.pool.*, logging.level.*, 캐시 크기/TTL, ratelimit 을 재시작 없이 반영)
+  @Value("${config.watch.enabled:true}")
+  boolean configWatchEnabled;
+  @Value("${config.watch.debounce-ms:500}")
+  long configWatchDebounceMillis;
   @Autowired
   ApplicationContext applicationContext;
   @PostConstruct
-  public void printProperties() {
-    System.out.println("[TEST] jdbc.driver = " + driver);
-    System.out.println("[TEST] jdbc.url = " + url);
-    System.out.println("[TEST] jdbc.username = " + username);
-    System.out.println("[TEST] jdbc.password = " + password);
+  public void logProperties() {
+    log.info("jdbc.driver = {}, jdbc.url = {}, jdbc.username = {}", driver, url, username);
   }
 
+  /**
+   * 설정 파일은 ConfigProperties 가 한 번만 읽고, 서블릿 컨텍스트(ServletConfig.servletPropertyConfig)와 공유
+   */
   @Bean
   public static PropertySourcesPlaceholderConfigurer propertyConfig() throws IOException {
     PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
+    configurer.setProperties(ConfigProperties.load());
+    configurer.setIgnoreUnresolvablePlaceholders(true);
+    return configurer;
+  }
 
-    String configLocation = System.getProperty("config.location");
-    if (configLocation == null) {
-      throw new IllegalStateException("System property 'config.location' must be set");
+  /**
+   * 빠른 시작 모드 (startup.lazy-init=true)
+   * - 컨트롤러/서비스/매퍼 등은 처음 사용할 때 생성
+   * - startup.lazy-init.exclude 에 적은 빈은 시작 시 생성 (기본: 커넥션 풀, SqlSessionFactory, 트랜잭션 매니저, 설정 감시, 상품 카탈로그, 회원 집계)
+   * 빈 정의 단계에서 적용해야 하므로 @Value 대신 ConfigProperties 에서 직접 읽음
+   */
+  @Bean
+  public static LazyInitBeanFactoryPostProcessor rootLazyInit() {
+    return lazyInitBeanFactoryPostProcessor();
+  }
+
+  static LazyInitBeanFactoryPostProcessor lazyInitBeanFactoryPostProcessor() {
+    boolean enabled = Boolean.parseBoolean(ConfigProperties.get("startup.lazy-init", "false"));
+    String excludes = ConfigProperties.get("startup.lazy-init.exclude",
+            "primaryDataSource,replicaRouter,dataSource,sqlSessionFactory,transactionManager,poolWarmup,configWatcher,"
+                    + "productCatalog,portfolioAggregator");
+    return new LazyInitBeanFactoryPostProcessor(enabled, Arrays.asList(excludes.trim().split("\\s*,\\s*")));
+  }
+
+  /**
+   * 빈별 생성 시간 기록 (refresh 완료 시 로그, /admin/startup)
+   */
+  @Bean
+  public static StartupTimeline rootStartupTimeline() {
+    return new StartupTimeline();
+  }
+
+  /**
+   * 공용 ObjectMapper (MVC 메시지 컨버터, JWT claims, 내보내기가 같은 인스턴스 사용)
+   */
+  @Bean
+  public ObjectMapper objectMapper() {
+    return JsonMappers.create();
+  }
+
+  /**
+   * 커넥션 풀 설정값 (jdbc.pool.*)
+   */
+  @Bean
+  public HikariPoolProperties hikariPoolProperties() {
+    return new HikariPoolProperties();
+  }
+
+  /**
+   * 커넥션 풀 지표 수집기 (active/idle/pending, 획득/사용 시간 히스토그램)
+   */
+  @Bean
+  public HikariMetricsTrackerFactory hikariMetricsTrackerFactory() {
+    return new HikariMetricsTrackerFactory();
+  }
+
+  /**
+   * 쓰기용 primary 커넥션 풀
+   */
+  @Bean(destroyMethod = "close")
+  public HikariDataSource primaryDataSource(HikariPoolProperties poolProperties,
+                                            HikariMetricsTrackerFactory metricsTrackerFactory) {
+    return createPool("finmate-primary", url, username, password, false, poolProperties, metricsTrackerFactory);
+  }
+
+  /**
+   * 읽기 전용 복제본 풀 + 복제본 선택/지연 감시
+   */
+  @Bean(destroyMethod = "close")
+  public ReplicaRouter replicaRouter(HikariPoolProperties poolProperties,
+                                     HikariMetricsTrackerFactory metricsTrackerFactory) {
+    List<Replica> replicas = new ArrayList<>();
+    if (replicaUrls != null && !replicaUrls.isBlank()) {
+      String[] urls = replicaUrls.trim().split("\\s*,\\s*");
+      for (int i = 0; i < urls.length; i++) {
+        String name = "finmate-replica-" + (i + 1);
+        replicas.add(new Replica(name, createPool(name, urls[i], replicaUsername, replicaPassword, true,
+                poolProperties, metricsTrackerFactory)));
+      }
     }
 
-    System.out.println("[DEBUG] config.location: " + configLocation);
-    System.out.println("[DEBUG] user.dir: " + System.getProperty("user.dir"));
+    ReplicaRouter router = new ReplicaRouter(replicas, replicaStrategy, replicaLagQuery, replicaMaxLagSeconds);
+    if (!router.isEmpty()) {
+      router.start(replicaLagCheckIntervalSeconds);
+    }
+    return router;
+  }
 
-    List<Resource> resources = new ArrayList<>();
-    File baseFile = new File(configLocation + "/application.properties");
-    if (baseFile.exists()) {
-      resources.add(new FileSystemResource(baseFile));
+  /**
+   * 애플리케이션이 사용하는 DataSource
+   * - 복제본이 없으면 primary 풀 그대로
+   * - 복제본이 있으면 readOnly 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+   */
+  @Bean(destroyMethod = "")
+  @Primary
+  public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter) {
+    if (replicaRouter.isEmpty()) {
+      return primaryDataSource;
     }
+    return ReplicationRoutingDataSource.lazy(primaryDataSource, replicaRouter);
+  }
 
-    // application.properties에서 active.profile을 직접 읽어옴
-    Properties baseProps = new Properties();
-    baseProps.load(new FileInputStream(baseFile));
-    String activeProfiles = baseProps.getProperty("active.profile", "local");
-
-    for (String profile : activeProfiles.split("\\s*,\\s*")) {
-      String profilePath = configLocation + "/application-" + profile + ".properties";
-      File profileFile = new File(profilePath);
-      if (profileFile.exists()) {
-        System.out.println("[INFO] Load profile config: " + profilePath);
-        resources.add(new FileSystemResource(profileFile));
-      } else {
-        System.err.println("[WARN] Profile config not found: " + profilePath);
-      }
+  /**
+   * 시작 후 커넥션 풀 비동기 예열 (풀 생성은 DB 연결을 기다리지 않음)
+   */
+  @Bean
+  public PoolWarmup poolWarmup(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter,
+                               AsyncTaskExecutor applicationTaskExecutor) {
+    return new PoolWarmup(pools(primaryDataSource, replicaRouter), applicationTaskExecutor);
+  }
+
+  /**
+   * 설정 파일 감시 - 변경 시 ConfigProperties 스냅샷 교체 후 아래 리스너(ConfigChangeListener 빈)에 통지
+   */
+  @Bean(destroyMethod = "close")
+  public ConfigWatcher configWatcher(ObjectProvider<ConfigChangeListener> listeners) throws IOException {
+    ConfigWatcher watcher = new ConfigWatcher(Paths.get(System.getProperty("config.location")),
+            configWatchDebounceMillis);
+    listeners.orderedStream().forEach(watcher::addListener);
+    if (configWatchEnabled) {
+      watcher.start();
     }
+    return watcher;
+  }
 
-    // 최종 설정
-    configurer.setLocations(resources.toArray(new Resource[0]));
-    configurer.setIgnoreUnresolvablePlaceholders(true);
+  // jdbc.pool.* -> 실행 중인 풀 크기 / 타임아웃
+  @Bean
+  public HikariPoolResizer hikariPoolResizer(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter) {
+    return new HikariPoolResizer(pools(primaryDataSource, replicaRouter));
+  }
 
-    return configurer;
+  // logging.level.* -> log4j2 로거 레벨
+  @Bean
+  public LogLevelUpdater logLevelUpdater() {
+    return new LogLevelUpdater();
   }
 
+  // mybatis.cache.*, jwt.cache.* -> 캐시 크기 / TTL
   @Bean
-  public DataSource dataSource() {
+  public CacheSettingsUpdater cacheSettingsUpdater(JwtClaimsCache jwtClaimsCache) {
+    return new CacheSettingsUpdater(jwtClaimsCache);
+  }
+
+  private static List<HikariDataSource> pools(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter) {
+    List<HikariDataSource> pools = new ArrayList<>();
+    pools.add(primaryDataSource);
+    for (Replica replica : replicaRouter.getReplicas()) {
+      if (replica.getDataSource() instanceof HikariDataSource) {
+        pools.add((HikariDataSource) replica.getDataSource());
+      }
+    }
+    return pools;
+  }
+
+  private HikariDataSource createPool(String poolName, String jdbcUrl, String user, String pass, boolean readOnly,
+                                      HikariPoolProperties poolProperties,
+                                      HikariMetricsTrackerFactory metricsTrackerFactory) {
     // HikariCP 설정 객체 생성
     HikariConfig config = new HikariConfig();
 
     // 데이터베이스 연결 정보 설정
     config.setDriverClassName(driver);          // JDBC 드라이버 클래스
-    config.setJdbcUrl(url);                    // 데이터베이스 URL
-    config.setUsername(username);              // 사용자명
-    config.setPassword(password);              // 비밀번호
+    config.setJdbcUrl(jdbcUrl);                // 데이터베이스 URL
+    config.setUsername(user);                  // 사용자명
+    config.setPassword(pass);                  // 비밀번호
+
+    // 커넥션 풀 설정 (application-{profile}.properties 의 jdbc.pool.*)
+    poolProperties.applyTo(config, poolName);
+    if (readOnly) {
+      config.setReadOnly(true);
+    }
 
-    // 커넥션 풀 추가 설정 (선택사항)
-    config.setMaximumPoolSize(10);             // 최대 커넥션 수
-    config.setMinimumIdle(5);                  // 최소 유지 커넥션 수
-    config.setConnectionTimeout(30000);       // 연결 타임아웃 (30초)
-    config.setIdleTimeout(600000);            // 유휴 타임아웃 (10분)
+    // 풀 지표 수집
+    config.setMetricsTrackerFactory(metricsTrackerFactory);
 
     // HikariDataSource 생성 및 반환
-    HikariDataSource dataSource = new HikariDataSource(config);
-    return dataSource;
+    return new HikariDataSource(config);
+  }
+
+  /**
+   * statement 별 실행 시간 히스토그램 / 느린 SQL 기록 플러그인
+   */
+  @Bean
+  public SqlMetricsInterceptor sqlMetricsInterceptor() {
+    return new SqlMetricsInterceptor(slowQueryMillis);
   }
 
   /**
@@ -118,7 +297,8 @@ public class RootConfig {
    * @param dataSource 위 dataSource() 메서드에서 등록된 bean이 주입됨
    */
   @Bean
-  public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+  public SqlSessionFactory sqlSessionFactory(DataSource dataSource,
+                                             SqlMetricsInterceptor sqlMetricsInterceptor) throws Exception {
     SqlSessionFactoryBean sqlSessionFactory = new SqlSessionFactoryBean();
 
     // MyBatis 설정 파일 위치 지정
@@ -127,9 +307,39 @@ public class RootConfig {
     // 데이터베이스 연결 설정
     sqlSessionFactory.setDataSource(dataSource);
 
+    // SQL 실행 지표 수집 플러그인
+    sqlSessionFactory.setPlugins(sqlMetricsInterceptor);
+
     return sqlSessionFactory.getObject();
   }
 
+  /**
+   * 기본 SqlSessionTemplate (ExecutorType.SIMPLE)
+   * - @MapperScan 매퍼는 타입으로 주입받으므로 @Primary 로 지정 (생성 키 / 반환 행 수가 즉시 채워짐)
+   */
+  @Bean
+  @Primary
+  public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+    return new SqlSessionTemplate(sqlSessionFactory);
+  }
+
+  /**
+   * 대량 등록용 SqlSessionTemplate (ExecutorType.BATCH)
+   * - 기본 SqlSessionTemplate(SIMPLE)과 별도 빈, 같은 트랜잭션 안에서 섞어 쓰지 않도록 주의
+   * - MybatisBatchSupport 에만 이름으로 주입
+   */
+  @Bean
+  public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+    return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+  }
+
+  @Bean
+  public MybatisBatchSupport mybatisBatchSupport(
+          @Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+          DataSourceTransactionManager transactionManager) {
+    return new MybatisBatchSupport(batchSqlSessionTemplate, transactionManager, batchFlushSize);
+  }
+
   /**
    * 트랜잭션 매니저 설정
    * - 데이터베이스 트랜잭션을 스프링이 관리하도록 설정
@@ -1,18 +1,50 @@
 package org.scoula.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.scoula.common.metrics.HikariMetricsTrackerFactory;
+import org.scoula.common.metrics.PrometheusExporter;
+import org.scoula.common.metrics.RequestMetrics;
+import org.scoula.common.metrics.RequestMetricsInterceptor;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.common.startup.LazyInitBeanFactoryPostProcessor;
+import org.scoula.common.startup.StartupTimeline;
+import org.scoula.common.upload.UploadStorage;
+import org.scoula.common.web.AdminAccessInterceptor;
+import org.scoula.common.web.CursorExporter;
+import org.scoula.common.web.HttpCacheInterceptor;
+import org.scoula.common.web.HttpResponseCache;
+import org.scoula.controller.ProductController;
+import org.scoula.product.catalog.ProductCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewResolverRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import org.springframework.web.servlet.view.JstlView;
 
+// @Configuration: addInterceptors / configureAsyncSupport 에서 호출하는 @Bean 메서드가 컨테이너의 빈을 반환하도록 (lite 모드면 매번 새 인스턴스)
+@Configuration
 @EnableWebMvc
 @ComponentScan(basePackages = {
         "org.scoula.exception",
@@ -20,20 +52,129 @@ import org.springframework.web.servlet.view.JstlView;
 }) // Spring MVC용 컴포넌트 등록을 위한 스캔 패키지
 public class ServletConfig implements WebMvcConfigurer {
 
+    // AsyncConfig 에서 등록한 실행기 (platform 스레드 풀 또는 가상 스레드)
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // RootConfig 의 공용 ObjectMapper (JWT claims 와 같은 인스턴스)
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // RateLimitConfig 의 요청 주체(JWT subject) 결정 - 관리자 API 검사, 사용자별(privateCache) 응답 캐시 키
+    @Autowired
+    private RequestKeyResolver requestKeyResolver;
+
+    // 스냅샷 교체 시 상품 응답 캐시 무효화
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    // 대용량 내보내기: flush 단위(행)와 요청 타임아웃
+    @Value("${export.flush-rows:500}")
+    private int exportFlushRows;
+    @Value("${export.timeout-ms:600000}")
+    private long exportTimeoutMillis;
+
+    // @HttpCacheable 응답 캐시 최대 크기(MB)
+    @Value("${http.cache.maximum-size-mb:64}")
+    private long httpCacheMaximumSizeMb;
+
+    // 업로드 저장 디렉토리와 제한 (대역폭 0 = 제한 없음)
+    @Value("${upload.dir:#{systemProperties['java.io.tmpdir']}/finmate-upload}")
+    private String uploadDir;
+    @Value("${upload.max-file-size:20971520}")
+    private long uploadMaxFileSize;
+    @Value("${upload.max-concurrent-per-user:2}")
+    private int uploadMaxConcurrentPerUser;
+    @Value("${upload.bandwidth-per-user:0}")
+    private long uploadBandwidthPerUser;
+
+    // 버전이 붙은 정적 리소스(/resources, /webjars)의 브라우저 캐시 기간(일)
+    @Value("${static.cache.max-age-days:365}")
+    private long staticCacheMaxAgeDays;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Callable / StreamingResponseBody 반환 핸들러를 실행할 스레드
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        configurer.setDefaultTimeout(30_000);      // 비동기 요청 타임아웃 (30초)
+        configurer.registerCallableInterceptors(cursorExporter().timeoutInterceptor());
+    }
+
+    // Cursor 기반 JSON Lines / CSV 내보내기
+    @Bean
+    public CursorExporter cursorExporter() {
+        return new CursorExporter(transactionManager, objectMapper,
+                exportFlushRows, exportTimeoutMillis);
+    }
+
+    // @HttpCacheable 응답 저장소 (데이터 변경 시 bump(versionKey) 로 무효화)
+    @Bean
+    public HttpResponseCache httpResponseCache() {
+        HttpResponseCache cache = new HttpResponseCache(httpCacheMaximumSizeMb * 1024 * 1024);
+        productCatalog.addChangeListener(() -> cache.bump(ProductController.VERSION_KEY));
+        return cache;
+    }
+
+    // 경로 템플릿별 요청 지표
+    @Bean
+    public RequestMetrics requestMetrics() {
+        return new RequestMetrics();
+    }
+
+    // /metrics (Prometheus 텍스트 형식)
+    @Bean
+    public PrometheusExporter prometheusExporter(RequestMetrics requestMetrics,
+                                                 HikariMetricsTrackerFactory hikariMetricsTrackerFactory) {
+        return new PrometheusExporter(requestMetrics, hikariMetricsTrackerFactory);
+    }
+
+    // 기본 JSON 컨버터를 공용 ObjectMapper 를 쓰는 컨버터로 교체 (나머지 기본 컨버터와 순서는 유지)
+    // 직렬화 결과는 중간 버퍼 없이 응답 스트림에 바로 씀
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.set(i, new MappingJackson2HttpMessageConverter(objectMapper));
+            }
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 캐시 적중(304 / 재생) 응답까지 측정되도록 가장 먼저 등록
+        registry.addInterceptor(new RequestMetricsInterceptor(requestMetrics()));
+        // 관리자 API 는 ROLE_ADMIN 토큰 필요 (401 / 403)
+        registry.addInterceptor(new AdminAccessInterceptor(requestKeyResolver)).addPathPatterns("/admin/**");
+        registry.addInterceptor(new HttpCacheInterceptor(httpResponseCache(), requestKeyResolver));
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 기본 리소스 설정
+        CacheControl longLived = CacheControl.maxAge(staticCacheMaxAgeDays, TimeUnit.DAYS).cachePublic();
+
+        // 기본 리소스 설정 - 파일 내용 해시를 URL 에 붙여 장기 캐시 (예: /resources/css/app-{md5}.css)
+        // JSP 에서 <c:url> 로 경로를 만들면 ResourceUrlEncodingFilter 가 버전 URL 로 바꿔줌
+        // 빌드 시 만든 .br / .gz 파일이 있으면 Accept-Encoding 에 맞춰 미리 압축된 파일 전송 (build.gradle 의 precompressResources)
         registry
                 .addResourceHandler("/resources/**")
-                .addResourceLocations("/resources/");
+                .addResourceLocations("/resources/")
+                .setCacheControl(longLived)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
 
-        // Swagger UI 리소스를 위한 핸들러 설정
+        // Swagger UI 리소스를 위한 핸들러 설정 (버전 없는 URL 이므로 매번 재검증)
         registry.addResourceHandler("/swagger-ui.html")
-                .addResourceLocations("classpath:/META-INF/resources/");
+                .addResourceLocations("classpath:/META-INF/resources/")
+                .setCacheControl(CacheControl.noCache());
 
-        // Swagger WebJar 리소스 설정 (Bootstrap, jQuery 등)
+        // Swagger WebJar 리소스 설정 (Bootstrap, jQuery 등) - 경로에 라이브러리 버전이 포함되어 장기 캐시
         registry.addResourceHandler("/webjars/**")
-                .addResourceLocations("classpath:/META-INF/resources/webjars/");
+                .addResourceLocations("classpath:/META-INF/resources/webjars/")
+                .setCacheControl(longLived);
 
         // Swagger 메타데이터 리소스 설정
         registry.addResourceHandler("/swagger-resources/**")
@@ -58,11 +199,31 @@ public class ServletConfig implements WebMvcConfigurer {
     public MultipartResolver multipartResolver() {
         StandardServletMultipartResolver resolver =
                 new StandardServletMultipartResolver();
+        resolver.setResolveLazily(true);    // 핸들러에서 파트에 접근할 때 파싱 (404/인증 실패 요청은 본문을 읽지 않음)
         return resolver;
     }
 
+    // 📍 업로드 파일 저장소 (디스크 스트리밍, 사용자별 동시 업로드/대역폭 제한)
     @Bean
-    public static PropertySourcesPlaceholderConfigurer servletPropertyConfig() throws IOException, IOException {
+    public UploadStorage uploadStorage() throws IOException {
+        return new UploadStorage(Paths.get(uploadDir), uploadMaxFileSize,
+                uploadMaxConcurrentPerUser, uploadBandwidthPerUser);
+    }
+
+    // 루트 컨텍스트에서 읽은 설정을 그대로 공유 (설정 파일을 다시 읽지 않음)
+    @Bean
+    public static PropertySourcesPlaceholderConfigurer servletPropertyConfig() throws IOException {
         return RootConfig.propertyConfig();
     }
+
+    // 빠른 시작 모드 (startup.lazy-init) - 컨트롤러는 첫 요청 시 생성
+    @Bean
+    public static LazyInitBeanFactoryPostProcessor servletLazyInit() {
+        return RootConfig.lazyInitBeanFactoryPostProcessor();
+    }
+
+    @Bean
+    public static StartupTimeline servletStartupTimeline() {
+        return new StartupTimeline();
+    }
 }
@@ -1,25 +1,59 @@
 package org.scoula.common.config;
 
+import org.scoula.common.web.ApiDocsHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
 import springfox.documentation.service.ApiInfo;
 import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
 import springfox.documentation.spring.web.plugins.Docket;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
+import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper;
+import springfox.documentation.swagger2.web.Swagger2Controller;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
 @Configuration        // Spring 설정 클래스임을 명시
+@Conditional(SwaggerEnabledCondition.class)  // swagger.enabled 또는 local/dev 프로필에서만 등록
 @EnableSwagger2      // Swagger 2.0 활성화
-public class SwaggerConfig {
+public class SwaggerConfig implements EnvironmentAware {
 
     // API 문서 메타 정보 상수
     private final String API_NAME = "FinMate API";
     private final String API_VERSION = "1.0";
     private final String API_DESCRIPTION = "FinMate API 명세서";
 
+    /**
+     * swagger.lazy-scan=true (기본): 컨트롤러 스캔을 시작 시가 아니라 첫 /v2/api-docs, /swagger-resources 요청 때 수행
+     * springfox 는 Environment 에서 값을 읽으므로 (설정 파일은 PropertySourcesPlaceholderConfigurer 에만 있음) 직접 추가
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        if (Boolean.parseBoolean(ConfigProperties.get("swagger.lazy-scan", "true"))
+                && environment instanceof ConfigurableEnvironment) {
+            ((ConfigurableEnvironment) environment).getPropertySources().addFirst(new MapPropertySource(
+                    "swaggerLazyScan", Map.of("springfox.documentation.auto-startup", "false")));
+        }
+    }
+
     /**
      * API 문서 기본 정보 설정
      */
@@ -43,4 +77,34 @@ public class SwaggerConfig {
                 .build()
                 .apiInfo(apiInfo());         // 위에서 설정한 API 정보 적용
     }
+
+    /**
+     * /v2/api-docs 를 미리 직렬화 / 압축해 둔 바이트로 응답 (springfox 핸들러 매핑보다 먼저 확인)
+     */
+    @Bean
+    public ApiDocsHandler apiDocsHandler(DocumentationPluginsBootstrapper bootstrapper,
+                                         DocumentationCache documentationCache,
+                                         ServiceModelToSwagger2Mapper serviceModelToSwagger2Mapper,
+                                         JsonSerializer jsonSerializer) {
+        return new ApiDocsHandler(bootstrapper, documentationCache, serviceModelToSwagger2Mapper, jsonSerializer);
+    }
+
+    @Bean
+    public SimpleUrlHandlerMapping apiDocsHandlerMapping(ApiDocsHandler apiDocsHandler) {
+        return new SimpleUrlHandlerMapping(Map.of(Swagger2Controller.DEFAULT_URL, apiDocsHandler),
+                Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    // Swagger UI 가 먼저 읽는 그룹 목록(/swagger-resources)도 스캔 결과가 필요하므로 스캔 후 처리
+    // 핸들러 매핑이 초기화될 때 찾을 수 있도록 static + 핸들러는 요청 시 조회 (springfox 빈과의 순환 참조 방지)
+    @Bean
+    public static MappedInterceptor swaggerResourcesScanInterceptor(ObjectProvider<ApiDocsHandler> apiDocsHandler) {
+        return new MappedInterceptor(new String[]{"/swagger-resources/**"}, new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                apiDocsHandler.getObject().ensureScanned();
+                return true;
+            }
+        });
+    }
 }
@@ -0,0 +1,25 @@
+package org.scoula.common.config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.List;
+
+/**
+ * Swagger(springfox) 활성화 조건
+ * - swagger.enabled 가 있으면 그 값, 없으면 active.profile 에 local 또는 dev 가 있을 때만 활성화
+ * - springfox 는 시작 시 모든 컨트롤러를 스캔해 문서를 만들므로 운영 프로필에서는 등록하지 않음
+ */
+public class SwaggerEnabledCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        String enabled = ConfigProperties.get("swagger.enabled", null);
+        if (enabled != null) {
+            return Boolean.parseBoolean(enabled.trim());
+        }
+        List<String> profiles = ConfigProperties.activeProfiles();
+        return profiles.contains("local") || profiles.contains("dev");
+    }
+}
@@ -1,6 +1,16 @@
 package org.scoula.common.config;
 
+import org.scoula.common.filter.CompressionFilter;
+import org.scoula.common.filter.HttpCacheFilter;
+import org.scoula.common.web.StacklessDispatcherServlet;
+import org.scoula.portfolio.config.PortfolioConfig;
+import org.scoula.product.config.ProductCatalogConfig;
+import org.scoula.security.config.PasswordConfig;
+import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
+import org.springframework.web.filter.DelegatingFilterProxy;
+import org.springframework.web.servlet.FrameworkServlet;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
 import org.springframework.web.servlet.support.AbstractAnnotationConfigDispatcherServletInitializer;
 import javax.servlet.Filter;
 import javax.servlet.MultipartConfigElement;
@@ -11,7 +21,8 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
 
     @Override
     protected Class<?>[] getRootConfigClasses() {
-        return new Class[] { RootConfig.class};
+        return new Class[] { RootConfig.class, AsyncConfig.class, RateLimitConfig.class, PasswordConfig.class,
+                ProductCatalogConfig.class, PortfolioConfig.class };
     }
 
     @Override
@@ -31,21 +42,48 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
         };
     }
 
+    // 404 (NoHandlerFoundException) 를 스택 트레이스 없이 생성하는 DispatcherServlet
+    @Override
+    protected FrameworkServlet createDispatcherServlet(WebApplicationContext servletAppContext) {
+        return new StacklessDispatcherServlet(servletAppContext);
+    }
+
     protected Filter[] getServletFilters() {
         // UTF-8 문자 인코딩 필터 생성 및 설정
         CharacterEncodingFilter characterEncodingFilter = new CharacterEncodingFilter();
         characterEncodingFilter.setEncoding("UTF-8");       // 요청 데이터 UTF-8 디코딩
         characterEncodingFilter.setForceEncoding(true);     // 응답 데이터도 UTF-8 강제 인코딩
-        
-        return new Filter[] { characterEncodingFilter };
+
+        // 요청 ID / 사용자 로그 컨텍스트(MDC) 설정 (루트 컨텍스트의 mdcLoggingFilter 빈에 위임, 토큰에서 사용자 결정)
+        DelegatingFilterProxy mdcLoggingFilter = new DelegatingFilterProxy("mdcLoggingFilter");
+
+        // 요청 수 / 경로별 동시 처리 수 제한 (루트 컨텍스트의 rateLimitFilter 빈에 위임)
+        DelegatingFilterProxy rateLimitFilter = new DelegatingFilterProxy("rateLimitFilter");
+
+        // 응답 압축 (gzip / deflate) - 1KB 이상 JSON, 텍스트 응답
+        CompressionFilter compressionFilter = new CompressionFilter();
+        compressionFilter.setMinSize(1024);
+        compressionFilter.setLevel(5);
+
+        // @HttpCacheable 응답 본문 캡처용 래퍼 (GET 요청만)
+        HttpCacheFilter httpCacheFilter = new HttpCacheFilter();
+
+        // JSP 의 정적 리소스 URL 을 내용 해시가 붙은 버전 URL 로 변환
+        ResourceUrlEncodingFilter resourceUrlEncodingFilter = new ResourceUrlEncodingFilter();
+
+        return new Filter[] {
+                characterEncodingFilter, mdcLoggingFilter, rateLimitFilter,
+                compressionFilter, httpCacheFilter, resourceUrlEncodingFilter
+        };
     }
 
 
     // 📍 파일 업로드 설정 상수
-    final String LOCATION = "c:/upload";
-    final long MAX_FILE_SIZE = 1024 * 1024 * 10L;      // 10MB
-    final long MAX_REQUEST_SIZE = 1024 * 1024 * 20L;   // 20MB
-    final int FILE_SIZE_THRESHOLD = 1024 * 1024 * 5;   // 5MB
+    // 임시 디렉토리: -Dupload.tmp-dir 로 지정, 없으면 java.io.tmpdir (OS 무관)
+    final String LOCATION = System.getProperty("upload.tmp-dir", System.getProperty("java.io.tmpdir"));
+    final long MAX_FILE_SIZE = 1024 * 1024 * 20L;      // 20MB
+    final long MAX_REQUEST_SIZE = 1024 * 1024 * 21L;   // 21MB (파일 + 폼 필드)
+    final int FILE_SIZE_THRESHOLD = 0;                 // 파트를 힙에 두지 않고 바로 디스크에 기록
 
 
     @Override
@@ -53,6 +91,9 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
         // 📍 404 에러를 Exception으로 변환
         registration.setInitParameter("throwExceptionIfNoHandlerFound", "true");
 
+        // 📍 비동기 요청 처리 (Callable / DeferredResult) - 처리 중 컨테이너 스레드 반환
+        registration.setAsyncSupported(true);
+
         // 📍 Multipart 파일 업로드 설정
         MultipartConfigElement multipartConfig = new MultipartConfigElement(
                 LOCATION,           // 업로드 처리 디렉토리 경로
@@ -0,0 +1,93 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * HikariCP 커넥션 풀 설정값
+ * - application-{profile}.properties 의 jdbc.pool.* 항목으로 재정의 (미설정 시 기본값 사용)
+ *
+ * 예)
+ * <pre>
+ * jdbc.pool.maximum-pool-size=20
+ * jdbc.pool.minimum-idle=5
+ * jdbc.pool.connection-timeout-ms=3000
+ * jdbc.pool.max-lifetime-ms=1740000
+ * jdbc.pool.keepalive-time-ms=300000
+ * jdbc.pool.leak-detection-threshold-ms=10000
+ * jdbc.pool.cache-prep-stmts=true
+ * jdbc.pool.prep-stmt-cache-size=250
+ * jdbc.pool.use-server-prep-stmts=true
+ * jdbc.pool.rewrite-batched-statements=true
+ * </pre>
+ */
+@Getter
+@ToString
+public class HikariPoolProperties {
+
+    // ===== 풀 크기 =====
+    @Value("${jdbc.pool.maximum-pool-size:10}")
+    private int maximumPoolSize;             // 최대 커넥션 수
+    @Value("${jdbc.pool.minimum-idle:5}")
+    private int minimumIdle;                 // 최소 유지 커넥션 수
+
+    // ===== 타임아웃 / 수명 =====
+    @Value("${jdbc.pool.connection-timeout-ms:30000}")
+    private long connectionTimeout;          // 커넥션 획득 대기 시간
+    @Value("${jdbc.pool.idle-timeout-ms:600000}")
+    private long idleTimeout;                // 유휴 커넥션 제거 시간
+    @Value("${jdbc.pool.max-lifetime-ms:1800000}")
+    private long maxLifetime;                // 커넥션 최대 수명 (DB wait_timeout 보다 짧게)
+    @Value("${jdbc.pool.keepalive-time-ms:0}")
+    private long keepaliveTime;              // 유휴 커넥션 keepalive 주기 (0: 사용 안 함)
+    @Value("${jdbc.pool.validation-timeout-ms:5000}")
+    private long validationTimeout;          // 커넥션 유효성 검사 타임아웃
+    @Value("${jdbc.pool.leak-detection-threshold-ms:0}")
+    private long leakDetectionThreshold;     // 커넥션 누수 감지 임계값 (0: 사용 안 함)
+    @Value("${jdbc.pool.initialization-fail-timeout-ms:-1}")
+    private long initializationFailTimeout;  // 풀 생성 시 첫 커넥션 대기 (-1: 기다리지 않고 PoolWarmup 이 비동기 예열)
+
+    // ===== 읽기 전용 =====
+    @Value("${jdbc.pool.read-only:false}")
+    private boolean readOnly;                // 풀 전체를 읽기 전용 커넥션으로 생성 (복제본 풀 등)
+
+    // ===== MySQL 드라이버 PreparedStatement 캐시 / 배치 =====
+    @Value("${jdbc.pool.cache-prep-stmts:true}")
+    private boolean cachePrepStmts;
+    @Value("${jdbc.pool.prep-stmt-cache-size:250}")
+    private int prepStmtCacheSize;
+    @Value("${jdbc.pool.prep-stmt-cache-sql-limit:2048}")
+    private int prepStmtCacheSqlLimit;
+    @Value("${jdbc.pool.use-server-prep-stmts:true}")
+    private boolean useServerPrepStmts;
+    @Value("${jdbc.pool.rewrite-batched-statements:true}")
+    private boolean rewriteBatchedStatements;
+
+    /**
+     * 풀 이름과 설정값을 HikariConfig 에 적용
+     */
+    public void applyTo(HikariConfig config, String poolName) {
+        config.setPoolName(poolName);
+
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+
+        config.setConnectionTimeout(connectionTimeout);
+        config.setIdleTimeout(idleTimeout);
+        config.setMaxLifetime(maxLifetime);
+        config.setKeepaliveTime(keepaliveTime);
+        config.setValidationTimeout(validationTimeout);
+        config.setLeakDetectionThreshold(leakDetectionThreshold);
+        config.setInitializationFailTimeout(initializationFailTimeout);
+
+        config.setReadOnly(readOnly);
+
+        config.addDataSourceProperty("cachePrepStmts", cachePrepStmts);
+        config.addDataSourceProperty("prepStmtCacheSize", prepStmtCacheSize);
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", prepStmtCacheSqlLimit);
+        config.addDataSourceProperty("useServerPrepStmts", useServerPrepStmts);
+        config.addDataSourceProperty("rewriteBatchedStatements", rewriteBatchedStatements);
+    }
+}
@@ -0,0 +1,52 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.config.ConfigChangeListener;
+import org.scoula.common.config.ConfigSnapshot;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * jdbc.pool.* 변경을 실행 중인 커넥션 풀에 반영 (HikariConfigMXBean)
+ * - 실행 중 변경 가능한 항목만: maximum-pool-size, minimum-idle, connection-timeout-ms,
+ *   idle-timeout-ms, max-lifetime-ms, leak-detection-threshold-ms
+ * - 풀을 줄이면 사용 중인 커넥션은 반환될 때 정리되고, 늘리면 housekeeper 가 minimum-idle 까지 채움
+ * - 그 외 항목(드라이버 속성 등)은 재시작해야 반영
+ */
+@Log4j2
+public class HikariPoolResizer implements ConfigChangeListener {
+
+    private static final String PREFIX = "jdbc.pool.";
+
+    private final List<HikariDataSource> pools;
+
+    public HikariPoolResizer(List<HikariDataSource> pools) {
+        this.pools = List.copyOf(pools);
+    }
+
+    @Override
+    public void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+        if (changedKeys.stream().noneMatch(key -> key.startsWith(PREFIX))) {
+            return;
+        }
+        for (HikariDataSource pool : pools) {
+            HikariConfigMXBean config = pool.getHikariConfigMXBean();
+            // 최대 크기를 먼저 맞춰야 minimumIdle > maximumPoolSize 상태가 되지 않음
+            config.setMaximumPoolSize(current.getInt(PREFIX + "maximum-pool-size", config.getMaximumPoolSize()));
+            config.setMinimumIdle(Math.min(current.getInt(PREFIX + "minimum-idle", config.getMinimumIdle()),
+                    config.getMaximumPoolSize()));
+            config.setConnectionTimeout(current.getLong(PREFIX + "connection-timeout-ms",
+                    config.getConnectionTimeout()));
+            config.setIdleTimeout(current.getLong(PREFIX + "idle-timeout-ms", config.getIdleTimeout()));
+            config.setMaxLifetime(current.getLong(PREFIX + "max-lifetime-ms", config.getMaxLifetime()));
+            config.setLeakDetectionThreshold(current.getLong(PREFIX + "leak-detection-threshold-ms",
+                    config.getLeakDetectionThreshold()));
+            log.info("커넥션 풀 설정 변경: {} maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms",
+                    config.getPoolName(), config.getMaximumPoolSize(), config.getMinimumIdle(),
+                    config.getConnectionTimeout());
+        }
+    }
+}
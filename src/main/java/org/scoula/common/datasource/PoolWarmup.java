@@ -0,0 +1,52 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 컨텍스트 시작 후 커넥션 풀을 백그라운드에서 예열
+ * - 풀은 initializationFailTimeout=-1 로 생성되어 시작 시 DB 연결을 기다리지 않음
+ *   (minimumIdle 까지는 Hikari housekeeper 가 비동기로 채움)
+ * - 여기서는 풀마다 커넥션을 한 번 꺼내 연결 가능 여부와 소요 시간을 로그로 남김 (실패해도 시작은 계속)
+ */
+@Log4j2
+public class PoolWarmup implements ApplicationListener<ContextRefreshedEvent> {
+
+    private final List<HikariDataSource> pools;
+    private final Executor executor;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    public PoolWarmup(List<HikariDataSource> pools, Executor executor) {
+        this.pools = List.copyOf(pools);
+        this.executor = executor;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // 서블릿 컨텍스트 refresh 이벤트도 전달되므로 처음 한 번만
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        for (HikariDataSource pool : pools) {
+            executor.execute(() -> warmUp(pool));
+        }
+    }
+
+    private void warmUp(HikariDataSource pool) {
+        long start = System.nanoTime();
+        try (Connection ignored = pool.getConnection()) {
+            log.info("커넥션 풀 예열 완료: {} ({}ms)", pool.getPoolName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("커넥션 풀 예열 실패: {} - {}", pool.getPoolName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 복제본 DB 하나
+ * - healthy / lagSeconds 는 {@link ReplicaRouter} 의 지연 점검 스레드가 갱신
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void markHealthy(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.healthy = true;
+    }
+
+    void markUnhealthy(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.healthy = false;
+    }
+
+    /**
+     * 현재 사용 중인 커넥션 수 (Hikari 풀이 아니면 0)
+     */
+    int activeConnections() {
+        if (dataSource instanceof HikariDataSource) {
+            HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,211 @@
+package org.scoula.common.datasource;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제본 선택 + 복제 지연 감시
+ * - 선택 전략: ROUND_ROBIN / LEAST_ACTIVE (활성 커넥션이 가장 적은 복제본)
+ * - 지연이 maxLagSeconds 를 넘거나 점검 쿼리가 실패한 복제본은 제외되고,
+ *   사용할 복제본이 없으면 null 을 반환해 primary 로 보낸다.
+ */
+@Log4j2
+public class ReplicaRouter implements Closeable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_ACTIVE
+    }
+
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    private ScheduledExecutorService lagChecker;
+
+    /**
+     * @param lagQuery      복제 지연(초)을 조회하는 쿼리. SHOW 로 시작하면 Seconds_Behind_Source(또는 _Master) 컬럼을,
+     *                      그 외에는 첫 번째 컬럼 값을 사용. 비어 있으면 연결 확인만 수행
+     * @param maxLagSeconds 허용 최대 지연(초)
+     */
+    public ReplicaRouter(List<Replica> replicas, Strategy strategy, String lagQuery, long maxLagSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 사용할 복제본 선택 (사용 가능한 복제본이 없으면 null)
+     */
+    public Replica select() {
+        Replica selected = strategy == Strategy.LEAST_ACTIVE ? leastActive() : roundRobin();
+        if (selected == null) {
+            primaryFallbacks.increment();
+        } else {
+            replicaReads.increment();
+        }
+        return selected;
+    }
+
+    private Replica roundRobin() {
+        int size = replicas.size();
+        int start = cursor.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastActive() {
+        Replica selected = null;
+        int minActive = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            int active = replica.activeConnections();
+            if (active < minActive) {
+                minActive = active;
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 주기적인 복제 지연 점검 시작
+     */
+    public void start(long intervalSeconds) {
+        lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkLag, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 모든 복제본의 지연을 즉시 점검
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection con = replica.getDataSource().getConnection();
+                 Statement stmt = con.createStatement()) {
+                long lag = queryLag(stmt);
+                if (lag < 0 || lag > maxLagSeconds) {
+                    if (replica.isHealthy()) {
+                        log.warn("복제본 제외: {} (lag={}s, max={}s)", replica.getName(), lag, maxLagSeconds);
+                    }
+                    replica.markUnhealthy(lag);
+                } else {
+                    if (!replica.isHealthy()) {
+                        log.info("복제본 복귀: {} (lag={}s)", replica.getName(), lag);
+                    }
+                    replica.markHealthy(lag);
+                }
+            } catch (SQLException e) {
+                if (replica.isHealthy()) {
+                    log.warn("복제본 점검 실패로 제외: {} - {}", replica.getName(), e.getMessage());
+                }
+                replica.markUnhealthy(-1);
+            }
+        }
+    }
+
+    /**
+     * @return 지연(초), 복제가 멈춰 값이 없으면 -1
+     */
+    private long queryLag(Statement stmt) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            stmt.execute("SELECT 1");
+            return 0;
+        }
+        try (ResultSet rs = stmt.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                // SHOW REPLICA STATUS 결과가 없으면 복제본이 아님
+                return -1;
+            }
+            Object value = rs.getObject(lagColumn(rs.getMetaData()));
+            return value == null ? -1 : ((Number) value).longValue();
+        }
+    }
+
+    private int lagColumn(ResultSetMetaData meta) throws SQLException {
+        if (lagQuery.trim().regionMatches(true, 0, "SHOW", 0, 4)) {
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                String column = meta.getColumnLabel(i);
+                if ("Seconds_Behind_Source".equalsIgnoreCase(column) || "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                    return i;
+                }
+            }
+        }
+        return 1;
+    }
+
+    public List<Replica> getReplicas() {
+        return Collections.unmodifiableList(replicas);
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    /**
+     * 관리자 엔드포인트용 상태
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("strategy", strategy);
+        values.put("replicaReads", replicaReads.sum());
+        values.put("primaryFallbacks", primaryFallbacks.sum());
+        Map<String, Object> states = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("healthy", replica.isHealthy());
+            state.put("lagSeconds", replica.getLagSeconds());
+            state.put("active", replica.activeConnections());
+            states.put(replica.getName(), state);
+        }
+        values.put("replicas", states);
+        return values;
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable) {
+                try {
+                    ((Closeable) replica.getDataSource()).close();
+                } catch (Exception e) {
+                    log.warn("복제본 풀 종료 실패: {}", replica.getName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.scoula.common.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 라우팅 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션은 {@link ReplicaRouter} 가 고른 복제본으로,
+ *   그 외(쓰기 트랜잭션, 트랜잭션 밖 호출, 사용 가능한 복제본 없음)는 primary 로 보낸다.
+ * - 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 확정되므로 반드시
+ *   {@link LazyConnectionDataSourceProxy} 로 감싸서 사용해야 한다. ({@link #lazy(DataSource, ReplicaRouter)})
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaRouter router;
+
+    public ReplicationRoutingDataSource(DataSource primary, ReplicaRouter router) {
+        this.router = router;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : router.getReplicas()) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 커넥션 획득을 첫 SQL 실행 시점으로 미루는 프록시로 감싼 라우팅 DataSource 생성
+     */
+    public static DataSource lazy(DataSource primary, ReplicaRouter router) {
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, router));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = router.select();
+        return replica == null ? PRIMARY : replica.getName();
+    }
+}
@@ -0,0 +1,145 @@
+package org.scoula.common.filter;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * startCapture() 이후 본문을 메모리에 모으는 응답 래퍼
+ * - 캡처 전에는 원래 응답으로 그대로 전달 (캐시 대상이 아닌 요청은 버퍼링 비용 없음)
+ * - 캡처 중에는 flush / Content-Length 를 보류, stopCapture() 로 모은 본문을 꺼낸 뒤 다시 통과 모드
+ */
+public class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private ByteArrayOutputStream captured;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public CapturingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    public void startCapture() {
+        if (captured == null && !isCommitted()) {
+            captured = new ByteArrayOutputStream(4096);
+        }
+    }
+
+    public boolean isCapturing() {
+        return captured != null;
+    }
+
+    /**
+     * 캡처한 본문을 반환하고 통과 모드로 전환 (캡처 중이 아니면 빈 배열)
+     */
+    public byte[] stopCapture() {
+        if (captured == null) {
+            return new byte[0];
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        byte[] body = captured.toByteArray();
+        captured = null;
+        outputStream = null;
+        writer = null;
+        return body;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (captured == null) {
+            return super.getOutputStream();
+        }
+        if (outputStream == null) {
+            ByteArrayOutputStream target = captured;
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    target.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    target.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (captured == null) {
+            return super.getWriter();
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(captured, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (captured == null) {
+            super.flushBuffer();
+        } else if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        if (captured == null) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (captured == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (captured == null || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (captured != null) {
+            captured.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (captured != null) {
+            captured.reset();
+        }
+        super.reset();
+    }
+}
@@ -0,0 +1,132 @@
+package org.scoula.common.filter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * gzip / deflate 압축 스트림 (DeflaterPool 의 Deflater 와 버퍼 사용)
+ * - GZIPOutputStream 은 스트림마다 Deflater 를 새로 만들기 때문에 gzip 헤더/트레일러를 직접 기록
+ * - flush() 는 SYNC_FLUSH 로 지금까지 쓴 데이터를 클라이언트가 바로 풀 수 있게 내보냄 (스트리밍 응답용)
+ * - finish() 후 Deflater 를 풀에 반환, 하위 스트림은 닫지 않음
+ */
+public class CompressingOutputStream extends OutputStream {
+
+    public enum Encoding {
+        GZIP("gzip"), DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+    }
+
+    // magic(1f 8b), CM=8(deflate), FLG=0, MTIME=0, XFL=0, OS=255(unknown)
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final OutputStream out;
+    private final DeflaterPool pool;
+    private final DeflaterPool.Entry entry;
+    private final Deflater deflater;
+    private final byte[] buffer;
+    private final CRC32 crc;
+    private final byte[] single = new byte[1];
+    private boolean finished;
+
+    public CompressingOutputStream(OutputStream out, Encoding encoding, DeflaterPool pool) throws IOException {
+        this.out = out;
+        this.pool = pool;
+        this.entry = pool.borrow(encoding == Encoding.GZIP);
+        this.deflater = entry.deflater;
+        this.buffer = entry.buffer;
+        if (encoding == Encoding.GZIP) {
+            this.crc = new CRC32();
+            out.write(GZIP_HEADER);
+        } else {
+            this.crc = null;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (finished) {
+            throw new IOException("압축 스트림이 이미 종료됨");
+        }
+        if (len == 0) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!finished) {
+            int count;
+            do {
+                count = deflate(Deflater.SYNC_FLUSH);
+            } while (count == buffer.length);
+        }
+        out.flush();
+    }
+
+    /**
+     * 남은 데이터와 gzip 트레일러(CRC32, 원본 길이)를 기록하고 Deflater 반환
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            if (crc != null) {
+                writeIntLE((int) crc.getValue());
+                writeIntLE((int) deflater.getBytesRead());
+            }
+        } finally {
+            pool.release(entry);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private int deflate(int flush) throws IOException {
+        int count = deflater.deflate(buffer, 0, buffer.length, flush);
+        if (count > 0) {
+            out.write(buffer, 0, count);
+        }
+        return count;
+    }
+
+    private void writeIntLE(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+        out.write((value >>> 16) & 0xff);
+        out.write((value >>> 24) & 0xff);
+    }
+}
@@ -0,0 +1,259 @@
+package org.scoula.common.filter;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.function.Predicate;
+
+/**
+ * 응답 본문을 조건부로 압축하는 래퍼
+ * - Content-Length 가 있으면 그 값으로, 없으면 처음 minSize 바이트까지 버퍼링한 뒤 압축 여부 결정
+ *   (스트림 flush 는 결정을 앞당기지 않음, flushBuffer 로 응답을 내보낼 때만 바로 결정)
+ * - 크기 미만 / 허용되지 않은 Content-Type / 이미 Content-Encoding 이 있는 응답(.gz 정적 리소스 등)은 그대로 전달
+ * - 압축 시 Content-Length 제거, 강한 ETag 는 약한 ETag(W/)로 변경 (표현이 달라지므로)
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final CompressingOutputStream.Encoding encoding;
+    private final int minSize;
+    private final Predicate<String> compressibleType;
+    private final DeflaterPool pool;
+
+    private byte[] pending;
+    private int pendingCount;
+    private long contentLength = -1;
+
+    // 결정 후 본문이 향하는 스트림 (원래 응답 스트림 또는 압축 스트림)
+    private OutputStream target;
+    private CompressingOutputStream compressor;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletResponse response, CompressingOutputStream.Encoding encoding,
+                               int minSize, Predicate<String> compressibleType, DeflaterPool pool) {
+        super(response);
+        this.encoding = encoding;
+        this.minSize = minSize;
+        this.compressibleType = compressibleType;
+        this.pool = pool;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    writeBody(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    flushBody();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    private void writeBody(byte[] b, int off, int len) throws IOException {
+        if (target == null) {
+            if (contentLength >= 0) {
+                decide(contentLength >= minSize);
+            } else if (pendingCount + len <= minSize) {
+                if (pending == null) {
+                    pending = new byte[minSize];
+                }
+                System.arraycopy(b, off, pending, pendingCount, len);
+                pendingCount += len;
+                return;
+            } else {
+                decide(true);
+            }
+        }
+        target.write(b, off, len);
+    }
+
+    /**
+     * 스트림 flush - 크기를 정하기 전이면 계속 버퍼링
+     * (메시지 컨버터는 본문을 쓴 뒤 항상 flush 하므로 여기서 결정하면 작은 JSON 도 압축됨)
+     */
+    private void flushBody() throws IOException {
+        if (target == null && !getResponse().isCommitted()) {
+            return;
+        }
+        flushTarget();
+    }
+
+    private void flushTarget() throws IOException {
+        if (target == null) {
+            // 크기를 모르는 상태에서 응답을 내보내야 함 = 스트리밍 응답(SSE 등), 허용 타입이면 압축
+            decide(true);
+        }
+        target.flush();
+    }
+
+    private void decide(boolean largeEnough) throws IOException {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        if (compressibleType.test(response.getContentType())) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (largeEnough && isCompressible(response)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+            weakenEtag(response.getHeader(HttpHeaders.ETAG));
+            compressor = new CompressingOutputStream(response.getOutputStream(), encoding, pool);
+            target = compressor;
+        } else {
+            if (contentLength >= 0) {
+                response.setContentLengthLong(contentLength);
+            } else if (!largeEnough) {
+                response.setContentLength(pendingCount);
+            }
+            target = response.getOutputStream();
+        }
+        if (pendingCount > 0) {
+            target.write(pending, 0, pendingCount);
+            pendingCount = 0;
+        }
+        pending = null;
+    }
+
+    private boolean isCompressible(HttpServletResponse response) {
+        int status = response.getStatus();
+        return status >= 200 && status != HttpServletResponse.SC_NO_CONTENT
+                && status != HttpServletResponse.SC_NOT_MODIFIED
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && compressibleType.test(response.getContentType());
+    }
+
+    private void weakenEtag(String etag) {
+        if (etag != null && !etag.startsWith("W/")) {
+            super.setHeader(HttpHeaders.ETAG, "W/" + etag);
+        }
+    }
+
+    /**
+     * 남은 버퍼 기록 및 압축 스트림 종료 (요청 처리 완료 시 필터에서 호출)
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (target == null) {
+            if (pendingCount == 0 && contentLength < 0) {
+                return;
+            }
+            decide(contentLength >= minSize);
+        }
+        if (compressor != null) {
+            compressor.finish();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (target == null) {
+            contentLength = len;
+        } else if (compressor == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else if (compressor != null && HttpHeaders.ETAG.equalsIgnoreCase(name)) {
+            weakenEtag(value);
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        flushTarget();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discardPending();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        discardPending();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (target == null) {
+            discardPending();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (target == null) {
+            discardPending();
+            contentLength = -1;
+        }
+        super.reset();
+    }
+
+    private void discardPending() {
+        pendingCount = 0;
+    }
+}
@@ -0,0 +1,125 @@
+package org.scoula.common.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 응답 압축 필터 (gzip 우선, deflate)
+ * - Accept-Encoding 으로 인코딩 협상, q=0 인 항목은 제외
+ * - minSize 바이트 이상이고 허용 Content-Type(JSON, 텍스트 등)인 응답만 압축
+ * - Deflater 와 버퍼는 DeflaterPool 에서 재사용, 압축 결과는 버퍼에 모으지 않고 바로 내보냄
+ * - 비동기 요청(Callable, StreamingResponseBody)은 비동기 디스패치가 끝날 때 압축 스트림 종료
+ *
+ * Brotli 는 순수 Java 인코더가 없어(org.brotli:dec 는 디코더만 제공) 동적 압축에서는 지원하지 않음,
+ * 정적 리소스는 빌드 시 만든 .br 파일이 있으면 EncodedResourceResolver 가 그대로 전송
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json", "application/x-ndjson", "application/javascript", "application/xml",
+            "application/problem+json", "image/svg+xml", "text/csv");
+
+    private int minSize = 1024;
+    private int level = 5;
+    private DeflaterPool pool;
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    @Override
+    protected void initFilterBean() {
+        pool = new DeflaterPool(level, 8192, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "HEAD".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 비동기 디스패치에서는 최초 요청에서 만든 래퍼를 그대로 사용
+        CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+        if (wrapper == null) {
+            CompressingOutputStream.Encoding encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (encoding == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            wrapper = new CompressingResponseWrapper(response, encoding, minSize,
+                    CompressionFilter::isCompressibleType, pool);
+            response = wrapper;
+        }
+
+        filterChain.doFilter(request, response);
+        if (!request.isAsyncStarted()) {
+            wrapper.finish();
+        }
+    }
+
+    static boolean isCompressibleType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int semicolon = contentType.indexOf(';');
+        String mediaType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon))
+                .trim().toLowerCase(Locale.ROOT);
+        return mediaType.startsWith("text/") || COMPRESSIBLE_TYPES.contains(mediaType) || mediaType.endsWith("+json");
+    }
+
+    /**
+     * Accept-Encoding 협상: gzip &gt; deflate, "*" 는 gzip 으로 처리
+     */
+    public static CompressingOutputStream.Encoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (isZeroQuality(parts)) {
+                continue;
+            }
+            if ("gzip".equals(coding) || "*".equals(coding)) {
+                return CompressingOutputStream.Encoding.GZIP;
+            }
+            deflate |= "deflate".equals(coding);
+        }
+        return deflate ? CompressingOutputStream.Encoding.DEFLATE : null;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
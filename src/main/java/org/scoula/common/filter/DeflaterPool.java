@@ -0,0 +1,52 @@
+package org.scoula.common.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater + 출력 버퍼 재사용 풀
+ * - Deflater 는 생성 시 네이티브 zlib 메모리(약 256KB)를 할당하므로 응답마다 만들지 않고 reset 후 재사용
+ * - 풀이 가득 차면 반환된 Deflater 는 end() 로 즉시 해제
+ */
+public class DeflaterPool {
+
+    private final int level;
+    private final int bufferSize;
+    private final BlockingQueue<Entry> gzip;
+    private final BlockingQueue<Entry> zlib;
+
+    public DeflaterPool(int level, int bufferSize, int maxPooled) {
+        this.level = level;
+        this.bufferSize = bufferSize;
+        this.gzip = new ArrayBlockingQueue<>(maxPooled);
+        this.zlib = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * @param nowrap true: raw deflate (gzip 본문용), false: zlib 형식 (HTTP deflate)
+     */
+    Entry borrow(boolean nowrap) {
+        Entry entry = (nowrap ? gzip : zlib).poll();
+        return entry != null ? entry : new Entry(new Deflater(level, nowrap), new byte[bufferSize], nowrap);
+    }
+
+    void release(Entry entry) {
+        entry.deflater.reset();
+        if (!(entry.nowrap ? gzip : zlib).offer(entry)) {
+            entry.deflater.end();
+        }
+    }
+
+    static final class Entry {
+        final Deflater deflater;
+        final byte[] buffer;
+        final boolean nowrap;
+
+        private Entry(Deflater deflater, byte[] buffer, boolean nowrap) {
+            this.deflater = deflater;
+            this.buffer = buffer;
+            this.nowrap = nowrap;
+        }
+    }
+}
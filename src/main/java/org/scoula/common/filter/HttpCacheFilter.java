@@ -0,0 +1,39 @@
+package org.scoula.common.filter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * GET 요청 응답을 {@link CapturingResponseWrapper} 로 감싸는 필터
+ * - 실제 캡처 여부는 HttpCacheInterceptor 가 핸들러의 @HttpCacheable 을 보고 결정
+ * - 핸들러 처리 중 예외 등으로 캡처가 끝나지 않았다면 모은 본문을 그대로 내보냄
+ */
+public class HttpCacheFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            if (wrapper.isCapturing()) {
+                byte[] body = wrapper.stopCapture();
+                if (body.length > 0 && !response.isCommitted()) {
+                    response.setContentLength(body.length);
+                    response.getOutputStream().write(body);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.scoula.common.filter;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 requestId / user 를 로그 컨텍스트(MDC)에 넣는 필터
+ * - requestId: X-Request-Id 요청 헤더 값(게이트웨이 등에서 전달) 또는 새로 생성, 응답 헤더로도 반환
+ * - user: Bearer 토큰의 subject (RequestKeyResolver 로 검증), 없거나 유효하지 않으면 "-"
+ *         인증 필터보다 먼저 실행되므로 getUserPrincipal() 은 항상 null - 토큰에서 직접 결정
+ * - log4j2.xml 패턴의 %X{requestId}, %X{user} 로 출력
+ * RateLimitConfig 의 mdcLoggingFilter 빈을 WebConfig 에서 DelegatingFilterProxy 로 연결
+ */
+public class MdcLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String USER = "user";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final RequestKeyResolver requestKeyResolver;
+
+    public MdcLoggingFilter(RequestKeyResolver requestKeyResolver) {
+        this.requestKeyResolver = requestKeyResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+        String user = requestKeyResolver.subject(request);
+
+        ThreadContext.put(REQUEST_ID, requestId);
+        ThreadContext.put(USER, user != null ? user : "-");
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ThreadContext.remove(REQUEST_ID);
+            ThreadContext.remove(USER);
+        }
+    }
+
+    /**
+     * 전달받은 ID 가 안전한 형식(영문/숫자/-/_ 64자 이하)이면 그대로 사용, 아니면 새로 생성
+     * - UUID.randomUUID() 는 SecureRandom 을 사용하므로 요청마다 쓰기엔 무거워 ThreadLocalRandom 사용
+     */
+    static String resolveRequestId(String header) {
+        if (header != null && !header.isEmpty() && header.length() <= MAX_REQUEST_ID_LENGTH && isSafe(header)) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    private static boolean isSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
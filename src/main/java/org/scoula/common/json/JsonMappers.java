@@ -0,0 +1,38 @@
+package org.scoula.common.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 애플리케이션 공용 ObjectMapper 설정
+ * - MVC 메시지 컨버터, JWT claims 직렬화(JwtKeyRing), 내보내기(CursorExporter)가 같은 인스턴스를 사용
+ *   (RootConfig 의 objectMapper 빈) -> 클래스별 직렬화기 / 접근자를 한 번만 만들고 공유
+ * - Blackbird: getter/setter 를 리플렉션 대신 LambdaMetafactory 로 만든 함수로 호출
+ * - 날짜는 epoch millis 숫자로 (문자열 포맷팅 없음), 기본 타입 정보(default typing) 사용 안 함
+ * - 알 수 없는 속성 무시, @JsonView 없는 속성 제외 (Jackson2ObjectMapperBuilder 기본값과 동일)
+ * - 출력 버퍼는 Jackson 의 스레드별 BufferRecycler 로 재사용 (요청마다 새 버퍼를 할당하지 않음)
+ */
+public final class JsonMappers {
+
+    private JsonMappers() {
+    }
+
+    public static ObjectMapper create() {
+        JsonFactory factory = JsonFactory.builder()
+                .enable(JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING)
+                .build();
+        return JsonMapper.builder(factory)
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .deactivateDefaultTyping()
+                .addModule(new BlackbirdModule())
+                .build();
+    }
+}
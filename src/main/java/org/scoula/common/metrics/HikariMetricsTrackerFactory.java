@@ -0,0 +1,34 @@
+package org.scoula.common.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HikariCP 풀 생성 시 풀별 {@link HikariPoolMetrics} 를 만들어 보관
+ * - HikariConfig.setMetricsTrackerFactory(...) 로 등록
+ */
+public class HikariMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final Map<String, HikariPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        HikariPoolMetrics metrics = new HikariPoolMetrics(poolName, poolStats);
+        pools.put(poolName, metrics);
+        return metrics;
+    }
+
+    public HikariPoolMetrics get(String poolName) {
+        return pools.get(poolName);
+    }
+
+    public Collection<HikariPoolMetrics> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+}
@@ -0,0 +1,107 @@
+package org.scoula.common.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 하나의 지표
+ * - 게이지: active / idle / total / pending(커넥션 대기 스레드)
+ * - 히스토그램: 커넥션 획득 시간(μs), 커넥션 사용 시간(ms), 커넥션 생성 시간(ms)
+ * - 카운터: 커넥션 획득 타임아웃
+ */
+public class HikariPoolMetrics implements IMetricsTracker {
+
+    private final String poolName;
+    private final PoolStats poolStats;
+
+    private final Histogram acquireMicros = new ConcurrentHistogram(3);
+    private final Histogram usageMillis = new ConcurrentHistogram(3);
+    private final Histogram creationMillis = new ConcurrentHistogram(3);
+    private final LongAdder timeouts = new LongAdder();
+
+    HikariPoolMetrics(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        creationMillis.recordValue(connectionCreatedMillis);
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageMillis.recordValue(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public PoolStats getPoolStats() {
+        return poolStats;
+    }
+
+    public Histogram getAcquireMicros() {
+        return acquireMicros;
+    }
+
+    public Histogram getUsageMillis() {
+        return usageMillis;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * 관리자 엔드포인트용 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("active", poolStats.getActiveConnections());
+        values.put("idle", poolStats.getIdleConnections());
+        values.put("total", poolStats.getTotalConnections());
+        values.put("pending", poolStats.getPendingThreads());
+        values.put("max", poolStats.getMaxConnections());
+        values.put("min", poolStats.getMinConnections());
+        values.put("timeouts", timeouts.sum());
+        values.put("acquireMicros", summary(acquireMicros));
+        values.put("usageMillis", summary(usageMillis));
+        values.put("creationMillis", summary(creationMillis));
+        return values;
+    }
+
+    /**
+     * 히스토그램 요약 (count / mean / p50 / p95 / p99 / p99.9 / max)
+     */
+    static Map<String, Object> summary(Histogram histogram) {
+        Histogram copy = histogram.copy();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", copy.getTotalCount());
+        values.put("mean", copy.getMean());
+        values.put("p50", copy.getValueAtPercentile(50.0));
+        values.put("p95", copy.getValueAtPercentile(95.0));
+        values.put("p99", copy.getValueAtPercentile(99.0));
+        values.put("p999", copy.getValueAtPercentile(99.9));
+        values.put("max", copy.getMaxValue());
+        return values;
+    }
+}
@@ -0,0 +1,57 @@
+package org.scoula.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prometheus histogram 형식의 지연시간 분포 (고정 버킷)
+ * - 버킷마다 LongAdder 하나, 기록 시 해당 버킷 하나만 증가 (누적 값은 내보낼 때 계산)
+ * - 경합이 심해도 스레드별 셀에 나눠 더하므로 요청 경로에서 락/CAS 재시도가 거의 없음
+ */
+public class LatencyHistogram {
+
+    // 버킷 상한 (초) - 5ms ~ 10s
+    static final double[] BUCKET_SECONDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKET_SECONDS[i] * 1_000_000_000L);
+        }
+    }
+
+    // 마지막 칸은 +Inf
+    private final LongAdder[] buckets = new LongAdder[BUCKET_SECONDS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BUCKET_NANOS.length && nanos > BUCKET_NANOS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * 버킷별 누적 건수 (마지막 값 = 전체 건수)
+     */
+    public long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            counts[i] = total;
+        }
+        return counts;
+    }
+
+    public double sumSeconds() {
+        return sumNanos.sum() / 1e9;
+    }
+}
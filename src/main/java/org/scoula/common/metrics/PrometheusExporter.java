@@ -0,0 +1,223 @@
+package org.scoula.common.metrics;
+
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prometheus 텍스트 형식(0.0.4) 지표 출력
+ * - http_server_requests_* : 경로 템플릿별 지연시간 histogram / 상태 코드별 건수 / 처리 중 요청 수
+ * - jvm_*, process_*       : GC / 힙·비힙 / 스레드 / 클래스 / CPU
+ * - hikaricp_*             : 풀별 커넥션 게이지, 획득·사용 시간 summary, 타임아웃
+ * 값은 스크랩 시점에만 읽으므로 요청 경로에는 LongAdder 증가 외의 비용이 없음
+ */
+public class PrometheusExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final RequestMetrics requestMetrics;
+    private final HikariMetricsTrackerFactory hikariMetrics;
+
+    public PrometheusExporter(RequestMetrics requestMetrics, HikariMetricsTrackerFactory hikariMetrics) {
+        this.requestMetrics = requestMetrics;
+        this.hikariMetrics = hikariMetrics;
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        writeRequests(out);
+        writeJvm(out);
+        writeHikari(out);
+        return out.toString();
+    }
+
+    private void writeRequests(StringBuilder out) {
+        header(out, "http_server_requests_seconds", "histogram", "HTTP request latency by route template");
+        for (RequestMetrics.Route route : requestMetrics.getRoutes()) {
+            String labels = "method=\"" + escape(route.getMethod()) + "\",route=\"" + escape(route.getPattern()) + '"';
+            LatencyHistogram latency = route.getLatency();
+            long[] counts = latency.cumulativeCounts();
+            for (int i = 0; i < LatencyHistogram.BUCKET_SECONDS.length; i++) {
+                sample(out, "http_server_requests_seconds_bucket",
+                        labels + ",le=\"" + LatencyHistogram.BUCKET_SECONDS[i] + '"', counts[i]);
+            }
+            sample(out, "http_server_requests_seconds_bucket", labels + ",le=\"+Inf\"", counts[counts.length - 1]);
+            sample(out, "http_server_requests_seconds_sum", labels, latency.sumSeconds());
+            sample(out, "http_server_requests_seconds_count", labels, counts[counts.length - 1]);
+        }
+
+        header(out, "http_server_requests_total", "counter", "HTTP requests by route template and status");
+        for (RequestMetrics.Route route : requestMetrics.getRoutes()) {
+            String labels = "method=\"" + escape(route.getMethod()) + "\",route=\"" + escape(route.getPattern()) + '"';
+            for (Map.Entry<Integer, LongAdder> status : new TreeMap<>(route.getStatuses()).entrySet()) {
+                sample(out, "http_server_requests_total",
+                        labels + ",status=\"" + status.getKey() + '"', status.getValue().sum());
+            }
+        }
+
+        header(out, "http_server_requests_in_flight", "gauge", "HTTP requests currently being handled");
+        for (RequestMetrics.Route route : requestMetrics.getRoutes()) {
+            sample(out, "http_server_requests_in_flight",
+                    "method=\"" + escape(route.getMethod()) + "\",route=\"" + escape(route.getPattern()) + '"',
+                    route.getInFlight().sum());
+        }
+    }
+
+    private void writeJvm(StringBuilder out) {
+        header(out, "jvm_gc_collection_seconds", "summary", "Time spent in a given JVM garbage collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String labels = "gc=\"" + escape(gc.getName()) + '"';
+            sample(out, "jvm_gc_collection_seconds_count", labels, gc.getCollectionCount());
+            sample(out, "jvm_gc_collection_seconds_sum", labels, gc.getCollectionTime() / 1000.0);
+        }
+
+        header(out, "jvm_memory_bytes_used", "gauge", "Used bytes of a given JVM memory area");
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        sample(out, "jvm_memory_bytes_used", "area=\"heap\"", heap.getUsed());
+        sample(out, "jvm_memory_bytes_used", "area=\"nonheap\"", nonHeap.getUsed());
+        header(out, "jvm_memory_bytes_committed", "gauge", "Committed bytes of a given JVM memory area");
+        sample(out, "jvm_memory_bytes_committed", "area=\"heap\"", heap.getCommitted());
+        sample(out, "jvm_memory_bytes_committed", "area=\"nonheap\"", nonHeap.getCommitted());
+        header(out, "jvm_memory_bytes_max", "gauge", "Max bytes of a given JVM memory area");
+        sample(out, "jvm_memory_bytes_max", "area=\"heap\"", heap.getMax());
+        sample(out, "jvm_memory_bytes_max", "area=\"nonheap\"", nonHeap.getMax());
+
+        header(out, "jvm_memory_pool_bytes_used", "gauge", "Used bytes of a given JVM memory pool");
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            sample(out, "jvm_memory_pool_bytes_used", "pool=\"" + escape(pool.getName()) + '"',
+                    pool.getUsage().getUsed());
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        header(out, "jvm_threads_current", "gauge", "Current thread count of a JVM");
+        sample(out, "jvm_threads_current", null, threads.getThreadCount());
+        header(out, "jvm_threads_daemon", "gauge", "Daemon thread count of a JVM");
+        sample(out, "jvm_threads_daemon", null, threads.getDaemonThreadCount());
+        header(out, "jvm_threads_peak", "gauge", "Peak thread count of a JVM");
+        sample(out, "jvm_threads_peak", null, threads.getPeakThreadCount());
+
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        header(out, "jvm_classes_loaded", "gauge", "The number of classes that are currently loaded in the JVM");
+        sample(out, "jvm_classes_loaded", null, classes.getLoadedClassCount());
+
+        header(out, "process_start_time_seconds", "gauge", "Start time of the process since unix epoch in seconds");
+        sample(out, "process_start_time_seconds", null, ManagementFactory.getRuntimeMXBean().getStartTime() / 1000.0);
+
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            header(out, "process_cpu_seconds_total", "counter", "Total user and system CPU time spent in seconds");
+            sample(out, "process_cpu_seconds_total", null,
+                    ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime() / 1e9);
+        }
+        header(out, "system_load_average_1m", "gauge", "System load average for the last minute");
+        sample(out, "system_load_average_1m", null, os.getSystemLoadAverage());
+    }
+
+    private void writeHikari(StringBuilder out) {
+        Collection<HikariPoolMetrics> pools = hikariMetrics != null
+                ? hikariMetrics.getPools() : Collections.emptyList();
+        if (pools.isEmpty()) {
+            return;
+        }
+
+        gauge(out, pools, "hikaricp_connections_active", "Active connections", PoolStats::getActiveConnections);
+        gauge(out, pools, "hikaricp_connections_idle", "Idle connections", PoolStats::getIdleConnections);
+        gauge(out, pools, "hikaricp_connections", "Total connections", PoolStats::getTotalConnections);
+        gauge(out, pools, "hikaricp_connections_pending", "Threads awaiting connections", PoolStats::getPendingThreads);
+        gauge(out, pools, "hikaricp_connections_max", "Max connections", PoolStats::getMaxConnections);
+        gauge(out, pools, "hikaricp_connections_min", "Min connections", PoolStats::getMinConnections);
+
+        header(out, "hikaricp_connections_timeout_total", "counter", "Connection acquisition timeouts");
+        for (HikariPoolMetrics pool : pools) {
+            sample(out, "hikaricp_connections_timeout_total", poolLabel(pool), pool.getTimeouts());
+        }
+
+        header(out, "hikaricp_connections_acquire_seconds", "summary", "Connection acquisition time");
+        for (HikariPoolMetrics pool : pools) {
+            summary(out, "hikaricp_connections_acquire_seconds", poolLabel(pool), pool.getAcquireMicros(), 1e-6);
+        }
+        header(out, "hikaricp_connections_usage_seconds", "summary", "Connection usage time");
+        for (HikariPoolMetrics pool : pools) {
+            summary(out, "hikaricp_connections_usage_seconds", poolLabel(pool), pool.getUsageMillis(), 1e-3);
+        }
+    }
+
+    private interface PoolGauge {
+        int value(PoolStats stats);
+    }
+
+    private static void gauge(StringBuilder out, Collection<HikariPoolMetrics> pools, String name, String help,
+                              PoolGauge gauge) {
+        header(out, name, "gauge", help);
+        for (HikariPoolMetrics pool : pools) {
+            sample(out, name, poolLabel(pool), gauge.value(pool.getPoolStats()));
+        }
+    }
+
+    // HdrHistogram 은 합계를 보관하지 않으므로 _sum 은 mean * count 로 계산
+    private static void summary(StringBuilder out, String name, String labels, Histogram histogram, double unit) {
+        Histogram copy = histogram.copy();
+        for (double quantile : QUANTILES) {
+            sample(out, name, labels + ",quantile=\"" + quantile + '"',
+                    copy.getValueAtPercentile(quantile * 100) * unit);
+        }
+        sample(out, name + "_sum", labels, copy.getMean() * copy.getTotalCount() * unit);
+        sample(out, name + "_count", labels, copy.getTotalCount());
+    }
+
+    private static String poolLabel(HikariPoolMetrics pool) {
+        return "pool=\"" + escape(pool.getPoolName()) + '"';
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        appendName(out, name, labels).append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        appendName(out, name, labels);
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static StringBuilder appendName(StringBuilder out, String name, String labels) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        return out.append(' ');
+    }
+
+    // 라벨 값 이스케이프: 역슬래시, 큰따옴표, 줄바꿈
+    static String escape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,54 @@
+package org.scoula.common.metrics;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 템플릿(@RequestMapping 패턴) + HTTP 메서드별 요청 지표
+ * - 키는 실제 URI 가 아닌 패턴(/api/files/{id})이므로 시계열 수가 핸들러 수로 제한됨
+ */
+public class RequestMetrics {
+
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    public Route route(String method, String pattern) {
+        String key = method + ' ' + pattern;
+        Route route = routes.get(key);
+        return route != null ? route : routes.computeIfAbsent(key, k -> new Route(method, pattern));
+    }
+
+    public Iterable<Route> getRoutes() {
+        return routes.values();
+    }
+
+    @Getter
+    public static final class Route {
+        private final String method;
+        private final String pattern;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder inFlight = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        Route(String method, String pattern) {
+            this.method = method;
+            this.pattern = pattern;
+        }
+
+        public void record(int status, long nanos) {
+            latency.record(nanos);
+            LongAdder counter = statuses.get(status);
+            if (counter == null) {
+                counter = statuses.computeIfAbsent(status, s -> new LongAdder());
+            }
+            counter.increment();
+        }
+
+        public Map<Integer, LongAdder> getStatuses() {
+            return statuses;
+        }
+    }
+}
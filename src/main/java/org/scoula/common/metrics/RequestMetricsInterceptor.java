@@ -0,0 +1,54 @@
+package org.scoula.common.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 모든 핸들러의 처리 시간 / 상태 코드 / 처리 중 요청 수 기록
+ * - 비동기 요청은 최초 디스패치에서 시작 시각을 남기고, 비동기 디스패치의 afterCompletion 에서 기록
+ * - 매핑되지 않은 요청(404)은 경로별로 나누지 않고 "UNMATCHED" 하나로 집계
+ */
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    private static final String ROUTE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".route";
+
+    private final RequestMetrics metrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            RequestMetrics.Route route = metrics.route(request.getMethod(),
+                    pattern != null ? pattern.toString() : "UNMATCHED");
+            route.getInFlight().increment();
+            request.setAttribute(ROUTE_ATTRIBUTE, route);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        RequestMetrics.Route route = (RequestMetrics.Route) request.getAttribute(ROUTE_ATTRIBUTE);
+        if (start == null || route == null) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        request.removeAttribute(ROUTE_ATTRIBUTE);
+
+        int status = response.getStatus();
+        if (ex != null && status < 400) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        route.record(status, System.nanoTime() - start);
+        route.getInFlight().decrement();
+    }
+}
@@ -0,0 +1,101 @@
+package org.scoula.common.mybatis;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 대량 등록/수정 지원
+ * - batch(...)   : ExecutorType.BATCH 세션으로 같은 SQL 을 행마다 addBatch, flushSize 마다 executeBatch
+ *                  (MySQL 드라이버의 rewriteBatchedStatements=true 와 함께 쓰면 multi-row INSERT 로 재작성됨)
+ * - chunked(...) : multi-row INSERT / upsert 매퍼(foreach)를 chunkSize 단위로 나눠서 호출
+ *
+ * 주의: 하나의 트랜잭션 안에서 SIMPLE 세션과 BATCH 세션을 섞어 쓸 수 없으므로
+ *       batch(...) 는 자체 트랜잭션을 열거나, 이미 BATCH 세션을 쓰는 트랜잭션 안에서만 호출해야 한다.
+ */
+public class MybatisBatchSupport {
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushSize;
+
+    public MybatisBatchSupport(SqlSessionTemplate batchSqlSessionTemplate,
+                               PlatformTransactionManager transactionManager,
+                               int flushSize) {
+        this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * items 의 각 항목에 대해 매퍼 메서드를 호출하고 flushSize 마다 일괄 실행
+     * 예) batchSupport.batch(ProductRateMapper.class, rates, ProductRateMapper::insert);
+     *
+     * @return 처리된 행 수 (드라이버가 건수를 알려주지 않는 경우 항목 수로 계산)
+     */
+    public <M, T> int batch(Class<M> mapperType, Collection<T> items, BiConsumer<M, T> operation) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return doBatch(mapperType, items, operation);
+        }
+        Integer rows = transactionTemplate.execute(status -> doBatch(mapperType, items, operation));
+        return rows == null ? 0 : rows;
+    }
+
+    private <M, T> int doBatch(Class<M> mapperType, Collection<T> items, BiConsumer<M, T> operation) {
+        M mapper = batchSqlSessionTemplate.getMapper(mapperType);
+        int rows = 0;
+        int pending = 0;
+        for (T item : items) {
+            operation.accept(mapper, item);
+            if (++pending == flushSize) {
+                rows += countRows(batchSqlSessionTemplate.flushStatements(), pending);
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            rows += countRows(batchSqlSessionTemplate.flushStatements(), pending);
+        }
+        return rows;
+    }
+
+    private static int countRows(List<BatchResult> results, int statements) {
+        int rows = 0;
+        boolean unknown = false;
+        for (BatchResult result : results) {
+            for (int count : result.getUpdateCounts()) {
+                if (count >= 0) {
+                    rows += count;
+                } else if (count == Statement.SUCCESS_NO_INFO) {
+                    unknown = true;
+                }
+            }
+        }
+        // rewriteBatchedStatements 사용 시 MySQL 은 SUCCESS_NO_INFO(-2)를 반환
+        return unknown ? Math.max(rows, statements) : rows;
+    }
+
+    /**
+     * 목록을 chunkSize 단위로 나눠 multi-row INSERT 매퍼 호출
+     * 예) MybatisBatchSupport.chunked(rates, 500, productRateMapper::insertAll);
+     *
+     * @return 매퍼가 반환한 행 수 합계
+     */
+    public static <T> int chunked(List<T> items, int chunkSize, ToIntFunction<List<T>> insertChunk) {
+        int rows = 0;
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            rows += insertChunk.applyAsInt(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,150 @@
+package org.scoula.common.mybatis;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis statement 별 실행 시간 / 처리 행 수 수집 플러그인
+ * - RootConfig.sqlSessionFactory 에서 플러그인으로 등록
+ * - slowQueryMillis 를 넘는 SQL 은 WARN 으로 기록 (바인딩 파라미터 값은 남기지 않고 이름만 기록)
+ * - 모든 SQL 을 출력하는 log4jdbc 대신 운영 환경의 SQL 가시성 확보 용도
+ * - 캐시(2차 캐시 / 세션 로컬 캐시)에서 반환된 조회는 실행 시간 / 행 수에 넣지 않고 cacheHits 로 따로 집계
+ *   (Executor 는 CachingExecutor 로 감싸진 상태로 가로채지므로, 같은 스레드에서 StatementHandler 실행이
+ *    있었는지로 실제 SQL 실행 여부를 판단)
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = StatementHandler.class, method = "query",
+                args = {Statement.class, ResultHandler.class})
+})
+@Log4j2
+public class SqlMetricsInterceptor implements Interceptor {
+
+    // 스레드별 실제 조회 SQL 실행 횟수
+    private static final ThreadLocal<long[]> EXECUTED_QUERIES = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Map<String, SqlStatementStats> statements = new ConcurrentHashMap<>();
+    private final long slowQueryMicros;
+
+    public SqlMetricsInterceptor(long slowQueryMillis) {
+        this.slowQueryMicros = TimeUnit.MILLISECONDS.toMicros(slowQueryMillis);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long[] executedQueries = EXECUTED_QUERIES.get();
+        if (invocation.getTarget() instanceof StatementHandler) {
+            executedQueries[0]++;
+            return invocation.proceed();
+        }
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        SqlStatementStats stats = statements.computeIfAbsent(ms.getId(), SqlStatementStats::new);
+        boolean query = "query".equals(invocation.getMethod().getName());
+        long executedBefore = executedQueries[0];
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            stats.recordError(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            throw e;
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        if (query && executedQueries[0] == executedBefore) {
+            stats.recordCacheHit();
+            return result;
+        }
+
+        boolean slow = elapsedMicros >= slowQueryMicros;
+        stats.record(elapsedMicros, rowCount(result), slow);
+        if (slow) {
+            logSlowQuery(invocation, ms, elapsedMicros);
+        }
+        return result;
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Number) {
+            // BATCH 실행기의 update 는 실제 행 수 대신 음수 표식(BATCH_UPDATE_RETURN_VALUE)을 반환하므로 제외
+            return Math.max(0, ((Number) result).longValue());
+        }
+        return result == null ? 0 : 1;
+    }
+
+    private void logSlowQuery(Invocation invocation, MappedStatement ms, long elapsedMicros) {
+        Object[] args = invocation.getArgs();
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+        List<String> parameterNames = new ArrayList<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            parameterNames.add(mapping.getProperty() + "=?");
+        }
+        log.warn("느린 SQL {}ms [{}] {} params={}",
+                elapsedMicros / 1_000, ms.getId(), boundSql.getSql().replaceAll("\\s+", " ").trim(), parameterNames);
+    }
+
+    /**
+     * 정렬 기준별 상위 N 개 statement
+     *
+     * @param n    0 이하이면 빈 목록
+     * @param sort total(누적 시간) | count | p99 | max | rows
+     */
+    public List<SqlStatementStats> top(int n, String sort) {
+        Comparator<SqlStatementStats> comparator;
+        switch (sort) {
+            case "count":
+                comparator = Comparator.comparingLong(SqlStatementStats::getCount);
+                break;
+            case "p99":
+                comparator = Comparator.comparingLong(s -> s.getLatencyMicros().getValueAtPercentile(99.0));
+                break;
+            case "max":
+                comparator = Comparator.comparingLong(s -> s.getLatencyMicros().getMaxValue());
+                break;
+            case "rows":
+                comparator = Comparator.comparingLong(SqlStatementStats::getRows);
+                break;
+            default:
+                comparator = Comparator.comparingLong(SqlStatementStats::getTotalMicros);
+        }
+        List<SqlStatementStats> sorted = new ArrayList<>(statements.values());
+        sorted.sort(comparator.reversed());
+        return sorted.subList(0, Math.max(0, Math.min(n, sorted.size())));
+    }
+
+    public Collection<SqlStatementStats> getStatements() {
+        return statements.values();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+}
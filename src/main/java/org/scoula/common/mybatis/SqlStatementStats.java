@@ -0,0 +1,93 @@
+package org.scoula.common.mybatis;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매핑된 statement 하나의 실행 통계
+ * - 지연시간 히스토그램(μs), 처리 행 수, 오류 수, 느린 SQL 수 (실제 SQL 실행만)
+ * - 캐시에서 반환된 조회 수 (cacheHits)
+ */
+public class SqlStatementStats {
+
+    private final String statementId;
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    SqlStatementStats(String statementId) {
+        this.statementId = statementId;
+    }
+
+    void record(long elapsedMicros, long rowCount, boolean slow) {
+        latencyMicros.recordValue(elapsedMicros);
+        rows.add(rowCount);
+        if (slow) {
+            slowCount.increment();
+        }
+    }
+
+    void recordError(long elapsedMicros) {
+        latencyMicros.recordValue(elapsedMicros);
+        errors.increment();
+    }
+
+    void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public long getCount() {
+        return latencyMicros.getTotalCount();
+    }
+
+    /**
+     * 누적 실행 시간(μs) 근사값 = 평균 x 횟수
+     */
+    public long getTotalMicros() {
+        return (long) (latencyMicros.getMean() * latencyMicros.getTotalCount());
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public Map<String, Object> snapshot() {
+        Histogram copy = latencyMicros.copy();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("statementId", statementId);
+        values.put("count", copy.getTotalCount());
+        values.put("totalMillis", (long) (copy.getMean() * copy.getTotalCount()) / 1_000);
+        values.put("meanMicros", copy.getMean());
+        values.put("p50Micros", copy.getValueAtPercentile(50.0));
+        values.put("p95Micros", copy.getValueAtPercentile(95.0));
+        values.put("p99Micros", copy.getValueAtPercentile(99.0));
+        values.put("maxMicros", copy.getMaxValue());
+        values.put("rows", rows.sum());
+        values.put("errors", errors.sum());
+        values.put("slowCount", slowCount.sum());
+        values.put("cacheHits", cacheHits.sum());
+        return values;
+    }
+}
@@ -0,0 +1,100 @@
+package org.scoula.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA - Generic Cell Rate Algorithm)
+ * - 키마다 "다음 요청이 도착해야 할 이론적 시각(TAT)" 하나만 AtomicLong 으로 보관, CAS 로 갱신 (락 없음)
+ * - 초당 ratePerSecond 개, 최대 burst 개까지 연속 허용
+ * - 키 저장소는 Caffeine (내부적으로 분할된 ConcurrentHashMap), 마지막 요청 후 idleTimeout 이 지나면 제거
+ * - update() 로 실행 중 rate / burst 변경 (두 값을 불변 객체 하나로 교체하므로 요청마다 volatile 읽기 한 번)
+ */
+public class GcraRateLimiter {
+
+    private volatile Limits limits;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public GcraRateLimiter(double ratePerSecond, int burst, long maximumKeys) {
+        this(ratePerSecond, burst, maximumKeys, System::nanoTime, Ticker.systemTicker());
+    }
+
+    GcraRateLimiter(double ratePerSecond, int burst, long maximumKeys, LongSupplier nanoClock, Ticker ticker) {
+        this.limits = new Limits(ratePerSecond, burst);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(limits.idleTimeout())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 거부 - 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        Limits current = limits;
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long last = tat.get();
+            long base = last == Long.MIN_VALUE || last - now < 0 ? now : last;
+            long next = base + current.emissionNanos;
+            long waitNanos = next - now - current.emissionNanos - current.toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(last, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 허용량 변경 - 이미 쌓인 TAT 는 그대로 두고 이후 요청부터 새 간격 / 허용 버스트 적용
+     */
+    public void update(double ratePerSecond, int burst) {
+        Limits updated = new Limits(ratePerSecond, burst);
+        limits = updated;
+        buckets.policy().expireAfterAccess()
+                .ifPresent(expiration -> expiration.setExpiresAfter(updated.idleTimeout()));
+    }
+
+    public double getRatePerSecond() {
+        return limits.ratePerSecond;
+    }
+
+    public int getBurst() {
+        return limits.burst;
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+
+    private static final class Limits {
+        final double ratePerSecond;
+        final int burst;
+        final long emissionNanos;
+        final long toleranceNanos;
+
+        Limits(double ratePerSecond, int burst) {
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.emissionNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            this.toleranceNanos = emissionNanos * (burst - 1L);
+        }
+
+        // 버킷이 가득 찰 때까지 걸리는 시간 + 여유 60초 동안 요청이 없으면 키 제거
+        Duration idleTimeout() {
+            return Duration.ofNanos(emissionNanos + toleranceNanos).plusSeconds(60);
+        }
+    }
+}
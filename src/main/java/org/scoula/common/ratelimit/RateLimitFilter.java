@@ -0,0 +1,154 @@
+package org.scoula.common.ratelimit;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 수 제한 + 경로별 동시 처리 수 제한 필터 (DispatcherServlet 앞단)
+ * - 키(JWT subject 또는 IP)별 GCRA 토큰 버킷 초과 시 429 + Retry-After
+ * - 경로별 bulkhead 가 가득 차면 대기 없이 503 + Retry-After
+ * - 비동기 요청은 비동기 처리가 끝날 때 bulkhead 반환
+ * WebConfig 에서 DelegatingFilterProxy("rateLimitFilter")로 등록, 빈은 RateLimitConfig 에서 생성
+ */
+@Log4j2
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final GcraRateLimiter rateLimiter;
+    private final RouteBulkheads bulkheads;
+    private final RequestKeyResolver keyResolver;
+    private final List<String> excludePatterns;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+
+    public RateLimitFilter(GcraRateLimiter rateLimiter, RouteBulkheads bulkheads, RequestKeyResolver keyResolver,
+                           List<String> excludePatterns) {
+        this.rateLimiter = rateLimiter;
+        this.bulkheads = bulkheads;
+        this.keyResolver = keyResolver;
+        this.excludePatterns = excludePatterns;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        for (String pattern : excludePatterns) {
+            if (matcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = keyResolver.resolve(request);
+        long waitNanos = rateLimiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            log.debug("요청 수 제한 초과 key={} path={}", key, request.getRequestURI());
+            reject(response, 429, waitNanos);
+            return;
+        }
+
+        RouteBulkheads.Bulkhead bulkhead = bulkheads.match(path(request));
+        if (bulkhead != null && !bulkhead.tryEnter()) {
+            bulkheadRejected.increment();
+            log.debug("동시 처리 수 초과 pattern={} path={}", bulkhead.getPattern(), request.getRequestURI());
+            reject(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+
+        allowed.increment();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = bulkhead != null && request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new BulkheadReleaser(bulkhead));
+            } else if (bulkhead != null) {
+                bulkhead.exit();
+            }
+        }
+    }
+
+    private static void reject(HttpServletResponse response, int status, long waitNanos) throws IOException {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(status == 429
+                ? "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도하세요.\"}"
+                : "{\"message\":\"요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도하세요.\"}");
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("allowed", allowed.sum());
+        stats.put("rateLimited", rateLimited.sum());
+        stats.put("bulkheadRejected", bulkheadRejected.sum());
+        stats.put("trackedKeys", rateLimiter.trackedKeys());
+        stats.put("bulkheads", bulkheads.snapshot());
+        return stats;
+    }
+
+    // 비동기 요청 완료/오류/타임아웃 중 처음 한 번만 반환
+    private static final class BulkheadReleaser implements AsyncListener {
+        private final RouteBulkheads.Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        BulkheadReleaser(RouteBulkheads.Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.exit();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
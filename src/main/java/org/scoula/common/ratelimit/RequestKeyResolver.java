@@ -0,0 +1,79 @@
+package org.scoula.common.ratelimit;
+
+import io.jsonwebtoken.Claims;
+import org.scoula.security.util.JwtClaimsCache;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 주체 / 요청 제한 키 결정
+ * - Authorization: Bearer 토큰이 유효하면 "sub:{subject}" (JwtProcessor.getUsername 과 같은 값)
+ * - 토큰이 없거나 검증에 실패하면 "ip:{remoteAddr}"
+ * 서명을 검증하지 않고 subject 만 꺼내면 가짜 subject 로 제한을 우회할 수 있으므로 반드시 검증한다.
+ * 검증 결과는 JwtClaimsCache 를 거치므로 같은 토큰의 반복 요청은 HMAC 계산 없이 처리된다.
+ * 서명 키는 JwtKeyRing 이 헤더의 kid 로 선택한다 (키 교체 중에도 이전 키 토큰 검증).
+ * 키가 제거 / 폐기되면 JwtKeyRing 의 키 변경 리스너로 JwtClaimsCache 를 비워 해당 토큰을 바로 거부한다.
+ * 한 요청 안에서는 결과를 요청 속성에 보관하므로 로그(MDC), 요청 제한, 응답 캐시, 관리자 검사가 같은 값을 공유한다.
+ */
+public class RequestKeyResolver {
+
+    private static final String BEARER = "Bearer ";
+    private static final String CLAIMS_ATTRIBUTE = RequestKeyResolver.class.getName() + ".claims";
+    // 토큰이 없거나 유효하지 않음 (요청 속성에는 null 을 넣을 수 없으므로 표식 사용)
+    private static final Object NO_CLAIMS = new Object();
+
+    private final JwtKeyRing keyRing;
+    private final JwtClaimsCache claimsCache;
+
+    /**
+     * @param keyRing JWT 키 목록 (null 이거나 키가 없으면 항상 IP 기준)
+     */
+    public RequestKeyResolver(JwtKeyRing keyRing, JwtClaimsCache claimsCache) {
+        this.keyRing = keyRing == null || keyRing.isEmpty() ? null : keyRing;
+        this.claimsCache = claimsCache;
+        if (this.keyRing != null) {
+            this.keyRing.addKeyChangeListener(claimsCache::invalidateAll);
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String subject = subject(request);
+        return subject != null ? "sub:" + subject : "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 검증된 토큰의 subject, 토큰이 없거나 유효하지 않으면 null
+     */
+    public String subject(HttpServletRequest request) {
+        Claims claims = claims(request);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * 검증된 토큰의 claims, 토큰이 없거나 유효하지 않으면 null
+     */
+    public Claims claims(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (cached != null) {
+            return cached == NO_CLAIMS ? null : (Claims) cached;
+        }
+        Claims claims = parse(request.getHeader(HttpHeaders.AUTHORIZATION));
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims != null ? claims : NO_CLAIMS);
+        return claims;
+    }
+
+    private Claims parse(String header) {
+        if (keyRing == null || header == null || !header.startsWith(BEARER)) {
+            return null;
+        }
+        try {
+            keyRing.retireDueKeys();
+            return claimsCache.get(header.substring(BEARER.length()), keyRing::parse);
+        } catch (RuntimeException e) {
+            // 유효하지 않은 토큰은 인증 필터에서 401 처리, 여기서는 익명(IP 기준)으로 취급
+            return null;
+        }
+    }
+}
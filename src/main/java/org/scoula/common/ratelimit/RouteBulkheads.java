@@ -0,0 +1,86 @@
+package org.scoula.common.ratelimit;
+
+import lombok.Getter;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 패턴별 동시 처리 수 제한 (대기 없이 즉시 실패)
+ * - 설정 형식: "/api/files/**=8,/api/**=40" (앞에 적은 패턴이 우선)
+ * - DB 커넥션 풀보다 많은 요청이 한 경로에 몰려 다른 경로까지 커넥션을 못 얻는 상황 방지
+ */
+public class RouteBulkheads {
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    public RouteBulkheads(String spec) {
+        if (spec == null) {
+            return;
+        }
+        for (String entry : spec.split(",")) {
+            int eq = entry.lastIndexOf('=');
+            if (entry.isBlank() || eq < 0) {
+                continue;
+            }
+            bulkheads.add(new Bulkhead(entry.substring(0, eq).trim(), Integer.parseInt(entry.substring(eq + 1).trim())));
+        }
+    }
+
+    /**
+     * 경로에 해당하는 bulkhead, 없으면 null
+     */
+    public Bulkhead match(String path) {
+        for (Bulkhead bulkhead : bulkheads) {
+            if (matcher.match(bulkhead.pattern, path)) {
+                return bulkhead;
+            }
+        }
+        return null;
+    }
+
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Bulkhead bulkhead : bulkheads) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("pattern", bulkhead.pattern);
+            row.put("maxConcurrent", bulkhead.maxConcurrent);
+            row.put("inFlight", bulkhead.maxConcurrent - bulkhead.semaphore.availablePermits());
+            row.put("rejected", bulkhead.rejected.sum());
+            result.add(row);
+        }
+        return result;
+    }
+
+    @Getter
+    public static final class Bulkhead {
+        private final String pattern;
+        private final int maxConcurrent;
+        private final Semaphore semaphore;
+        private final LongAdder rejected = new LongAdder();
+
+        Bulkhead(String pattern, int maxConcurrent) {
+            this.pattern = pattern;
+            this.maxConcurrent = maxConcurrent;
+            this.semaphore = new Semaphore(maxConcurrent);
+        }
+
+        public boolean tryEnter() {
+            if (semaphore.tryAcquire()) {
+                return true;
+            }
+            rejected.increment();
+            return false;
+        }
+
+        public void exit() {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.scoula.common.startup;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 빠른 시작 모드: 빈 정의를 지연 초기화(lazy-init)로 변경
+ * - 컨트롤러 / 서비스 / 매퍼 등은 처음 사용될 때 생성 (요청 매핑 등록은 빈 타입만으로 가능)
+ * - 제외: 인프라 빈, lazy 여부를 명시한 빈(@Lazy), SmartInitializingSingleton / SmartLifecycle,
+ *         excludes 로 지정한 빈 (커넥션 풀처럼 시작 시 준비되어야 하는 빈)
+ */
+public class LazyInitBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final boolean enabled;
+    private final Set<String> excludes;
+
+    public LazyInitBeanFactoryPostProcessor(boolean enabled, Collection<String> excludes) {
+        this.enabled = enabled;
+        this.excludes = new HashSet<>(excludes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (!enabled) {
+            return;
+        }
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (isEager(beanFactory, name, definition)) {
+                continue;
+            }
+            definition.setLazyInit(true);
+        }
+    }
+
+    private boolean isEager(ConfigurableListableBeanFactory beanFactory, String name, BeanDefinition definition) {
+        if (excludes.contains(name) || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+            return true;
+        }
+        if (definition instanceof AbstractBeanDefinition
+                && ((AbstractBeanDefinition) definition).getLazyInit() != null) {
+            return true;
+        }
+        Class<?> type = beanFactory.getType(name, false);
+        return type != null && (SmartInitializingSingleton.class.isAssignableFrom(type)
+                || SmartLifecycle.class.isAssignableFrom(type));
+    }
+}
@@ -0,0 +1,151 @@
+package org.scoula.common.startup;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨텍스트 시작 시 빈별 생성 시간 기록
+ * - total : 인스턴스 생성 ~ 초기화 완료 (의존 빈 생성 시간 포함)
+ * - self  : total 에서 그 사이 생성된 의존 빈 시간을 뺀 값
+ * - 컨텍스트 refresh 완료 시 self 기준 상위 빈과 전체 소요 시간을 로그로 남김 (/admin/startup 으로도 조회)
+ * 이 빈보다 먼저 생성되는 BeanPostProcessor 는 기록되지 않음
+ */
+@Log4j2
+public class StartupTimeline implements InstantiationAwareBeanPostProcessor, PriorityOrdered,
+        ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
+
+    private static final int REPORT_TOP = 15;
+
+    private final long createdNanos = System.nanoTime();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 현재 생성 중인 빈 (의존 빈 시간을 부모의 self 에서 빼기 위함)
+    private final ThreadLocal<Deque<Frame>> creating = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private ApplicationContext applicationContext;
+    private volatile long refreshMillis = -1;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        if (refreshMillis < 0 && beanName != null) {
+            creating.get().push(new Frame(beanName, System.nanoTime()));
+        }
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Deque<Frame> stack = creating.get();
+        if (beanName == null || stack.isEmpty() || stack.stream().noneMatch(f -> f.name.equals(beanName))) {
+            return bean;    // FactoryBean 이 만든 객체 등 기록 시작이 없는 경우
+        }
+        // 생성에 실패해 끝나지 않은 프레임이 위에 남아 있으면 버림
+        Frame frame = stack.pop();
+        while (!frame.name.equals(beanName)) {
+            frame = stack.pop();
+        }
+        long total = System.nanoTime() - frame.startNanos;
+        if (!stack.isEmpty()) {
+            stack.peek().childNanos += total;
+        }
+        entries.put(beanName, new Entry(beanName, bean.getClass().getName(), total, total - frame.childNanos));
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // 자식(서블릿) 컨텍스트의 이벤트도 부모에게 전달되므로 자기 컨텍스트만 처리
+        if (event.getApplicationContext() != applicationContext || refreshMillis >= 0) {
+            return;
+        }
+        refreshMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdNanos);
+        creating.remove();
+
+        List<Entry> top = slowest(REPORT_TOP);
+        StringBuilder report = new StringBuilder();
+        for (Entry entry : top) {
+            report.append(String.format("%n  %7.1fms self %7.1fms total  %s (%s)",
+                    entry.selfNanos / 1e6, entry.totalNanos / 1e6, entry.name, entry.type));
+        }
+        log.info("[{}] 시작 완료 {}ms, 빈 {}개 생성 - self 시간 상위 {}개:{}",
+                applicationContext.getDisplayName(), refreshMillis, entries.size(), top.size(), report);
+    }
+
+    /**
+     * 관리자 엔드포인트용 스냅샷
+     */
+    public Map<String, Object> snapshot(int limit) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("context", applicationContext != null ? applicationContext.getDisplayName() : null);
+        values.put("refreshMillis", refreshMillis);
+        values.put("beanCount", entries.size());
+        List<Map<String, Object>> beans = new ArrayList<>();
+        for (Entry entry : slowest(limit)) {
+            Map<String, Object> bean = new LinkedHashMap<>();
+            bean.put("name", entry.name);
+            bean.put("type", entry.type);
+            bean.put("selfMillis", entry.selfNanos / 1e6);
+            bean.put("totalMillis", entry.totalNanos / 1e6);
+            beans.add(bean);
+        }
+        values.put("beans", beans);
+        return values;
+    }
+
+    private List<Entry> slowest(int limit) {
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparingLong((Entry e) -> e.selfNanos).reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    private static final class Frame {
+        final String name;
+        final long startNanos;
+        long childNanos;
+
+        Frame(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final String type;
+        final long totalNanos;
+        final long selfNanos;
+
+        Entry(String name, String type, long totalNanos, long selfNanos) {
+            this.name = name;
+            this.type = type;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+        }
+    }
+}
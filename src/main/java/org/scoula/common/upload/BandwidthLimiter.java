@@ -0,0 +1,38 @@
+package org.scoula.common.upload;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 바이트 수 제한 (한 사용자의 동시 업로드가 같은 한도를 나눠 씀)
+ * - 요청한 바이트만큼 다음 전송 가능 시각을 뒤로 미루고, 그 시각까지 대기
+ * - 가상 스레드에서도 캐리어 스레드를 점유하지 않도록 LockSupport.parkNanos 사용
+ */
+public class BandwidthLimiter {
+
+    private final double nanosPerByte;
+    private long nextFreeNanos = System.nanoTime();
+
+    public BandwidthLimiter(long bytesPerSecond) {
+        this.nanosPerByte = (double) TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+    }
+
+    public void acquire(int bytes) throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            nextFreeNanos = start + (long) (bytes * nanosPerByte);
+            waitNanos = start - now;
+        }
+        long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException("업로드 대기 중 인터럽트");
+            }
+            waitNanos = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.scoula.common.upload;
+
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * 읽는 동안 CRC32C 계산, 최대 크기 검사, 대역폭 제한을 함께 처리하는 채널
+ * - FileChannel.transferFrom 이 넘겨주는 (direct) 버퍼를 그대로 CRC32C 에 전달해 힙 복사 없음
+ */
+class ChecksumChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel delegate;
+    private final CRC32C crc = new CRC32C();
+    private final long maxBytes;
+    private final BandwidthLimiter limiter;
+    private long total;
+
+    ChecksumChannel(ReadableByteChannel delegate, long maxBytes, BandwidthLimiter limiter) {
+        this.delegate = delegate;
+        this.maxBytes = maxBytes;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int position = dst.position();
+        int read = delegate.read(dst);
+        if (read > 0) {
+            total += read;
+            if (total > maxBytes) {
+                throw new UploadLimitException(HttpStatus.PAYLOAD_TOO_LARGE, "파일 크기 제한 초과: " + maxBytes + " bytes");
+            }
+            ByteBuffer view = dst.duplicate();
+            view.position(position).limit(position + read);
+            crc.update(view);
+            if (limiter != null) {
+                limiter.acquire(read);
+            }
+        }
+        return read;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    String getChecksum() {
+        return String.format("%08x", crc.getValue());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
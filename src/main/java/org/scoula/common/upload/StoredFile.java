@@ -0,0 +1,19 @@
+package org.scoula.common.upload;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 저장된 업로드 파일 정보
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class StoredFile {
+    private final String id;
+    private final String originalName;
+    private final long size;
+    // CRC32C 체크섬 (16진수 8자리)
+    private final String crc32c;
+}
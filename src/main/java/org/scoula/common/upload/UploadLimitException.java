@@ -0,0 +1,18 @@
+package org.scoula.common.upload;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 업로드 제한 초과 (동시 업로드 수: 429, 파일 크기: 413)
+ */
+@Getter
+public class UploadLimitException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public UploadLimitException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,143 @@
+package org.scoula.common.upload;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 저장소
+ * - 요청 본문을 FileChannel.transferFrom 으로 디스크에 바로 기록 (힙에는 전송 버퍼 외에 쌓이지 않음)
+ * - 기록하면서 CRC32C 계산, 최대 크기 초과 시 즉시 중단
+ * - 사용자별 동시 업로드 수(Semaphore), 사용자별 초당 바이트 수(BandwidthLimiter) 제한
+ * - 파일은 임의 ID 로 저장({id}), 원래 이름/크기/체크섬은 {id}.properties 에 기록
+ */
+@Log4j2
+public class UploadStorage {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-f]{32}");
+    // transferFrom 1회 호출당 최대 전송 크기
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxConcurrentPerUser;
+    private final long bandwidthPerUser;
+
+    // 사용자별 제한 상태 (마지막 사용 후 10분 지나면 제거)
+    private final Cache<String, Semaphore> permits = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10)).build();
+    private final Cache<String, BandwidthLimiter> limiters = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10)).build();
+
+    /**
+     * @param bandwidthPerUser 사용자별 초당 업로드 바이트 수, 0 이하면 제한 없음
+     */
+    public UploadStorage(Path directory, long maxFileSize, int maxConcurrentPerUser, long bandwidthPerUser)
+            throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxFileSize = maxFileSize;
+        this.maxConcurrentPerUser = maxConcurrentPerUser;
+        this.bandwidthPerUser = bandwidthPerUser;
+        log.info("업로드 디렉토리: {} (최대 {} bytes, 사용자별 동시 {}건, 대역폭 {} B/s)",
+                this.directory, maxFileSize, maxConcurrentPerUser, bandwidthPerUser > 0 ? bandwidthPerUser : "무제한");
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장
+     *
+     * @param user     제한 단위 (RequestKeyResolver.resolve - "sub:{subject}" 또는 "ip:{remoteAddr}")
+     * @param throttle 대역폭 제한 적용 여부 (이미 컨테이너가 디스크에 받아 둔 multipart 파트는 false)
+     * @throws UploadLimitException 동시 업로드 수(429) 또는 파일 크기(413) 초과
+     */
+    public StoredFile store(String user, String originalName, InputStream in, boolean throttle) throws IOException {
+        Semaphore semaphore = permits.get(user, k -> new Semaphore(maxConcurrentPerUser));
+        if (!semaphore.tryAcquire()) {
+            throw new UploadLimitException(HttpStatus.TOO_MANY_REQUESTS, "동시 업로드 수 초과: " + maxConcurrentPerUser);
+        }
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Path part = directory.resolve(id + ".part");
+        try {
+            BandwidthLimiter limiter = throttle && bandwidthPerUser > 0
+                    ? limiters.get(user, k -> new BandwidthLimiter(bandwidthPerUser)) : null;
+            ChecksumChannel source = new ChecksumChannel(Channels.newChannel(in), maxFileSize, limiter);
+            try (FileChannel target = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            StoredFile stored = new StoredFile(id, sanitize(originalName), source.getTotal(), source.getChecksum());
+            writeMetadata(stored);
+            Files.move(part, directory.resolve(id), StandardCopyOption.ATOMIC_MOVE);
+            log.info("업로드 완료 user={} {}", user, stored);
+            return stored;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            Files.deleteIfExists(metadataPath(id));
+            throw e;
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public Optional<StoredFile> find(String id) throws IOException {
+        if (id == null || !ID_PATTERN.matcher(id).matches() || !Files.exists(directory.resolve(id))) {
+            return Optional.empty();
+        }
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(metadataPath(id), StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        }
+        return Optional.of(new StoredFile(id, metadata.getProperty("name"),
+                Long.parseLong(metadata.getProperty("size")), metadata.getProperty("crc32c")));
+    }
+
+    public Path path(StoredFile file) {
+        return directory.resolve(file.getId());
+    }
+
+    private void writeMetadata(StoredFile stored) throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("name", stored.getOriginalName());
+        metadata.setProperty("size", Long.toString(stored.getSize()));
+        metadata.setProperty("crc32c", stored.getCrc32c());
+        try (OutputStream out = Files.newOutputStream(metadataPath(stored.getId()), StandardOpenOption.CREATE_NEW)) {
+            metadata.store(out, null);
+        }
+    }
+
+    private Path metadataPath(String id) {
+        return directory.resolve(id + ".properties");
+    }
+
+    // 경로 구분자 / 제어 문자 제거 (다운로드 시 Content-Disposition 파일명으로만 사용)
+    private static String sanitize(String name) {
+        if (name == null) {
+            return "file";
+        }
+        String base = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        String cleaned = base.replaceAll("[\\p{Cntrl}\"]", "_").trim();
+        return cleaned.isEmpty() ? "file" : cleaned;
+    }
+}
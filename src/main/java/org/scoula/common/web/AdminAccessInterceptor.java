@@ -0,0 +1,63 @@
+package org.scoula.common.web;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.exception.ApiProblems;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * /admin/** 접근 제한 - 검증된 Bearer 토큰에 ROLE_ADMIN 이 있어야 핸들러 실행
+ * - 토큰이 없거나 유효하지 않으면 401 (WWW-Authenticate: Bearer), 관리자가 아니면 403
+ * - 역할은 "role" claim(문자열, ROLE_ 접두사 생략 가능) 또는 "roles" claim(목록)에서 확인
+ * 토큰 검증은 RequestKeyResolver 가 요청 단위로 한 번만 수행 (요청 제한 / 로그와 공유)
+ */
+@RequiredArgsConstructor
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final RequestKeyResolver requestKeyResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        Claims claims = requestKeyResolver.claims(request);
+        if (claims == null) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            ApiProblems.write(response, HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+        if (!isAdmin(claims)) {
+            ApiProblems.write(response, HttpServletResponse.SC_FORBIDDEN);
+            return false;
+        }
+        return true;
+    }
+
+    static boolean isAdmin(Claims claims) {
+        Object role = claims.get("role");
+        if (role instanceof String && isAdminRole((String) role)) {
+            return true;
+        }
+        Object roles = claims.get("roles");
+        if (roles instanceof Collection) {
+            for (Object each : (Collection<?>) roles) {
+                if (each instanceof String && isAdminRole((String) each)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAdminRole(String role) {
+        return ADMIN_ROLE.equals(role) || ADMIN_ROLE.equals("ROLE_" + role);
+    }
+}
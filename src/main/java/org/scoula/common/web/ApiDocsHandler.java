@@ -0,0 +1,147 @@
+package org.scoula.common.web;
+
+import io.swagger.models.Swagger;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.filter.CompressingOutputStream;
+import org.scoula.common.filter.CompressionFilter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * /v2/api-docs 응답 (springfox Swagger2Controller 대신 처리)
+ * - 그룹별 첫 요청에서 한 번만 문서를 만들고 JSON / gzip 바이트와 ETag 를 보관, 이후 요청은 바이트를 그대로 씀
+ *   (springfox 는 요청마다 Documentation -> Swagger 모델 변환 + JSON 직렬화를 반복)
+ * - 컨트롤러 스캔도 첫 요청까지 미룰 수 있음 (SwaggerConfig: swagger.lazy-scan) -> 시작 시간에서 제외
+ * - host 는 비워 둠: Swagger 2.0 명세상 문서를 제공한 호스트를 사용하므로 요청 Host 별로 다시 만들 필요 없음
+ * - If-None-Match 일치 시 304, Accept-Encoding 에 gzip 이 있으면 미리 압축한 본문 전송
+ */
+@Log4j2
+public class ApiDocsHandler implements HttpRequestHandler {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final DocumentationPluginsBootstrapper bootstrapper;
+    private final DocumentationCache documentationCache;
+    private final ServiceModelToSwagger2Mapper mapper;
+    private final JsonSerializer jsonSerializer;
+    private final ConcurrentMap<String, Document> documents = new ConcurrentHashMap<>();
+
+    public ApiDocsHandler(DocumentationPluginsBootstrapper bootstrapper, DocumentationCache documentationCache,
+                          ServiceModelToSwagger2Mapper mapper, JsonSerializer jsonSerializer) {
+        this.bootstrapper = bootstrapper;
+        this.documentationCache = documentationCache;
+        this.mapper = mapper;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean head = "HEAD".equals(request.getMethod());
+        if (!head && !"GET".equals(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String group = request.getParameter("group");
+        String contextPath = request.getContextPath();
+        Document document = documents.computeIfAbsent(group == null ? Docket.DEFAULT_GROUP_NAME : group,
+                name -> generate(name, contextPath));
+        if (document == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(document.etag)) {
+            return;
+        }
+
+        byte[] body = document.json;
+        if (CompressionFilter.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                == CompressingOutputStream.Encoding.GZIP) {
+            body = document.gzip;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        if (!head) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * springfox 컨트롤러 스캔 (이미 했으면 무시) - /swagger-resources 도 스캔 결과로 그룹 목록을 만들므로 먼저 호출
+     */
+    public synchronized void ensureScanned() {
+        if (!bootstrapper.isRunning()) {
+            long start = System.nanoTime();
+            bootstrapper.start();
+            log.info("API 문서 스캔 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private Document generate(String group, String contextPath) {
+        ensureScanned();
+        Documentation documentation = documentationCache.documentationByGroup(group);
+        if (documentation == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Swagger swagger = mapper.mapDocumentation(documentation);
+        swagger.basePath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+        byte[] json = jsonSerializer.toJson(swagger).value().getBytes(StandardCharsets.UTF_8);
+        Document document = new Document(json, gzip(json), HttpResponseCache.bodyEtag(json));
+        log.info("API 문서 생성: group={}, {} bytes (gzip {} bytes), {}ms", group, json.length,
+                document.gzip.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return document;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);   // 한 번만 압축하므로 최대 압축
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Document {
+        final byte[] json;
+        final byte[] gzip;
+        final String etag;
+
+        Document(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+        }
+    }
+}
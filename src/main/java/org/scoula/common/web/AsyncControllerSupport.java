@@ -0,0 +1,85 @@
+package org.scoula.common.web;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 느린 하위 호출(JDBC, 외부 API)을 비동기로 처리하는 컨트롤러의 공통 부모
+ * - callable(...) : MVC 가 applicationTaskExecutor 에서 실행 (기본 30초 타임아웃), 요청 스레드는 즉시 컨테이너로 반환
+ * - deferred(...) : 이미 비동기인 작업(CompletableFuture)의 완료 시점에 응답
+ *
+ * 사용 예)
+ * <pre>
+ * &#64;GetMapping("/api/products")
+ * public WebAsyncTask&lt;List&lt;ProductVO&gt;&gt; list() {
+ *     return callable(() -&gt; productService.getList());
+ * }
+ * </pre>
+ */
+public abstract class AsyncControllerSupport {
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 30_000L;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    /**
+     * applicationTaskExecutor 에서 실행하는 비동기 작업, 기본 타임아웃(30초) 초과 시 AsyncRequestTimeoutException (503)
+     * 타임아웃 시 MVC 가 실행 중인 작업 스레드를 interrupt 함
+     */
+    protected <T> WebAsyncTask<T> callable(Callable<T> task) {
+        return callable(task, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    protected <T> WebAsyncTask<T> callable(Callable<T> task, long timeoutMillis) {
+        return new WebAsyncTask<>(timeoutMillis, applicationTaskExecutor, task);
+    }
+
+    /**
+     * 작업을 applicationTaskExecutor 에서 실행하고 결과를 DeferredResult 로 반환
+     * 클라이언트 연결 종료/타임아웃 시 실행기의 Future 를 취소하여 작업 스레드를 interrupt
+     */
+    protected <T> DeferredResult<T> deferred(Supplier<T> task) {
+        DeferredResult<T> result = new DeferredResult<>(DEFAULT_TIMEOUT_MILLIS);
+        Future<?> future = applicationTaskExecutor.submit(() -> {
+            try {
+                result.setResult(task.get());
+            } catch (RuntimeException | Error e) {
+                result.setErrorResult(e);
+            }
+        });
+        result.onTimeout(() -> future.cancel(true));
+        result.onError(e -> future.cancel(true));
+        return result;
+    }
+
+    /**
+     * 비동기 작업 완료 시 응답, timeoutMillis 초과 시 AsyncRequestTimeoutException (503)
+     */
+    protected <T> DeferredResult<T> deferred(Supplier<CompletableFuture<T>> future, long timeoutMillis) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        CompletableFuture<T> task = future.get();
+        task.whenComplete((value, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                result.setResult(value);
+            }
+        });
+        // 클라이언트 연결 종료/타임아웃 시 future 를 취소 상태로 완료 (후속 단계는 실행되지 않음)
+        // CompletableFuture.cancel 은 실행 중인 스레드를 interrupt 하지 않으므로, 하위 호출까지 중단하려면
+        // 작업을 만든 쪽에서 취소를 전달하거나 deferred(Supplier<T>) / callable(...) 을 사용
+        result.onTimeout(() -> task.cancel(true));
+        result.onError(e -> task.cancel(true));
+        return result;
+    }
+}
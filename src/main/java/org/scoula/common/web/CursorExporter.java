@@ -0,0 +1,267 @@
+package org.scoula.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * MyBatis Cursor 결과를 목록으로 모으지 않고 바로 응답으로 내보내는 대용량 내보내기 (JSON Lines / CSV)
+ * - 조회는 applicationTaskExecutor 스레드의 읽기 전용 트랜잭션에서 실행 (복제본 풀로 라우팅)
+ * - flushRows 행마다 flush, 소켓 버퍼가 차면 write 가 블록되어 조회 속도가 클라이언트 수신 속도에 맞춰짐
+ * - 클라이언트 연결 종료(IOException) 또는 비동기 요청 취소(인터럽트) 시 Cursor 를 닫고 트랜잭션 롤백
+ *
+ * 사용 예)
+ * <pre>
+ * &#64;GetMapping("/api/transactions/export")
+ * public ResponseEntity&lt;StreamingResponseBody&gt; export() {
+ *     return cursorExporter.jsonLines("transactions", () -&gt; transactionMapper.streamAll());
+ * }
+ * </pre>
+ * 매퍼 작성 방법(MySQL 스트리밍 fetchSize)은 MapperTemplate.xml 참고
+ */
+@Log4j2
+public class CursorExporter {
+
+    public static final MediaType JSON_LINES = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+    public static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    // 요청별 비동기 타임아웃 (내보내기는 기본 MVC 비동기 타임아웃보다 오래 걸림)
+    private static final String TIMEOUT_ATTRIBUTE = CursorExporter.class.getName() + ".timeout";
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+    private final int flushRows;
+    private final long timeoutMillis;
+
+    public CursorExporter(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                          int flushRows, long timeoutMillis) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 행마다 flush 하지 않도록 (flush 는 flushRows 단위로 직접 호출)
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushRows = flushRows;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+     */
+    public <T> ResponseEntity<StreamingResponseBody> jsonLines(String filename, Supplier<Cursor<T>> query) {
+        return export(filename + ".jsonl", JSON_LINES, query, out -> {
+            JsonGenerator generator = jsonWriter.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            return new RowWriter<T>() {
+                @Override
+                public void write(T row) throws IOException {
+                    jsonWriter.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    generator.flush();
+                }
+            };
+        });
+    }
+
+    /**
+     * CSV (UTF-8 BOM 포함 - 엑셀에서 한글이 깨지지 않도록)
+     */
+    public <T> ResponseEntity<StreamingResponseBody> csv(String filename, Supplier<Cursor<T>> query,
+                                                         CsvColumns<T> columns) {
+        return export(filename + ".csv", CSV, query, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write('\uFEFF');
+            columns.writeHeader(writer);
+            return new RowWriter<T>() {
+                @Override
+                public void write(T row) throws IOException {
+                    columns.writeRow(writer, row);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    writer.flush();
+                }
+            };
+        });
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> export(String filename, MediaType contentType,
+                                                             Supplier<Cursor<T>> query, RowWriterFactory<T> writerFactory) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMillis, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        StreamingResponseBody body = out -> stream(out, query, writerFactory);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+
+    private <T> void stream(OutputStream out, Supplier<Cursor<T>> query, RowWriterFactory<T> writerFactory)
+            throws IOException {
+        long[] rows = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Cursor<T> cursor = query.get()) {
+                    RowWriter<T> writer = writerFactory.open(out);
+                    int pending = 0;
+                    for (T row : cursor) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new InterruptedIOException("내보내기 취소");
+                        }
+                        writer.write(row);
+                        rows[0]++;
+                        if (++pending == flushRows) {
+                            writer.flush();
+                            pending = 0;
+                        }
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.debug("내보내기 완료 rows={}", rows[0]);
+        } catch (UncheckedIOException e) {
+            log.info("내보내기 중단 rows={} - {}", rows[0], e.getCause().toString());
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 내보내기 요청의 비동기 타임아웃을 export.timeout-ms 로 변경 (ServletConfig.configureAsyncSupport 에 등록)
+     */
+    public CallableProcessingInterceptor timeoutInterceptor() {
+        return new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Long && request instanceof AsyncWebRequest) {
+                    ((AsyncWebRequest) request).setTimeout((Long) timeout);
+                }
+            }
+        };
+    }
+
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private interface RowWriterFactory<T> {
+        RowWriter<T> open(OutputStream out) throws IOException;
+    }
+
+    /**
+     * CSV 컬럼 정의
+     * 예) CsvColumns.&lt;TransactionVO&gt;of()
+     *         .column("거래일시", TransactionVO::getTradeDate)
+     *         .column("금액", TransactionVO::getAmount)
+     */
+    public static final class CsvColumns<T> {
+
+        private final List<String> headers = new ArrayList<>();
+        private final List<Function<T, ?>> extractors = new ArrayList<>();
+
+        private CsvColumns() {
+        }
+
+        public static <T> CsvColumns<T> of() {
+            return new CsvColumns<>();
+        }
+
+        public CsvColumns<T> column(String header, Function<T, ?> extractor) {
+            headers.add(header);
+            extractors.add(extractor);
+            return this;
+        }
+
+        void writeHeader(Writer writer) throws IOException {
+            for (int i = 0; i < headers.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(writer, headers.get(i));
+            }
+            writer.write("\r\n");
+        }
+
+        void writeRow(Writer writer, T row) throws IOException {
+            for (int i = 0; i < extractors.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = extractors.get(i).apply(row);
+                if (value instanceof Number) {
+                    // 숫자는 음수(-)도 그대로 (수식 이스케이프 대상 아님)
+                    writer.write(value.toString());
+                } else if (value != null) {
+                    writeField(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+        // CSV 수식 주입 방지: = + - @ TAB CR 로 시작하는 문자열은 앞에 ' 를 붙여 엑셀이 수식으로 실행하지 않도록
+        private static void writeField(Writer writer, String value) throws IOException {
+            if (!value.isEmpty() && isFormulaPrefix(value.charAt(0))) {
+                value = "'" + value;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static boolean isFormulaPrefix(char c) {
+            return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.scoula.common.web;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.filter.CapturingResponseWrapper;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpCacheable} 처리
+ * - preHandle: If-None-Match 일치 시 304, 캐시 적중 시 저장된 본문 반환 (두 경우 모두 핸들러 실행 안 함)
+ * - 캐시 미스: HttpCacheFilter 의 래퍼로 본문을 캡처, afterCompletion 에서 ETag 계산 후 저장하고 응답
+ * - privateCache: 검증된 JWT subject 별로 저장, 토큰이 없거나 유효하지 않으면 캐시하지 않음
+ *   (인증 필터보다 먼저 판단하므로 getUserPrincipal() 은 쓸 수 없음)
+ */
+@RequiredArgsConstructor
+public class HttpCacheInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CAPTURE_ATTRIBUTE = HttpCacheInterceptor.class.getName() + ".capture";
+
+    private final HttpResponseCache cache;
+    private final RequestKeyResolver requestKeyResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!"GET".equals(request.getMethod()) || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        HttpCacheable cacheable = ((HandlerMethod) handler).getMethodAnnotation(HttpCacheable.class);
+        if (cacheable == null) {
+            return true;
+        }
+
+        String user = null;
+        if (cacheable.privateCache()) {
+            user = requestKeyResolver.subject(request);
+            if (user == null) {
+                return true;
+            }
+        }
+
+        String key = cache.key(request, cacheable, user);
+        String cacheControl = cacheControl(cacheable);
+        HttpResponseCache.Entry entry = cache.get(key);
+        String etag = !cacheable.versionKey().isEmpty() ? HttpResponseCache.versionEtag(key)
+                : entry != null ? entry.getEtag() : null;
+
+        if (etag != null && new ServletWebRequest(request, response).checkNotModified(etag)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            return false;
+        }
+        if (entry != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.setHeader(HttpHeaders.ETAG, entry.getEtag());
+            if (entry.getContentType() != null) {
+                response.setContentType(entry.getContentType());
+            }
+            response.setContentLength(entry.getBody().length);
+            response.getOutputStream().write(entry.getBody());
+            return false;
+        }
+
+        CapturingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CapturingResponseWrapper.class);
+        if (wrapper != null) {
+            wrapper.startCapture();
+            request.setAttribute(CAPTURE_ATTRIBUTE, new Capture(key, etag, cacheControl, cacheable.ttlSeconds()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // 비동기 응답은 캐시하지 않음
+        Capture capture = (Capture) request.getAttribute(CAPTURE_ATTRIBUTE);
+        if (capture != null) {
+            request.removeAttribute(CAPTURE_ATTRIBUTE);
+            WebUtils.getNativeResponse(response, CapturingResponseWrapper.class).stopCapture();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) throws IOException {
+        Capture capture = (Capture) request.getAttribute(CAPTURE_ATTRIBUTE);
+        if (capture == null) {
+            return;
+        }
+        request.removeAttribute(CAPTURE_ATTRIBUTE);
+        byte[] body = WebUtils.getNativeResponse(response, CapturingResponseWrapper.class).stopCapture();
+
+        if (ex == null && response.getStatus() == HttpServletResponse.SC_OK) {
+            String etag = capture.etag != null ? capture.etag : HttpResponseCache.bodyEtag(body);
+            cache.put(capture.key, new HttpResponseCache.Entry(etag, response.getContentType(), body, capture.ttlSeconds));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, capture.cacheControl);
+            // 만료 후 첫 요청이라도 클라이언트 ETag 가 같으면 본문 생략
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                return;
+            }
+        }
+        if (body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static String cacheControl(HttpCacheable cacheable) {
+        CacheControl cacheControl = cacheable.maxAgeSeconds() > 0
+                ? CacheControl.maxAge(cacheable.maxAgeSeconds(), TimeUnit.SECONDS)
+                : CacheControl.noCache();
+        return (cacheable.privateCache() ? cacheControl.cachePrivate() : cacheControl.cachePublic()).getHeaderValue();
+    }
+
+    @RequiredArgsConstructor
+    private static final class Capture {
+        private final String key;
+        private final String etag;
+        private final String cacheControl;
+        private final long ttlSeconds;
+    }
+}
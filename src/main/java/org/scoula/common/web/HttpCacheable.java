@@ -0,0 +1,40 @@
+package org.scoula.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 응답을 서버 메모리에 캐시하고 ETag / Cache-Control 로 조건부 요청(304) 처리
+ * - ttlSeconds 동안 같은 URL(쿼리 포함) 요청은 핸들러를 실행하지 않고 저장된 본문 반환
+ * - ETag: versionKey 가 있으면 버전 값으로, 없으면 직렬화된 본문의 MD5 로 계산
+ * - versionKey 를 지정하면 If-None-Match 비교를 본문 없이 핸들러 실행 전에 처리하고,
+ *   데이터 변경 시 HttpResponseCache.bump(versionKey) 로 관련 응답을 한 번에 무효화
+ *
+ * 예)
+ * <pre>
+ * &#64;HttpCacheable(ttlSeconds = 300, versionKey = "products")
+ * &#64;GetMapping("/api/products")
+ * public List&lt;ProductVO&gt; list(...) { ... }
+ * </pre>
+ * 동기 핸들러에만 적용 (Callable / DeferredResult / StreamingResponseBody 응답은 캐시하지 않음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HttpCacheable {
+
+    // 서버 캐시 보관 시간(초)
+    long ttlSeconds() default 60;
+
+    // 클라이언트 Cache-Control max-age(초), 0 이면 no-cache (매번 ETag 로 재검증)
+    long maxAgeSeconds() default 0;
+
+    // 사용자별 응답이면 true - 캐시 키에 검증된 JWT subject 포함 (토큰 없는 요청은 캐시 안 함), Cache-Control: private
+    boolean privateCache() default false;
+
+    // 버전 기반 ETag / 무효화 키 (예: "products")
+    String versionKey() default "";
+}
@@ -0,0 +1,129 @@
+package org.scoula.common.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HttpCacheable} 응답 저장소
+ * - 본문 바이트 합계(maximumWeightBytes) 기준 크기 제한, 엔트리별 TTL
+ * - versionKey 별 버전 번호: bump 시 캐시 키와 ETag 가 바뀌어 기존 응답은 더 이상 적중하지 않음
+ */
+public class HttpResponseCache {
+
+    // 엔트리당 키/헤더 등 부가 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, Entry> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public HttpResponseCache(long maximumWeightBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, Entry entry) -> key.length() * 2 + entry.body.length + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return TimeUnit.SECONDS.toNanos(entry.ttlSeconds);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return TimeUnit.SECONDS.toNanos(entry.ttlSeconds);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 키: URI + 쿼리 (+ 사용자) (+ 버전)
+     *
+     * @param user privateCache 응답의 사용자 (검증된 JWT subject), privateCache 가 아니면 무시
+     */
+    String key(HttpServletRequest request, HttpCacheable cacheable, String user) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        if (cacheable.privateCache()) {
+            key.append("|u=").append(user);
+        }
+        if (!cacheable.versionKey().isEmpty()) {
+            key.append("|v=").append(cacheable.versionKey()).append(':').append(version(cacheable.versionKey()));
+        }
+        return key.toString();
+    }
+
+    Entry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(String key, Entry entry) {
+        cache.put(key, entry);
+    }
+
+    public long version(String versionKey) {
+        AtomicLong version = versions.get(versionKey);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * versionKey 에 속한 캐시 응답 무효화 (데이터 변경 후 호출)
+     */
+    public void bump(String versionKey) {
+        versions.computeIfAbsent(versionKey, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("versions", new LinkedHashMap<>(versions));
+        return result;
+    }
+
+    // 버전 기반 ETag (키에 URI/사용자/버전이 모두 포함됨)
+    static String versionEtag(String key) {
+        return "\"v" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 본문 기반 강한 ETag (ShallowEtagHeaderFilter 와 같은 형식)
+    static String bodyEtag(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class Entry {
+        private final String etag;
+        private final String contentType;
+        private final byte[] body;
+        private final long ttlSeconds;
+    }
+}
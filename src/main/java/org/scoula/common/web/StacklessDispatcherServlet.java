@@ -0,0 +1,49 @@
+package org.scoula.common.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 매핑 없는 요청(404)에서 스택 트레이스를 채우지 않는 DispatcherServlet
+ * - 기본 NoHandlerFoundException 은 필터 체인 전체 깊이의 스택을 채우고 요청 헤더를 복사함
+ *   404 는 스택 정보가 쓸모없고, 봇 스캔 시 대량으로 발생하므로 두 비용을 모두 생략
+ */
+public class StacklessDispatcherServlet extends DispatcherServlet {
+
+    private boolean throwExceptionIfNoHandlerFound;
+
+    public StacklessDispatcherServlet(WebApplicationContext webApplicationContext) {
+        super(webApplicationContext);
+    }
+
+    @Override
+    public void setThrowExceptionIfNoHandlerFound(boolean throwExceptionIfNoHandlerFound) {
+        super.setThrowExceptionIfNoHandlerFound(throwExceptionIfNoHandlerFound);
+        this.throwExceptionIfNoHandlerFound = throwExceptionIfNoHandlerFound;
+    }
+
+    @Override
+    protected void noHandlerFound(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (throwExceptionIfNoHandlerFound) {
+            throw new StacklessNoHandlerFoundException(request.getMethod(), request.getRequestURI());
+        }
+        super.noHandlerFound(request, response);
+    }
+
+    public static final class StacklessNoHandlerFoundException extends NoHandlerFoundException {
+
+        public StacklessNoHandlerFoundException(String httpMethod, String requestUrl) {
+            super(httpMethod, requestUrl, HttpHeaders.EMPTY);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.scoula.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.common.upload.FileSender;
+import org.scoula.common.upload.StoredFile;
+import org.scoula.common.upload.UploadLimitException;
+import org.scoula.common.upload.UploadStorage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 파일 업로드 / 다운로드
+ * - PUT  /api/files/{filename} : 요청 본문(application/octet-stream)을 디스크로 바로 스트리밍 (대용량 권장)
+ * - POST /api/files            : multipart/form-data 의 file 파트 (브라우저 폼)
+ * - GET  /api/files/{id}       : 다운로드, Range 요청 지원
+ * 업로드 제한 단위는 요청 제한과 같은 키 (검증된 토큰의 subject, 비로그인 요청은 클라이언트 IP)
+ */
+@RestController
+@RequestMapping("/api/files")
+@RequiredArgsConstructor
+@Log4j2
+public class FileController {
+
+    private final UploadStorage uploadStorage;
+    private final RequestKeyResolver requestKeyResolver;
+
+    @PutMapping(value = "/{filename:.+}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StoredFile> upload(@PathVariable String filename, HttpServletRequest request)
+            throws IOException {
+        StoredFile stored = uploadStorage.store(requestKeyResolver.resolve(request), filename, request.getInputStream(), true);
+        return ResponseEntity.status(HttpStatus.CREATED).body(stored);
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StoredFile> uploadMultipart(@RequestParam("file") MultipartFile file,
+                                                      HttpServletRequest request) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            StoredFile stored = uploadStorage.store(requestKeyResolver.resolve(request), file.getOriginalFilename(), in, false);
+            return ResponseEntity.status(HttpStatus.CREATED).body(stored);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public void download(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        StoredFile file = uploadStorage.find(id).orElse(null);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        FileSender.send(file, uploadStorage.path(file), request, response);
+    }
+
+    @ExceptionHandler(UploadLimitException.class)
+    public ResponseEntity<Map<String, String>> uploadLimit(UploadLimitException e) {
+        log.warn("업로드 거부: {}", e.getMessage());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getStatus());
+        if (e.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            builder.header(HttpHeaders.RETRY_AFTER, "5");
+        }
+        return builder.body(Map.of("message", e.getMessage()));
+    }
+}
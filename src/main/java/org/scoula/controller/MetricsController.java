@@ -0,0 +1,28 @@
+package org.scoula.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.metrics.PrometheusExporter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Prometheus 스크랩 엔드포인트
+ * - @RestController 이므로 JSP ViewResolver 를 거치지 않고 본문을 바로 씀
+ */
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType(PrometheusExporter.CONTENT_TYPE);
+
+    private final PrometheusExporter prometheusExporter;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<String> metrics() {
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(prometheusExporter.scrape());
+    }
+}
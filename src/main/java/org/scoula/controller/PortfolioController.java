@@ -0,0 +1,42 @@
+package org.scoula.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.portfolio.aggregate.PortfolioAggregator;
+import org.scoula.portfolio.domain.PortfolioSummary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 회원 대시보드 집계 (자산 합계, 분류별 합계, 월별 지출) - 메모리 집계 조회, SUM / GROUP BY 없음
+ * - 본인 집계만 조회: 검증된 토큰의 subject 가 경로의 memberId 와 같아야 함 (없으면 401, 다르면 403)
+ * - 다른 회원 조회는 관리자 API (GET /admin/portfolio/{memberId})
+ */
+@RestController
+@RequiredArgsConstructor
+public class PortfolioController {
+
+    private final PortfolioAggregator portfolioAggregator;
+    private final RequestKeyResolver requestKeyResolver;
+
+    @GetMapping("/api/portfolio/{memberId}")
+    public PortfolioSummary summary(@PathVariable long memberId, HttpServletRequest request,
+                                    HttpServletResponse response) {
+        String subject = requestKeyResolver.subject(request);
+        if (subject == null) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+        if (!subject.equals(Long.toString(memberId))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+        return portfolioAggregator.get(memberId);
+    }
+}
@@ -0,0 +1,52 @@
+package org.scoula.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.web.HttpCacheable;
+import org.scoula.product.catalog.ProductCatalog;
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductVO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 금융 상품 검색 (메모리 카탈로그, DB 조회 없음)
+ * 예) GET /api/products?types=DEPOSIT,SAVING&bankCodes=KB&minTerm=6&maxTerm=12&minRate=3.5&sort=MAX_RATE&limit=10
+ * 응답은 HTTP 응답 캐시에 보관, 카탈로그 스냅샷이 바뀌면 VERSION_KEY 버전을 올려 무효화 (ServletConfig)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ProductController {
+
+    public static final String VERSION_KEY = "products";
+
+    private static final int MAX_LIMIT = 100;
+    // 금리 컬럼 DECIMAL(5,2) 범위 - 벗어나면 카탈로그의 basis point(int) 변환이 실패하므로 400
+    private static final BigDecimal MAX_RATE = new BigDecimal("999.99");
+
+    private final ProductCatalog productCatalog;
+
+    @HttpCacheable(ttlSeconds = 300, versionKey = VERSION_KEY)
+    @GetMapping("/api/products")
+    public List<ProductVO> search(ProductSearch search) {
+        BigDecimal minRate = search.getMinRate();
+        if (minRate != null && (minRate.signum() < 0 || minRate.compareTo(MAX_RATE) > 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minRate 범위: 0 ~ " + MAX_RATE);
+        }
+        search.setLimit(Math.max(1, Math.min(search.getLimit(), MAX_LIMIT)));
+        return productCatalog.search(search);
+    }
+
+    @HttpCacheable(ttlSeconds = 300, versionKey = VERSION_KEY)
+    @GetMapping("/api/products/{productId}")
+    public ResponseEntity<ProductVO> get(@PathVariable long productId) {
+        ProductVO product = productCatalog.get(productId);
+        return product == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(product);
+    }
+}
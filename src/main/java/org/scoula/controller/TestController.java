@@ -1,11 +1,13 @@
 package org.scoula.controller;
 
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
+@Log4j2
 public class TestController {
     @Value("${jwt.secret_key:NOT_FOUND}")
     private String secretKey;
@@ -15,7 +17,7 @@ public class TestController {
     @GetMapping("/test")
     @ResponseBody
     public String testJdbcUrl() {
-        System.out.println("[test] " + secretKey + ", " + jdbcUrl);
+        log.debug("[test] jwt.secret_key 설정 여부: {}, jdbc.url: {}", !"NOT_FOUND".equals(secretKey), jdbcUrl);
         return "jdbc.url = " + jdbcUrl;
     }
 
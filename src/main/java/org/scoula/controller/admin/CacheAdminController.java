@@ -0,0 +1,50 @@
+package org.scoula.controller.admin;
+
+import lombok.extern.log4j.Log4j2;
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.cache.MybatisCacheRegistry;
+import org.scoula.common.web.HttpResponseCache;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * MyBatis 2차 캐시 / HTTP 응답 캐시 모니터링 / 수동 비우기
+ */
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+@Log4j2
+public class CacheAdminController {
+
+    private final HttpResponseCache httpResponseCache;
+
+    // 캐시별 적중률, 로드 지연시간
+    @GetMapping("/mybatis")
+    public Map<String, Map<String, Object>> mybatisStats() {
+        return MybatisCacheRegistry.stats();
+    }
+
+    // namespace 캐시 전체 비우기
+    @DeleteMapping("/mybatis/{cacheId:.+}")
+    public void clear(@PathVariable String cacheId) {
+        log.info("MyBatis 캐시 비우기: {}", cacheId);
+        MybatisCacheRegistry.clear(cacheId);
+    }
+
+    // @HttpCacheable 응답 캐시 적중률 / 버전
+    @GetMapping("/http")
+    public Map<String, Object> httpStats() {
+        return httpResponseCache.stats();
+    }
+
+    @DeleteMapping("/http")
+    public void clearHttp() {
+        log.info("HTTP 응답 캐시 비우기");
+        httpResponseCache.invalidateAll();
+    }
+}
@@ -0,0 +1,33 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.product.catalog.ProductCatalog;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 상품 카탈로그 상태 (스냅샷 버전, 상품 수, 갱신 기준 시각) / 수동 전체 적재
+ */
+@RestController
+@RequestMapping("/admin/catalog")
+@RequiredArgsConstructor
+public class CatalogAdminController {
+
+    private final ProductCatalog productCatalog;
+
+    @GetMapping
+    public Map<String, Object> stats() {
+        return productCatalog.stats();
+    }
+
+    // 증분 갱신에 반영되지 않는 변경 (updated_at 을 바꾸지 않은 수정, 물리 삭제) 후
+    @PostMapping("/reload")
+    public Map<String, Object> reload() {
+        productCatalog.reload();
+        return productCatalog.stats();
+    }
+}
@@ -0,0 +1,43 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.config.ConfigProperties;
+import org.scoula.common.config.ConfigSnapshot;
+import org.scoula.common.config.ConfigWatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 설정 스냅샷 상태 / 수동 다시 읽기 (값에는 비밀번호 등이 있으므로 키 이름만 노출)
+ */
+@RestController
+@RequestMapping("/admin/config")
+@RequiredArgsConstructor
+public class ConfigAdminController {
+
+    private final ConfigWatcher configWatcher;
+
+    @GetMapping
+    public Map<String, Object> snapshot() {
+        ConfigSnapshot snapshot = ConfigProperties.current();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("version", snapshot.getVersion());
+        values.put("loadedAt", snapshot.getLoadedAt().toString());
+        values.put("activeProfiles", snapshot.getActiveProfiles());
+        values.put("keys", new TreeSet<>(snapshot.asMap().keySet()));
+        return values;
+    }
+
+    // 파일 감시가 꺼져 있거나 (config.watch.enabled=false) 이벤트를 놓쳤을 때
+    @PostMapping("/reload")
+    public Set<String> reload() {
+        return new TreeSet<>(configWatcher.reload());
+    }
+}
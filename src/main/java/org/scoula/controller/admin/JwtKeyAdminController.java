@@ -0,0 +1,26 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 키 교체 상태 (kid, 활성/폐기 시각, 현재 서명 키 여부 - 비밀 값은 노출하지 않음)
+ */
+@RestController
+@RequestMapping("/admin/jwt")
+@RequiredArgsConstructor
+public class JwtKeyAdminController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/keys")
+    public List<Map<String, Object>> keys() {
+        return jwtKeyRing.snapshot();
+    }
+}
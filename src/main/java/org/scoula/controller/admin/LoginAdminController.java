@@ -0,0 +1,29 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.security.password.AdaptiveBCryptPasswordEncoder;
+import org.scoula.security.password.PasswordVerifier;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 로그인 검증 상태 (BCrypt strength, 결과별 건수, 검증 대기열, 잠긴 계정 / IP 수)
+ */
+@RestController
+@RequestMapping("/admin/login")
+@RequiredArgsConstructor
+public class LoginAdminController {
+
+    private final AdaptiveBCryptPasswordEncoder adaptivePasswordEncoder;
+    private final PasswordVerifier passwordVerifier;
+
+    @GetMapping
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = passwordVerifier.stats();
+        stats.put("bcryptStrength", adaptivePasswordEncoder.getStrength());
+        return stats;
+    }
+}
@@ -0,0 +1,40 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.datasource.ReplicaRouter;
+import org.scoula.common.metrics.HikariMetricsTrackerFactory;
+import org.scoula.common.metrics.HikariPoolMetrics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 상태 조회
+ * - active / idle / pending 커넥션 수, 획득/사용 시간 히스토그램
+ * - 복제본 상태 (지연, 제외 여부, 복제본/primary 라우팅 횟수)
+ */
+@RestController
+@RequestMapping("/admin/pool")
+@RequiredArgsConstructor
+public class PoolAdminController {
+
+    private final HikariMetricsTrackerFactory metricsTrackerFactory;
+    private final ReplicaRouter replicaRouter;
+
+    @GetMapping
+    public Map<String, Map<String, Object>> pools() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (HikariPoolMetrics pool : metricsTrackerFactory.getPools()) {
+            result.put(pool.getPoolName(), pool.snapshot());
+        }
+        return result;
+    }
+
+    @GetMapping("/replicas")
+    public Map<String, Object> replicas() {
+        return replicaRouter.snapshot();
+    }
+}
@@ -0,0 +1,45 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.portfolio.aggregate.PortfolioAggregator;
+import org.scoula.portfolio.domain.PortfolioSummary;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 회원 집계 상태 (회원 수, outbox 위치, 정합성 점검 결과) / 회원별 집계 조회 / 수동 점검 / 전체 다시 적재
+ */
+@RestController
+@RequestMapping("/admin/portfolio")
+@RequiredArgsConstructor
+public class PortfolioAdminController {
+
+    private final PortfolioAggregator portfolioAggregator;
+
+    @GetMapping
+    public Map<String, Object> stats() {
+        return portfolioAggregator.stats();
+    }
+
+    @GetMapping("/{memberId}")
+    public PortfolioSummary summary(@PathVariable long memberId) {
+        return portfolioAggregator.get(memberId);
+    }
+
+    @PostMapping("/reconcile")
+    public Map<String, Object> reconcile() {
+        portfolioAggregator.reconcile();
+        return portfolioAggregator.stats();
+    }
+
+    @PostMapping("/rebuild")
+    public Map<String, Object> rebuild() {
+        portfolioAggregator.rebuild();
+        return portfolioAggregator.stats();
+    }
+}
@@ -0,0 +1,26 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.ratelimit.RateLimitFilter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 요청 수 제한 / bulkhead 카운터
+ */
+@RestController
+@RequestMapping("/admin/ratelimit")
+@RequiredArgsConstructor
+public class RateLimitAdminController {
+
+    private final RateLimitFilter rateLimitFilter;
+
+    // 허용/거부 누적 건수, 추적 중인 키 수, 경로별 처리 중 요청 수
+    @GetMapping
+    public Map<String, Object> stats() {
+        return rateLimitFilter.stats();
+    }
+}
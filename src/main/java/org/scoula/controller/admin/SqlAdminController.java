@@ -0,0 +1,43 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.mybatis.SqlMetricsInterceptor;
+import org.scoula.common.mybatis.SqlStatementStats;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MyBatis statement 별 실행 통계 조회
+ */
+@RestController
+@RequestMapping("/admin/sql")
+@RequiredArgsConstructor
+public class SqlAdminController {
+
+    private final SqlMetricsInterceptor sqlMetricsInterceptor;
+
+    /**
+     * 상위 N 개 statement
+     *
+     * @param sort total(누적 시간) | count | p99 | max | rows
+     */
+    @GetMapping("/top")
+    public List<Map<String, Object>> top(@RequestParam(defaultValue = "10") int n,
+                                         @RequestParam(defaultValue = "total") String sort) {
+        return sqlMetricsInterceptor.top(n, sort).stream()
+                .map(SqlStatementStats::snapshot)
+                .collect(Collectors.toList());
+    }
+
+    @DeleteMapping
+    public void reset() {
+        sqlMetricsInterceptor.reset();
+    }
+}
@@ -0,0 +1,32 @@
+package org.scoula.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.scoula.common.startup.StartupTimeline;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시간 분석: 컨텍스트(루트 / 서블릿)별 refresh 시간과 생성 시간이 긴 빈
+ */
+@RestController
+@RequestMapping("/admin/startup")
+@RequiredArgsConstructor
+public class StartupAdminController {
+
+    private final List<StartupTimeline> timelines;
+
+    @GetMapping
+    public List<Map<String, Object>> timeline(@RequestParam(defaultValue = "30") int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (StartupTimeline timeline : timelines) {
+            result.add(timeline.snapshot(limit));
+        }
+        return result;
+    }
+}
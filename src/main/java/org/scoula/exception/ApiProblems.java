@@ -0,0 +1,113 @@
+package org.scoula.exception;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * API 클라이언트용 오류 응답 (RFC 7807 application/problem+json)
+ * - 본문은 상태 코드별로 미리 직렬화해 두고 그대로 씀 (요청마다 ObjectMapper / JSP 를 거치지 않음)
+ * - 예외 메시지는 본문에 넣지 않음 (내부 정보 노출 방지), 추적은 X-Request-Id 응답 헤더로
+ */
+public final class ApiProblems {
+
+    private static final byte[][] BODIES = new byte[600][];
+
+    static {
+        for (HttpStatus status : HttpStatus.values()) {
+            BODIES[status.value()] = serialize(status.value(), status.getReasonPhrase());
+        }
+    }
+
+    private ApiProblems() {
+    }
+
+    /**
+     * /api/** 요청이거나 Accept 헤더가 HTML 이 아닌 JSON 을 원하는 경우
+     */
+    public static boolean isApiRequest(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/", request.getContextPath().length())) {
+            return true;
+        }
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains("json") && !accept.contains("text/html");
+    }
+
+    /**
+     * 예외에 대응하는 HTTP 상태 코드 (DefaultHandlerExceptionResolver 와 같은 기준, 나머지는 500)
+     */
+    public static int status(Exception ex) {
+        if (ex instanceof ResponseStatusException) {
+            return ((ResponseStatusException) ex).getRawStatusCode();
+        }
+        if (ex instanceof NoHandlerFoundException) {
+            return HttpServletResponse.SC_NOT_FOUND;
+        }
+        if (ex instanceof HttpRequestMethodNotSupportedException) {
+            return HttpServletResponse.SC_METHOD_NOT_ALLOWED;
+        }
+        if (ex instanceof HttpMediaTypeNotSupportedException) {
+            return HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE;
+        }
+        if (ex instanceof HttpMediaTypeNotAcceptableException) {
+            return HttpServletResponse.SC_NOT_ACCEPTABLE;
+        }
+        if (ex instanceof ServletRequestBindingException || ex instanceof TypeMismatchException
+                || ex instanceof HttpMessageNotReadableException || ex instanceof MethodArgumentNotValidException
+                || ex instanceof BindException) {
+            return HttpServletResponse.SC_BAD_REQUEST;
+        }
+        if (ex instanceof MaxUploadSizeExceededException) {
+            return HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+        }
+        if (ex instanceof AsyncRequestTimeoutException) {
+            return HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        }
+        ResponseStatus annotated = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        return annotated != null ? annotated.code().value() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 상태 코드와 problem+json 본문 기록 (이미 커밋된 응답은 건드리지 않음)
+     */
+    public static void write(HttpServletResponse response, int status) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        byte[] body = body(status);
+        response.resetBuffer();
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    static byte[] body(int status) {
+        byte[] body = status >= 0 && status < BODIES.length ? BODIES[status] : null;
+        return body != null ? body : serialize(status, "Error");
+    }
+
+    // 사유 문구는 HttpStatus 의 ASCII 상수이므로 별도 이스케이프 불필요
+    private static byte[] serialize(int status, String title) {
+        return ("{\"type\":\"about:blank\",\"title\":\"" + title + "\",\"status\":" + status + '}')
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,36 +1,79 @@
 package org.scoula.exception;
 
 import lombok.extern.log4j.Log4j2;
-import org.springframework.ui.Model;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.http.HttpStatus;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 공통 예외 처리
+ * - API 클라이언트(/api/** 또는 Accept: JSON): 미리 직렬화한 problem+json 본문 (ApiProblems)
+ * - 브라우저: 기존 error_page / custom404 JSP
+ * - 5xx 는 예외 클래스별로 error.stacktrace-interval-seconds(기본 60초)에 한 번만 스택 트레이스 기록
+ * - 4xx(404 포함)는 클라이언트 오류이므로 DEBUG 한 줄만 기록
+ */
 @ControllerAdvice
 @Log4j2
 public class CommonExceptionAdvice {
 
+  private final StackTraceSampler stackTraceSampler;
+
+  public CommonExceptionAdvice(@Value("${error.stacktrace-interval-seconds:60}") long stackTraceIntervalSeconds) {
+    this.stackTraceSampler = new StackTraceSampler(TimeUnit.SECONDS.toNanos(stackTraceIntervalSeconds));
+  }
+
   // 📍 일반 예외 처리
   @ExceptionHandler(Exception.class)
-  public String except(Exception ex, Model model) {
-    log.error("Exception: " + ex.getMessage());
-    model.addAttribute("exception", ex);
-    log.error(model);
-    return "error_page";
+  public ModelAndView except(Exception ex, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+    int status = ApiProblems.status(ex);
+    logException(status, ex);
+
+    if (ApiProblems.isApiRequest(request)) {
+      ApiProblems.write(response, status);
+      return null;    // 응답 작성 완료 (뷰 렌더링 없음)
+    }
+    ModelAndView mav = new ModelAndView("error_page");
+    mav.addObject("exception", ex);
+    return mav;
   }
 
   // 📍 404 에러 전용 처리
   @ExceptionHandler(NoHandlerFoundException.class)
   @ResponseStatus(HttpStatus.NOT_FOUND)
-  public String handle404(NoHandlerFoundException ex,
-                          HttpServletRequest request,
-                          Model model) {
-    log.error("404 Error: " + ex.getMessage());
-    model.addAttribute("uri", request.getRequestURI());
-    return "custom404";
+  public ModelAndView handle404(NoHandlerFoundException ex,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+    log.debug("404 Error: {}", ex.getMessage());
+
+    if (ApiProblems.isApiRequest(request)) {
+      ApiProblems.write(response, HttpServletResponse.SC_NOT_FOUND);
+      return null;
+    }
+    ModelAndView mav = new ModelAndView("custom404");
+    mav.addObject("uri", request.getRequestURI());
+    return mav;
+  }
+
+  private void logException(int status, Exception ex) {
+    if (status < 500) {
+      log.debug("Client error {}: {}", status, ex.toString());
+      return;
+    }
+    long suppressed = stackTraceSampler.sample(ex);
+    if (suppressed >= 0) {
+      log.error("Exception: {} (이전 스택 트레이스 생략 {}건)", ex.getMessage(), suppressed, ex);
+    } else {
+      log.error("Exception: {}", ex.toString());
+    }
   }
 }
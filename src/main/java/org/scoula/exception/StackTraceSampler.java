@@ -0,0 +1,47 @@
+package org.scoula.exception;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예외 클래스별 스택 트레이스 로그 표본 추출
+ * - 같은 예외 클래스는 interval 동안 한 번만 스택 트레이스를 남기고 나머지는 한 줄 로그
+ * - 오류 폭주 시 스택 트레이스 포맷/출력 비용과 로그 용량을 예외 종류 수로 제한
+ */
+class StackTraceSampler {
+
+    private final long intervalNanos;
+    private final ConcurrentMap<Class<?>, Slot> slots = new ConcurrentHashMap<>();
+
+    StackTraceSampler(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * 스택 트레이스를 남길 차례이면 그동안 생략된 건수(0 이상), 아니면 -1
+     */
+    long sample(Throwable ex) {
+        long now = System.nanoTime();
+        Slot slot = slots.get(ex.getClass());
+        if (slot == null) {
+            slot = slots.computeIfAbsent(ex.getClass(), k -> new Slot(now - intervalNanos));
+        }
+        long last = slot.lastLogged.get();
+        if (now - last >= intervalNanos && slot.lastLogged.compareAndSet(last, now)) {
+            return slot.suppressed.sumThenReset();
+        }
+        slot.suppressed.increment();
+        return -1;
+    }
+
+    private static final class Slot {
+        final AtomicLong lastLogged;
+        final LongAdder suppressed = new LongAdder();
+
+        Slot(long lastLogged) {
+            this.lastLogged = new AtomicLong(lastLogged);
+        }
+    }
+}
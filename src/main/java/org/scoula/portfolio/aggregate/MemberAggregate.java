@@ -0,0 +1,90 @@
+package org.scoula.portfolio.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * 회원 1명의 누적 집계 (기본형 배열)
+ * - categoryTotals[분류 번호] : 분류별 합계 (분류 번호는 PortfolioAggregator 의 분류 사전)
+ * - monthKeys / monthSpending : 월별 지출 링 버퍼, 칸 = 월 키(연 × 12 + 월 - 1) % months
+ *   칸의 월 키보다 오래된 월은 기간 밖이므로 버림
+ *
+ * 맵에 게시된 인스턴스는 수정하지 않음: 변경은 copy() 후 수정한 새 인스턴스로 교체 (읽기 측 락 불필요)
+ */
+final class MemberAggregate {
+
+    private static final int EMPTY_MONTH = Integer.MIN_VALUE;
+
+    long balance;
+    long transactionCount;
+    long[] categoryTotals;
+    final int[] monthKeys;
+    final long[] monthSpending;
+
+    MemberAggregate(int categories, int months) {
+        categoryTotals = new long[categories];
+        monthKeys = new int[months];
+        monthSpending = new long[months];
+        Arrays.fill(monthKeys, EMPTY_MONTH);
+    }
+
+    private MemberAggregate(MemberAggregate source) {
+        balance = source.balance;
+        transactionCount = source.transactionCount;
+        categoryTotals = source.categoryTotals.clone();
+        monthKeys = source.monthKeys.clone();
+        monthSpending = source.monthSpending.clone();
+    }
+
+    MemberAggregate copy() {
+        return new MemberAggregate(this);
+    }
+
+    void addCategory(int category, long amount, long count) {
+        if (category >= categoryTotals.length) {
+            categoryTotals = Arrays.copyOf(categoryTotals, category + 1);
+        }
+        categoryTotals[category] += amount;
+        balance += amount;
+        transactionCount += count;
+    }
+
+    void addSpending(int monthKey, long amount) {
+        int slot = Math.floorMod(monthKey, monthKeys.length);
+        if (monthKeys[slot] == monthKey) {
+            monthSpending[slot] += amount;
+        } else if (monthKeys[slot] < monthKey) {
+            monthKeys[slot] = monthKey;
+            monthSpending[slot] = amount;
+        }
+    }
+
+    long spending(int monthKey) {
+        int slot = Math.floorMod(monthKey, monthKeys.length);
+        return monthKeys[slot] == monthKey ? monthSpending[slot] : 0;
+    }
+
+    /**
+     * 정합성 점검: 합계 / 건수 / 분류별 합계 / firstMonthKey 이후 월별 지출 비교
+     */
+    boolean sameAs(MemberAggregate other, int firstMonthKey) {
+        if (balance != other.balance || transactionCount != other.transactionCount) {
+            return false;
+        }
+        int categories = Math.max(categoryTotals.length, other.categoryTotals.length);
+        for (int i = 0; i < categories; i++) {
+            if (category(i) != other.category(i)) {
+                return false;
+            }
+        }
+        for (int key = firstMonthKey; key < firstMonthKey + monthKeys.length; key++) {
+            if (spending(key) != other.spending(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long category(int category) {
+        return category < categoryTotals.length ? categoryTotals[category] : 0;
+    }
+}
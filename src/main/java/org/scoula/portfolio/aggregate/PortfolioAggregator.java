@@ -0,0 +1,365 @@
+package org.scoula.portfolio.aggregate;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.portfolio.domain.AggregateRow;
+import org.scoula.portfolio.domain.PortfolioSummary;
+import org.scoula.portfolio.domain.TransactionOutboxVO;
+import org.scoula.portfolio.mapper.PortfolioMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 누적 집계 (대시보드 조회 시 SUM / GROUP BY 재계산 대신 O(1) 조회)
+ * - 전체 적재 : 원본 테이블 SUM / GROUP BY + 그 시점의 outbox 위치를 한 트랜잭션(REPEATABLE READ)에서 읽음
+ * - 증분 반영 : poll-interval-ms 마다 outbox 위치 이후 행을 batch-size 건씩 읽어 회원별로 반영
+ *   outbox_id 가 비어 있으면 AUTO_INCREMENT 를 먼저 받고 늦게 커밋되는 트랜잭션일 수 있으므로
+ *   그 앞까지만 반영하고 gap-grace 동안 기다림 (지나면 롤백으로 보고 건너뜀, 늦게 커밋된 거래는 정합성 점검에서 보정)
+ * - 정합성 점검 : reconcile-minutes 마다 원본을 다시 집계해 비교, 차이가 있으면 원본 기준으로 교체
+ *   (outbox 를 거치지 않은 변경, AUTO_INCREMENT 순서와 커밋 순서가 달라 건너뛴 outbox 행을 보정)
+ *
+ * 쓰기(적재 / 반영 / 점검)는 한 번에 하나만 실행(synchronized), 읽기는 맵 조회 1회로 락 없이 처리
+ * 읽기 전용 트랜잭션은 복제본으로 라우팅되므로 outbox 와 같은 시점을 보도록 primary 트랜잭션으로 조회
+ */
+@Log4j2
+public class PortfolioAggregator implements AutoCloseable {
+
+    private final PortfolioMapper portfolioMapper;
+    private final TransactionTemplate snapshotTransaction;
+    private final int batchSize;
+    private final int months;
+    private final long gapGraceMillis;
+    private final Clock clock;
+
+    private volatile Map<Long, MemberAggregate> aggregates = new ConcurrentHashMap<>();
+    private volatile long outboxPosition;
+    private volatile boolean loaded;
+
+    // 빈 outbox_id 바로 앞 위치와 처음 본 시각 (쓰기 스레드만 사용, -1 이면 기다리는 빈 id 없음)
+    private long gapPosition = -1;
+    private long gapSinceMillis;
+
+    // 분류 사전 (쓰기 스레드만 추가, 읽기는 이름 배열만 사용)
+    private final Map<String, Integer> categoryIds = new ConcurrentHashMap<>();
+    private volatile String[] categoryNames = new String[0];
+
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong appliedRows = new AtomicLong();
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong mismatches = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong skippedGaps = new AtomicLong();
+    private volatile long lastReconcileMillis;
+
+    private ScheduledExecutorService worker;
+
+    /**
+     * @param gapGraceMillis 빈 outbox_id 를 건너뛰기 전에 늦은 커밋을 기다리는 시간
+     */
+    public PortfolioAggregator(PortfolioMapper portfolioMapper, PlatformTransactionManager transactionManager,
+                               int batchSize, int months, long gapGraceMillis) {
+        this(portfolioMapper, transactionManager, batchSize, months, gapGraceMillis, Clock.systemDefaultZone());
+    }
+
+    PortfolioAggregator(PortfolioMapper portfolioMapper, PlatformTransactionManager transactionManager,
+                        int batchSize, int months, long gapGraceMillis, Clock clock) {
+        this.portfolioMapper = portfolioMapper;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.batchSize = batchSize;
+        this.months = months;
+        this.gapGraceMillis = gapGraceMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 백그라운드 적재 / 폴링 / 점검 시작 (한 스레드에서 순서대로 실행)
+     */
+    public void start(long pollIntervalMillis, long reconcileMinutes, long outboxRetentionHours) {
+        worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "portfolio-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(() -> quietly("반영", this::poll),
+                0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        worker.scheduleWithFixedDelay(() -> quietly("정합성 점검", () -> {
+            reconcile();
+            purgeOutbox(outboxRetentionHours);
+        }), reconcileMinutes, reconcileMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 대시보드 조회 (거래가 없는 회원은 0)
+     */
+    public PortfolioSummary get(long memberId) {
+        MemberAggregate aggregate = aggregates.get(memberId);
+        if (aggregate == null) {
+            return new PortfolioSummary(memberId, 0, 0, Map.of(), Map.of());
+        }
+        String[] names = categoryNames;
+        Map<String, Long> categories = new LinkedHashMap<>();
+        for (int i = 0; i < aggregate.categoryTotals.length; i++) {
+            if (aggregate.categoryTotals[i] != 0) {
+                categories.put(names[i], aggregate.categoryTotals[i]);
+            }
+        }
+        Map<String, Long> spending = new TreeMap<>();
+        int first = firstMonthKey();
+        for (int key = first; key < first + months; key++) {
+            long amount = aggregate.spending(key);
+            if (amount != 0) {
+                spending.put(YearMonth.of(key / 12, key % 12 + 1).toString(), amount);
+            }
+        }
+        return new PortfolioSummary(memberId, aggregate.balance, aggregate.transactionCount, categories, spending);
+    }
+
+    /**
+     * 원본 테이블에서 전체 다시 적재
+     *
+     * @return 적재한 회원 수
+     */
+    public synchronized int rebuild() {
+        long start = System.nanoTime();
+        Snapshot snapshot = readSnapshot();
+        aggregates = snapshot.aggregates;
+        outboxPosition = snapshot.outboxPosition;
+        loaded = true;
+        rebuilds.incrementAndGet();
+        log.info("회원 집계 적재: {}명, outbox 위치 {}, {}ms", snapshot.aggregates.size(), snapshot.outboxPosition,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return snapshot.aggregates.size();
+    }
+
+    /**
+     * outbox 의 새 거래 반영 (아직 적재 전이면 전체 적재)
+     *
+     * @return 반영한 거래 수
+     */
+    public synchronized int poll() {
+        if (!loaded) {
+            rebuild();
+            return 0;
+        }
+        return drain(Long.MAX_VALUE);
+    }
+
+    /**
+     * 원본 집계와 비교 후 원본 기준으로 교체
+     *
+     * @return 값이 달랐던 회원 수
+     */
+    public synchronized int reconcile() {
+        if (!loaded) {
+            rebuild();
+            return 0;
+        }
+        Snapshot source = readSnapshot();
+        // 원본을 읽은 시점의 outbox 위치까지 반영한 뒤 비교
+        drain(source.outboxPosition);
+        if (outboxPosition != source.outboxPosition) {
+            // 더 앞서 있거나, 늦은 커밋을 기다리는 빈 outbox_id 에서 멈춤 -> 다음 점검 때 다시
+            log.debug("정합성 점검 건너뜀: outbox 위치 {}, 원본 {}", outboxPosition, source.outboxPosition);
+            return 0;
+        }
+
+        Map<Long, MemberAggregate> current = aggregates;
+        int first = firstMonthKey();
+        Set<Long> memberIds = new HashSet<>(current.keySet());
+        memberIds.addAll(source.aggregates.keySet());
+        int different = 0;
+        MemberAggregate empty = new MemberAggregate(0, months);
+        for (Long memberId : memberIds) {
+            MemberAggregate expected = source.aggregates.getOrDefault(memberId, empty);
+            MemberAggregate actual = current.getOrDefault(memberId, empty);
+            if (!actual.sameAs(expected, first)) {
+                different++;
+            }
+        }
+
+        aggregates = source.aggregates;
+        outboxPosition = source.outboxPosition;
+        reconciliations.incrementAndGet();
+        mismatches.addAndGet(different);
+        lastReconcileMillis = clock.millis();
+        if (different > 0) {
+            log.warn("회원 집계 정합성 점검: {}명 불일치, 원본 기준으로 교체", different);
+        }
+        return different;
+    }
+
+    /**
+     * 반영이 끝나고 보관 기간이 지난 outbox 행 삭제
+     */
+    public int purgeOutbox(long retentionHours) {
+        return portfolioMapper.deleteOutbox(outboxPosition, LocalDateTime.now(clock).minusHours(retentionHours));
+    }
+
+    private int drain(long upTo) {
+        int applied = 0;
+        while (true) {
+            List<TransactionOutboxVO> rows = portfolioMapper.findOutbox(outboxPosition, upTo, batchSize);
+            if (rows.isEmpty()) {
+                return applied;
+            }
+            int ready = readyRows(rows);
+            if (ready > 0) {
+                apply(rows.subList(0, ready));
+                applied += ready;
+            }
+            if (ready < rows.size() || rows.size() < batchSize) {
+                return applied;
+            }
+        }
+    }
+
+    // 앞에서부터 빈 id 없이 이어지는 행 수 (gap-grace 가 지난 빈 id 는 건너뜀)
+    private int readyRows(List<TransactionOutboxVO> rows) {
+        long expected = outboxPosition + 1;
+        for (int i = 0; i < rows.size(); i++) {
+            long id = rows.get(i).getOutboxId();
+            if (id != expected && !gapExpired(expected - 1, id)) {
+                return i;
+            }
+            expected = id + 1;
+        }
+        return rows.size();
+    }
+
+    private boolean gapExpired(long position, long nextId) {
+        long now = clock.millis();
+        if (gapPosition != position) {
+            gapPosition = position;
+            gapSinceMillis = now;
+        }
+        if (now - gapSinceMillis < gapGraceMillis) {
+            return false;
+        }
+        gapPosition = -1;
+        skippedGaps.incrementAndGet();
+        log.debug("outbox_id {} ~ {} 건너뜀 ({}ms 동안 커밋되지 않음)", position + 1, nextId - 1, gapGraceMillis);
+        return true;
+    }
+
+    // 한 배치 안에서 같은 회원은 한 번만 복사
+    private void apply(List<TransactionOutboxVO> rows) {
+        Map<Long, MemberAggregate> current = aggregates;
+        Map<Long, MemberAggregate> updated = new LinkedHashMap<>();
+        for (TransactionOutboxVO row : rows) {
+            MemberAggregate aggregate = updated.computeIfAbsent(row.getMemberId(), memberId -> {
+                MemberAggregate existing = current.get(memberId);
+                return existing == null ? new MemberAggregate(categoryNames.length, months) : existing.copy();
+            });
+            aggregate.addCategory(categoryId(row.getCategory()), row.getAmount(), 1);
+            if (row.getAmount() < 0) {
+                aggregate.addSpending(monthKey(row.getTradeDate()), -row.getAmount());
+            }
+        }
+        current.putAll(updated);
+        outboxPosition = rows.get(rows.size() - 1).getOutboxId();
+        appliedRows.addAndGet(rows.size());
+    }
+
+    private Snapshot readSnapshot() {
+        LocalDate since = LocalDate.of(firstMonthKey() / 12, firstMonthKey() % 12 + 1, 1);
+        return snapshotTransaction.execute(status -> {
+            long position = portfolioMapper.maxOutboxId();
+            Map<Long, MemberAggregate> members = new ConcurrentHashMap<>();
+            portfolioMapper.aggregateTotals(context -> {
+                AggregateRow row = context.getResultObject();
+                member(members, row.getMemberId()).addCategory(categoryId(row.getCategory()), row.getAmount(),
+                        row.getCount());
+            });
+            portfolioMapper.aggregateMonthlySpending(since, context -> {
+                AggregateRow row = context.getResultObject();
+                member(members, row.getMemberId()).addSpending(row.getTradeYear() * 12 + row.getTradeMonth() - 1,
+                        row.getAmount());
+            });
+            return new Snapshot(members, position);
+        });
+    }
+
+    private MemberAggregate member(Map<Long, MemberAggregate> aggregates, Long memberId) {
+        return aggregates.computeIfAbsent(memberId, id -> new MemberAggregate(categoryNames.length, months));
+    }
+
+    private int categoryId(String category) {
+        Integer id = categoryIds.get(category);
+        if (id == null) {
+            id = categoryNames.length;
+            String[] names = Arrays.copyOf(categoryNames, id + 1);
+            names[id] = category;
+            categoryNames = names;   // 이름을 먼저 게시한 뒤 번호를 사용
+            categoryIds.put(category, id);
+        }
+        return id;
+    }
+
+    private static int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private int firstMonthKey() {
+        return monthKey(LocalDate.now(clock)) - months + 1;
+    }
+
+    private void quietly(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("회원 집계 {} 실패 (이전 집계 유지): {}", task, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", loaded);
+        stats.put("members", aggregates.size());
+        stats.put("categories", categoryNames.length);
+        stats.put("outboxPosition", outboxPosition);
+        stats.put("rebuilds", rebuilds.get());
+        stats.put("appliedRows", appliedRows.get());
+        stats.put("reconciliations", reconciliations.get());
+        stats.put("mismatches", mismatches.get());
+        stats.put("failures", failures.get());
+        stats.put("skippedGaps", skippedGaps.get());
+        stats.put("lastReconcileMillis", lastReconcileMillis);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    private static class Snapshot {
+        final Map<Long, MemberAggregate> aggregates;
+        final long outboxPosition;
+
+        Snapshot(Map<Long, MemberAggregate> aggregates, long outboxPosition) {
+            this.aggregates = aggregates;
+            this.outboxPosition = outboxPosition;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.scoula.portfolio.aggregate;
+
+import org.scoula.portfolio.domain.TransactionVO;
+import org.scoula.portfolio.mapper.PortfolioMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 거래 기록: tbl_transaction 과 집계 outbox 를 같은 트랜잭션에서 INSERT
+ * - 롤백된 거래는 집계에 반영되지 않고, 커밋된 거래는 PortfolioAggregator 가 다음 폴링 때 반영
+ */
+public class TransactionRecorder {
+
+    private final PortfolioMapper portfolioMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionRecorder(PortfolioMapper portfolioMapper, PlatformTransactionManager transactionManager) {
+        this.portfolioMapper = portfolioMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TransactionVO record(TransactionVO transaction) {
+        transactionTemplate.executeWithoutResult(status -> {
+            portfolioMapper.insertTransaction(transaction);
+            portfolioMapper.insertOutbox(transaction);
+        });
+        return transaction;
+    }
+}
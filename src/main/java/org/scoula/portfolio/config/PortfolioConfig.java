@@ -0,0 +1,56 @@
+package org.scoula.portfolio.config;
+
+import org.mybatis.spring.annotation.MapperScan;
+import org.scoula.portfolio.aggregate.PortfolioAggregator;
+import org.scoula.portfolio.aggregate.TransactionRecorder;
+import org.scoula.portfolio.mapper.PortfolioMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+/**
+ * 회원별 누적 집계 설정
+ * - portfolio.enabled=false 이면 적재 / 폴링하지 않음 (조회 결과 0)
+ * - portfolio.poll-interval-ms / poll-batch-size : outbox 폴링 주기 / 한 번에 읽을 행 수
+ * - portfolio.outbox.gap-grace-ms : 빈 outbox_id(늦은 커밋 또는 롤백)를 건너뛰기 전에 기다리는 시간
+ * - portfolio.months : 월별 지출 보관 개월 수
+ * - portfolio.reconcile-minutes : 원본 테이블과 정합성 점검 주기, 이때 보관 기간(outbox.retention-hours)이 지난 outbox 삭제
+ * - 매퍼는 SIMPLE 템플릿에 고정 (BATCH 템플릿이면 insertTransaction 의 생성 키가 채워지지 않음)
+ */
+@Configuration
+@MapperScan(basePackageClasses = PortfolioMapper.class, sqlSessionTemplateRef = "sqlSessionTemplate")
+public class PortfolioConfig {
+
+    @Value("${portfolio.enabled:true}")
+    boolean enabled;
+    @Value("${portfolio.poll-interval-ms:1000}")
+    long pollIntervalMillis;
+    @Value("${portfolio.poll-batch-size:500}")
+    int pollBatchSize;
+    @Value("${portfolio.outbox.gap-grace-ms:5000}")
+    long gapGraceMillis;
+    @Value("${portfolio.months:24}")
+    int months;
+    @Value("${portfolio.reconcile-minutes:60}")
+    long reconcileMinutes;
+    @Value("${portfolio.outbox.retention-hours:24}")
+    long outboxRetentionHours;
+
+    @Bean(destroyMethod = "close")
+    public PortfolioAggregator portfolioAggregator(PortfolioMapper portfolioMapper,
+                                                   DataSourceTransactionManager transactionManager) {
+        PortfolioAggregator aggregator = new PortfolioAggregator(portfolioMapper, transactionManager,
+                pollBatchSize, months, gapGraceMillis);
+        if (enabled) {
+            aggregator.start(pollIntervalMillis, reconcileMinutes, outboxRetentionHours);
+        }
+        return aggregator;
+    }
+
+    @Bean
+    public TransactionRecorder transactionRecorder(PortfolioMapper portfolioMapper,
+                                                   DataSourceTransactionManager transactionManager) {
+        return new TransactionRecorder(portfolioMapper, transactionManager);
+    }
+}
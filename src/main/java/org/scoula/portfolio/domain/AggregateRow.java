@@ -0,0 +1,18 @@
+package org.scoula.portfolio.domain;
+
+import lombok.Data;
+
+/**
+ * 원본 테이블 SUM / GROUP BY 결과 한 행 (전체 적재 / 정합성 점검용)
+ * - 분류별 합계: category, amount, count
+ * - 월별 지출: tradeYear, tradeMonth, amount (지출 금액, 양수)
+ */
+@Data
+public class AggregateRow {
+    private Long memberId;
+    private String category;
+    private Integer tradeYear;
+    private Integer tradeMonth;
+    private long amount;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package org.scoula.portfolio.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 대시보드 응답 (회원별 누적 집계)
+ * - categoryTotals : 분류별 합계 (부호 있는 금액)
+ * - monthlySpending: 최근 portfolio.months 개월 월별 지출 ("2026-09" -> 금액)
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioSummary {
+    private final long memberId;
+    private final long balance;
+    private final long transactionCount;
+    private final Map<String, Long> categoryTotals;
+    private final Map<String, Long> monthlySpending;
+}
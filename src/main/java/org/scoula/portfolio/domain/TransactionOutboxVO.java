@@ -0,0 +1,18 @@
+package org.scoula.portfolio.domain;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 반영 대기 중인 거래 (tbl_transaction_outbox, 거래 INSERT 와 같은 트랜잭션에서 기록)
+ */
+@Data
+public class TransactionOutboxVO {
+    private long outboxId;
+    private Long transactionId;
+    private Long memberId;
+    private String category;
+    private long amount;
+    private LocalDate tradeDate;
+}
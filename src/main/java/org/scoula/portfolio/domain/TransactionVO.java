@@ -0,0 +1,22 @@
+package org.scoula.portfolio.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 거래 내역 (tbl_transaction)
+ * - amount 는 원 단위 부호 있는 금액: 입금 / 수입은 양수, 지출은 음수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionVO {
+    private Long transactionId;
+    private Long memberId;
+    private String category;
+    private long amount;
+    private LocalDate tradeDate;
+}
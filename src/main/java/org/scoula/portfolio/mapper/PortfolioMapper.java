@@ -0,0 +1,37 @@
+package org.scoula.portfolio.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+import org.scoula.portfolio.domain.AggregateRow;
+import org.scoula.portfolio.domain.TransactionOutboxVO;
+import org.scoula.portfolio.domain.TransactionVO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 기록 / 집계 outbox / 원본 집계 조회 (tbl_transaction, tbl_transaction_outbox)
+ */
+public interface PortfolioMapper {
+
+    // transactionId 는 생성된 키로 채워짐
+    int insertTransaction(TransactionVO transaction);
+
+    int insertOutbox(TransactionVO transaction);
+
+    // after < outbox_id <= upTo, outbox_id 순
+    List<TransactionOutboxVO> findOutbox(@Param("after") long after, @Param("upTo") long upTo,
+                                         @Param("limit") int limit);
+
+    long maxOutboxId();
+
+    // 반영이 끝난(outbox_id <= upTo) 행 중 보관 기간이 지난 행 삭제
+    int deleteOutbox(@Param("upTo") long upTo, @Param("createdBefore") LocalDateTime createdBefore);
+
+    // 회원 / 분류별 합계와 건수
+    void aggregateTotals(ResultHandler<AggregateRow> handler);
+
+    // since 이후 회원 / 월별 지출 합계
+    void aggregateMonthlySpending(@Param("since") LocalDate since, ResultHandler<AggregateRow> handler);
+}
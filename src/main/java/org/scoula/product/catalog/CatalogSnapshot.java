@@ -0,0 +1,241 @@
+package org.scoula.product.catalog;
+
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductSort;
+import org.scoula.product.domain.ProductType;
+import org.scoula.product.domain.ProductVO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * 카탈로그 불변 스냅샷 (생성 후 수정하지 않으므로 검색 시 락 불필요)
+ * - 열 단위 기본형 배열: productId, 기간, 금리(베이시스 포인트 = 금리 × 100)
+ * - 필터 속성별 비트맵(long[]): 상품 유형, 은행, 기간 값
+ * - 금리 순위 배열: 금리 내림차순(같으면 productId 오름차순) 행 번호, 상위 K 검색은 순위대로 비트맵만 확인
+ */
+final class CatalogSnapshot {
+
+    private static final ProductType[] TYPES = ProductType.values();
+
+    static final CatalogSnapshot EMPTY = build(Collections.emptyList(), null, 0);
+
+    final long version;
+    final LocalDateTime watermark;  // 적재한 행의 최대 updated_at (증분 갱신 기준)
+
+    private final ProductVO[] rows;
+    private final long[] productIds;
+    private final int[] termMonths;
+    private final int[] baseRates;
+    private final int[] maxRates;
+
+    private final long[][] typeIndex;           // ProductType.ordinal -> 비트맵
+    private final Map<String, long[]> bankIndex;
+    private final int[] terms;                  // 서로 다른 기간 값 (오름차순)
+    private final long[][] termIndex;           // terms[i] -> 비트맵
+
+    private final int[] maxRateRank;
+    private final int[] baseRateRank;
+
+    private final Map<Long, Integer> rowByProductId;
+
+    private CatalogSnapshot(List<ProductVO> products, LocalDateTime watermark, long version) {
+        this.version = version;
+        this.watermark = watermark;
+
+        int size = products.size();
+        int words = (size + 63) >>> 6;
+        rows = products.toArray(new ProductVO[0]);
+        productIds = new long[size];
+        termMonths = new int[size];
+        baseRates = new int[size];
+        maxRates = new int[size];
+        typeIndex = new long[TYPES.length][words];
+        rowByProductId = new HashMap<>(size * 2);
+
+        Map<String, long[]> banks = new HashMap<>();
+        TreeMap<Integer, long[]> termBitmaps = new TreeMap<>();
+        for (int row = 0; row < size; row++) {
+            ProductVO product = rows[row];
+            productIds[row] = product.getProductId();
+            termMonths[row] = product.getTermMonths();
+            baseRates[row] = basisPoints(product.getBaseRate(), RoundingMode.HALF_UP);
+            maxRates[row] = basisPoints(product.getMaxRate(), RoundingMode.HALF_UP);
+            rowByProductId.put(product.getProductId(), row);
+
+            set(typeIndex[product.getProductType().ordinal()], row);
+            set(banks.computeIfAbsent(product.getBankCode(), k -> new long[words]), row);
+            set(termBitmaps.computeIfAbsent(product.getTermMonths(), k -> new long[words]), row);
+        }
+        bankIndex = banks;
+        terms = termBitmaps.keySet().stream().mapToInt(Integer::intValue).toArray();
+        termIndex = termBitmaps.values().toArray(new long[0][]);
+
+        maxRateRank = rank(maxRates);
+        baseRateRank = rank(baseRates);
+    }
+
+    /**
+     * productId 오름차순으로 정렬해 스냅샷 생성
+     */
+    static CatalogSnapshot build(Collection<ProductVO> products, LocalDateTime watermark, long version) {
+        List<ProductVO> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(ProductVO::getProductId));
+        for (ProductVO product : sorted) {
+            if (product.getUpdatedAt() != null && (watermark == null || product.getUpdatedAt().isAfter(watermark))) {
+                watermark = product.getUpdatedAt();
+            }
+        }
+        return new CatalogSnapshot(sorted, watermark, version);
+    }
+
+    /**
+     * 변경분을 반영한 새 스냅샷 (현재 스냅샷은 그대로 - 진행 중인 검색에 영향 없음)
+     */
+    CatalogSnapshot apply(List<ProductVO> changes) {
+        Map<Long, ProductVO> products = new HashMap<>(rows.length * 2);
+        for (ProductVO row : rows) {
+            products.put(row.getProductId(), row);
+        }
+        LocalDateTime newWatermark = watermark;
+        for (ProductVO change : changes) {
+            if (change.isDeleted()) {
+                products.remove(change.getProductId());
+            } else {
+                products.put(change.getProductId(), change);
+            }
+            if (change.getUpdatedAt() != null && (newWatermark == null || change.getUpdatedAt().isAfter(newWatermark))) {
+                newWatermark = change.getUpdatedAt();
+            }
+        }
+        return build(products.values(), newWatermark, version + 1);
+    }
+
+    int size() {
+        return rows.length;
+    }
+
+    int bankCount() {
+        return bankIndex.size();
+    }
+
+    ProductVO get(long productId) {
+        Integer row = rowByProductId.get(productId);
+        return row == null ? null : rows[row];
+    }
+
+    List<ProductVO> search(ProductSearch search) {
+        boolean byBaseRate = search.getSort() == ProductSort.BASE_RATE;
+        int[] rank = byBaseRate ? baseRateRank : maxRateRank;
+        int[] rates = byBaseRate ? baseRates : maxRates;
+        int minRate = search.getMinRate() == null ? Integer.MIN_VALUE
+                : basisPoints(search.getMinRate(), RoundingMode.CEILING);
+        int limit = Math.min(search.getLimit(), rows.length);
+
+        long[] filter = filter(search);
+        List<ProductVO> result = new ArrayList<>(Math.max(limit, 0));
+        for (int i = 0; i < rank.length && result.size() < limit; i++) {
+            int row = rank[i];
+            if (rates[row] < minRate) {
+                break;  // 이후 행은 모두 금리가 더 낮음
+            }
+            if (filter == null || get(filter, row)) {
+                result.add(rows[row]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 조건별 비트맵의 교집합 (조건이 하나도 없으면 null = 전체)
+     */
+    private long[] filter(ProductSearch search) {
+        long[] filter = null;
+
+        Set<ProductType> types = search.getTypes();
+        if (types != null && !types.isEmpty()) {
+            long[] union = new long[words()];
+            for (ProductType type : types) {
+                or(union, typeIndex[type.ordinal()]);
+            }
+            filter = union;
+        }
+
+        Set<String> bankCodes = search.getBankCodes();
+        if (bankCodes != null && !bankCodes.isEmpty()) {
+            long[] union = new long[words()];
+            for (String bankCode : bankCodes) {
+                long[] bitmap = bankIndex.get(bankCode);
+                if (bitmap != null) {
+                    or(union, bitmap);
+                }
+            }
+            filter = and(filter, union);
+        }
+
+        if (search.getMinTerm() != null || search.getMaxTerm() != null) {
+            int min = search.getMinTerm() == null ? Integer.MIN_VALUE : search.getMinTerm();
+            int max = search.getMaxTerm() == null ? Integer.MAX_VALUE : search.getMaxTerm();
+            long[] union = new long[words()];
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i] >= min && terms[i] <= max) {
+                    or(union, termIndex[i]);
+                }
+            }
+            filter = and(filter, union);
+        }
+        return filter;
+    }
+
+    private int words() {
+        return typeIndex[0].length;
+    }
+
+    // 금리 내림차순, 같으면 productId 오름차순 (SQL 의 ORDER BY rate DESC, product_id 와 같은 순서)
+    private int[] rank(int[] rates) {
+        return IntStream.range(0, rows.length).boxed()
+                .sorted((a, b) -> rates[a] != rates[b] ? Integer.compare(rates[b], rates[a])
+                        : Long.compare(productIds[a], productIds[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    static int basisPoints(BigDecimal rate, RoundingMode roundingMode) {
+        return rate.movePointRight(2).setScale(0, roundingMode).intValueExact();
+    }
+
+    private static void set(long[] bitmap, int row) {
+        bitmap[row >>> 6] |= 1L << row;
+    }
+
+    private static boolean get(long[] bitmap, int row) {
+        return (bitmap[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private static void or(long[] target, long[] bitmap) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= bitmap[i];
+        }
+    }
+
+    private static long[] and(long[] filter, long[] bitmap) {
+        if (filter == null) {
+            return bitmap;
+        }
+        for (int i = 0; i < filter.length; i++) {
+            filter[i] &= bitmap[i];
+        }
+        return filter;
+    }
+}
@@ -0,0 +1,186 @@
+package org.scoula.product.catalog;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductVO;
+import org.scoula.product.mapper.ProductMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 상품 카탈로그
+ * - 검색은 현재 스냅샷(volatile 참조 1회 읽기)만 사용: DB 조회 / 락 없음
+ * - 갱신은 ProductMapper 로 읽어 새 스냅샷을 만든 뒤 참조 교체 (copy-on-write)
+ *   시작 시 전체 적재(findAll), 이후 refresh-seconds 마다 변경분만 조회(findUpdatedSince)
+ *   updated_at 은 커밋 시각이 아니므로 기준 시각보다 refresh-lag 만큼 앞에서부터 다시 읽음
+ *   (늦게 커밋된 행도 반영, 다시 읽힌 같은 행은 isNewer 에서 걸러짐)
+ *   full-reload-minutes 마다 전체 다시 적재 (lag 보다 늦은 커밋, updated_at 을 바꾸지 않은 수정 보정)
+ * - 적재 / 갱신 실패 시 이전 스냅샷을 계속 사용
+ * - 스냅샷을 교체할 때마다 변경 리스너 호출 (HTTP 응답 캐시 무효화 등)
+ */
+@Log4j2
+public class ProductCatalog implements AutoCloseable {
+
+    private final ProductMapper productMapper;
+    private final long refreshLagSeconds;
+
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+    private volatile boolean loaded;
+
+    private final AtomicLong fullLoads = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong changedRows = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastRefreshMillis;
+
+    private ScheduledExecutorService refresher;
+
+    public ProductCatalog(ProductMapper productMapper) {
+        this(productMapper, 0);
+    }
+
+    /**
+     * @param refreshLagSeconds 증분 갱신 시 기준 시각보다 앞당겨 다시 읽는 시간
+     */
+    public ProductCatalog(ProductMapper productMapper, long refreshLagSeconds) {
+        this.productMapper = productMapper;
+        this.refreshLagSeconds = refreshLagSeconds;
+    }
+
+    /**
+     * 백그라운드 적재 시작 (시작을 DB 연결 대기로 막지 않음)
+     *
+     * @param fullReloadMinutes 전체 다시 적재 주기 (0 이면 시작 시 한 번만)
+     */
+    public void start(long refreshSeconds, long fullReloadMinutes) {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "product-catalog-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> quietly("갱신", this::refresh), 0, refreshSeconds, TimeUnit.SECONDS);
+        if (fullReloadMinutes > 0) {
+            refresher.scheduleWithFixedDelay(() -> quietly("전체 적재", this::reload),
+                    fullReloadMinutes, fullReloadMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 새 스냅샷으로 교체된 뒤 호출할 리스너 등록 (갱신 스레드에서 호출되므로 가볍게)
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public List<ProductVO> search(ProductSearch search) {
+        return snapshot.search(search);
+    }
+
+    public ProductVO get(long productId) {
+        return snapshot.get(productId);
+    }
+
+    /**
+     * 전체 다시 적재
+     *
+     * @return 적재한 상품 수
+     */
+    public synchronized int reload() {
+        long start = System.nanoTime();
+        List<ProductVO> products = productMapper.findAll();
+        snapshot = CatalogSnapshot.build(products, null, snapshot.version + 1);
+        loaded = true;
+        fireChange();
+        fullLoads.incrementAndGet();
+        lastRefreshMillis = System.currentTimeMillis();
+        log.info("상품 카탈로그 적재: {}건, {}ms", products.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return products.size();
+    }
+
+    /**
+     * 마지막 적재 이후 변경된 상품만 반영 (아직 적재 전이면 전체 적재)
+     *
+     * @return 반영한 변경 행 수
+     */
+    public synchronized int refresh() {
+        CatalogSnapshot current = snapshot;
+        if (!loaded || current.watermark == null) {
+            return reload();
+        }
+        // 기준 시각 - lag 이후 행은 매번 다시 읽히므로 실제로 달라진 행만 반영, 없으면 스냅샷 교체 안 함
+        List<ProductVO> changes = productMapper.findUpdatedSince(current.watermark.minusSeconds(refreshLagSeconds))
+                .stream()
+                .filter(change -> isNewer(current, change))
+                .collect(Collectors.toList());
+        lastRefreshMillis = System.currentTimeMillis();
+        refreshes.incrementAndGet();
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        snapshot = current.apply(changes);
+        changedRows.addAndGet(changes.size());
+        fireChange();
+        log.debug("상품 카탈로그 증분 갱신: {}건 -> version {}", changes.size(), snapshot.version);
+        return changes.size();
+    }
+
+    private static boolean isNewer(CatalogSnapshot current, ProductVO change) {
+        if (change.getUpdatedAt() == null || change.getUpdatedAt().isAfter(current.watermark)) {
+            return true;
+        }
+        ProductVO existing = current.get(change.getProductId());
+        return change.isDeleted() ? existing != null : !change.equals(existing);
+    }
+
+    private void fireChange() {
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    private void quietly(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("상품 카탈로그 {} 실패 (이전 스냅샷 유지): {}", task, e.getMessage());
+        }
+    }
+
+    CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Map<String, Object> stats() {
+        CatalogSnapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loaded", loaded);
+        stats.put("version", current.version);
+        stats.put("products", current.size());
+        stats.put("banks", current.bankCount());
+        stats.put("watermark", current.watermark == null ? null : current.watermark.toString());
+        stats.put("fullLoads", fullLoads.get());
+        stats.put("refreshes", refreshes.get());
+        stats.put("changedRows", changedRows.get());
+        stats.put("failures", failures.get());
+        stats.put("lastRefreshMillis", lastRefreshMillis);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
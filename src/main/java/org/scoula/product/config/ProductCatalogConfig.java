@@ -0,0 +1,38 @@
+package org.scoula.product.config;
+
+import org.mybatis.spring.annotation.MapperScan;
+import org.scoula.product.catalog.ProductCatalog;
+import org.scoula.product.mapper.ProductMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메모리 상품 카탈로그 설정
+ * - catalog.enabled=false 이면 적재하지 않음 (검색 결과 없음)
+ * - catalog.refresh-seconds 마다 변경분(updated_at 기준)만 DB 에서 읽어 반영
+ * - catalog.refresh-lag-seconds : 늦게 커밋된 행을 놓치지 않도록 기준 시각보다 앞당겨 읽는 시간
+ * - catalog.full-reload-minutes : 전체 다시 적재 주기 (0 이면 안 함)
+ */
+@Configuration
+@MapperScan(basePackageClasses = ProductMapper.class, sqlSessionTemplateRef = "sqlSessionTemplate")
+public class ProductCatalogConfig {
+
+    @Value("${catalog.enabled:true}")
+    boolean enabled;
+    @Value("${catalog.refresh-seconds:30}")
+    long refreshSeconds;
+    @Value("${catalog.refresh-lag-seconds:60}")
+    long refreshLagSeconds;
+    @Value("${catalog.full-reload-minutes:60}")
+    long fullReloadMinutes;
+
+    @Bean(destroyMethod = "close")
+    public ProductCatalog productCatalog(ProductMapper productMapper) {
+        ProductCatalog catalog = new ProductCatalog(productMapper, refreshLagSeconds);
+        if (enabled) {
+            catalog.start(refreshSeconds, fullReloadMinutes);
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,22 @@
+package org.scoula.product.domain;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 상품 검색 조건 (비어 있는 조건은 적용하지 않음)
+ * - minRate 는 정렬 기준 금리(sort)에 적용
+ * - ProductMapper.search (SQL) 와 ProductCatalog.search (메모리) 가 같은 조건 / 같은 순서로 결과를 반환
+ */
+@Data
+public class ProductSearch {
+    private Set<ProductType> types;
+    private Set<String> bankCodes;
+    private Integer minTerm;
+    private Integer maxTerm;
+    private BigDecimal minRate;
+    private ProductSort sort = ProductSort.MAX_RATE;
+    private int limit = 20;
+}
@@ -0,0 +1,9 @@
+package org.scoula.product.domain;
+
+/**
+ * 상품 검색 정렬 기준 (금리 내림차순, 같으면 productId 오름차순)
+ */
+public enum ProductSort {
+    MAX_RATE,   // 최고 우대 금리
+    BASE_RATE   // 기본 금리
+}
@@ -0,0 +1,10 @@
+package org.scoula.product.domain;
+
+/**
+ * 금융 상품 유형 (tbl_product.product_type)
+ */
+public enum ProductType {
+    DEPOSIT,    // 예금
+    SAVING,     // 적금
+    FUND        // 펀드
+}
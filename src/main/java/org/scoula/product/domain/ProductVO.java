@@ -0,0 +1,31 @@
+package org.scoula.product.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 금융 상품 (tbl_product)
+ * - 금리는 DECIMAL(5,2) (예: 3.45 = 연 3.45%)
+ * - deleted=true 인 행은 카탈로그 증분 갱신 시 삭제로 처리 (deleted / updatedAt 은 갱신용, 응답에는 포함하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductVO {
+    private Long productId;
+    private ProductType productType;
+    private String bankCode;
+    private String productName;
+    private int termMonths;
+    private BigDecimal baseRate;
+    private BigDecimal maxRate;
+    @JsonIgnore
+    private boolean deleted;
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package org.scoula.product.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductVO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 금융 상품 조회 (tbl_product)
+ * - findAll / findUpdatedSince : ProductCatalog 적재 / 증분 갱신용
+ * - search                     : 카탈로그를 쓰지 않을 때의 SQL 검색 (벤치마크 비교 대상)
+ */
+public interface ProductMapper {
+
+    // 삭제되지 않은 전체 상품
+    List<ProductVO> findAll();
+
+    // updated_at >= since 인 상품 (삭제 표시된 행 포함)
+    List<ProductVO> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    List<ProductVO> search(ProductSearch search);
+}
@@ -0,0 +1,73 @@
+package org.scoula.security.config;
+
+import org.scoula.security.password.AdaptiveBCryptPasswordEncoder;
+import org.scoula.security.password.LoginThrottle;
+import org.scoula.security.password.PasswordVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 비밀번호 해시 / 로그인 검증 설정
+ * - BCrypt strength 는 시작 시 측정해 password.bcrypt.target-ms 에 맞춤 (min ~ max)
+ * - 검증은 전용 실행기(password.verify.*)에서, 실패 횟수는 계정(login.throttle.account.*) / IP(login.throttle.ip.*) 별로 제한
+ */
+@Configuration
+public class PasswordConfig {
+
+    @Value("${password.bcrypt.target-ms:100}")
+    long bcryptTargetMillis;
+    @Value("${password.bcrypt.min-strength:10}")
+    int bcryptMinStrength;
+    @Value("${password.bcrypt.max-strength:14}")
+    int bcryptMaxStrength;
+
+    // 기본값: CPU 절반만 BCrypt 에 사용
+    @Value("${password.verify.threads:0}")
+    int verifyThreads;
+    @Value("${password.verify.queue-capacity:64}")
+    int verifyQueueCapacity;
+    @Value("${password.verify.timeout-ms:2000}")
+    long verifyTimeoutMillis;
+    @Value("${password.verify.cache-seconds:300}")
+    long verifyCacheSeconds;
+    @Value("${password.verify.cache-maximum-size:10000}")
+    long verifyCacheMaximumSize;
+
+    @Value("${login.throttle.account.max-failures:5}")
+    int accountMaxFailures;
+    @Value("${login.throttle.ip.max-failures:50}")
+    int ipMaxFailures;
+    @Value("${login.throttle.window-seconds:300}")
+    long throttleWindowSeconds;
+    @Value("${login.throttle.base-lock-seconds:30}")
+    long throttleBaseLockSeconds;
+    @Value("${login.throttle.max-lock-seconds:900}")
+    long throttleMaxLockSeconds;
+    @Value("${login.throttle.stripes:64}")
+    int throttleStripes;
+    @Value("${login.throttle.maximum-keys:100000}")
+    int throttleMaximumKeys;
+
+    // SecurityConfig 의 passwordEncoder 보다 우선 (기존 해시는 그대로 검증되고 로그인 시 업그레이드)
+    @Bean
+    @Primary
+    public AdaptiveBCryptPasswordEncoder adaptivePasswordEncoder() {
+        return AdaptiveBCryptPasswordEncoder.calibrated(bcryptTargetMillis, bcryptMinStrength, bcryptMaxStrength);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PasswordVerifier passwordVerifier(AdaptiveBCryptPasswordEncoder adaptivePasswordEncoder) {
+        int threads = verifyThreads > 0 ? verifyThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordVerifier(adaptivePasswordEncoder,
+                throttle(accountMaxFailures), throttle(ipMaxFailures),
+                threads, verifyQueueCapacity, verifyTimeoutMillis,
+                verifyCacheSeconds, verifyCacheMaximumSize);
+    }
+
+    private LoginThrottle throttle(int maxFailures) {
+        return new LoginThrottle(maxFailures, throttleWindowSeconds, throttleBaseLockSeconds, throttleMaxLockSeconds,
+                throttleStripes, throttleMaximumKeys);
+    }
+}
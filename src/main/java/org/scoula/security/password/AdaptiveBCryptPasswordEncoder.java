@@ -0,0 +1,83 @@
+package org.scoula.security.password;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 서버 성능에 맞춰 strength(cost) 를 정하는 BCrypt PasswordEncoder
+ * - 시작 시 가장 낮은 strength 로 실제 해시 시간을 재고, strength 가 1 오를 때마다 시간이 2배가 되는 성질로
+ *   목표 시간(password.bcrypt.target-ms)을 넘지 않는 가장 큰 strength 선택 (min ~ max 범위)
+ * - 검증은 해시에 기록된 cost 로 하므로 이전 strength 의 해시도 그대로 검증됨
+ * - upgradeEncoding: 저장된 해시의 cost 가 현재 strength 보다 낮으면 true
+ *   -> 로그인 성공 시 원문 비밀번호로 다시 해시해 저장 (PasswordVerifier)
+ */
+@Log4j2
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 목표 시간에 맞춰 strength 를 정한 encoder 생성
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrated(long targetMillis, int minStrength, int maxStrength) {
+        long nanos = measure(minStrength);
+        int strength = minStrength;
+        long estimated = nanos;
+        while (strength < maxStrength && estimated * 2 <= targetMillis * 1_000_000L) {
+            strength++;
+            estimated *= 2;
+        }
+        log.info("BCrypt strength {} 선택 (strength {} 측정 {}ms, 예상 {}ms, 목표 {}ms)",
+                strength, minStrength, nanos / 1_000_000.0, estimated / 1_000_000, targetMillis);
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    // 첫 호출(JIT 전) 제외, 3회 중 가장 빠른 시간
+    private static long measure(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        BCrypt.hashpw("calibration", salt);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+}
@@ -0,0 +1,46 @@
+package org.scoula.security.password;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 검증 결과
+ * - LOCKED / BUSY 는 retryAfterMillis 후 다시 시도 (응답의 Retry-After 헤더 값)
+ */
+@Getter
+public final class LoginResult {
+
+    public enum Outcome {
+        SUCCESS,
+        BAD_CREDENTIALS,
+        LOCKED,     // 계정 또는 IP 의 실패 횟수 초과로 잠김 (BCrypt 검증 안 함)
+        BUSY        // 검증 실행기 대기열이 가득 참 / 대기 시간 초과
+    }
+
+    static final LoginResult SUCCESS = new LoginResult(Outcome.SUCCESS, 0);
+    static final LoginResult BAD_CREDENTIALS = new LoginResult(Outcome.BAD_CREDENTIALS, 0);
+
+    private final Outcome outcome;
+    private final long retryAfterMillis;
+
+    private LoginResult(Outcome outcome, long retryAfterMillis) {
+        this.outcome = outcome;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    static LoginResult locked(long retryAfterMillis) {
+        return new LoginResult(Outcome.LOCKED, retryAfterMillis);
+    }
+
+    static LoginResult busy(long retryAfterMillis) {
+        return new LoginResult(Outcome.BUSY, retryAfterMillis);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.SUCCESS;
+    }
+
+    @Override
+    public String toString() {
+        return outcome + (retryAfterMillis > 0 ? "(retryAfter=" + retryAfterMillis + "ms)" : "");
+    }
+}
@@ -0,0 +1,133 @@
+package org.scoula.security.password;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 실패 횟수 제한 (계정 / IP 별)
+ * - window 안에서 maxFailures 번 실패하면 잠금, 잠금이 반복될수록 잠금 시간 2배 (maxLock 까지)
+ * - 잠긴 동안은 BCrypt 검증 없이 바로 거부하므로 크리덴셜 스터핑 시 CPU 를 쓰지 않음
+ * - 키를 해시로 나눈 stripe 마다 따로 잠그는 LRU 맵 -> 서로 다른 계정의 로그인은 거의 경합하지 않고,
+ *   stripe 별 최대 키 수로 무작위 계정/IP 공격에도 메모리가 제한됨
+ */
+public class LoginThrottle {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long baseLockMillis;
+    private final long maxLockMillis;
+    private final LongSupplier clock;
+
+    public LoginThrottle(int maxFailures, long windowSeconds, long baseLockSeconds, long maxLockSeconds,
+                         int stripeCount, int maximumKeys) {
+        this(maxFailures, windowSeconds, baseLockSeconds, maxLockSeconds, stripeCount, maximumKeys,
+                System::currentTimeMillis);
+    }
+
+    LoginThrottle(int maxFailures, long windowSeconds, long baseLockSeconds, long maxLockSeconds,
+                  int stripeCount, int maximumKeys, LongSupplier clock) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(Math.max(1, maximumKeys / size));
+        }
+        this.mask = size - 1;
+        this.maxFailures = maxFailures;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.baseLockMillis = TimeUnit.SECONDS.toMillis(baseLockSeconds);
+        this.maxLockMillis = TimeUnit.SECONDS.toMillis(maxLockSeconds);
+        this.clock = clock;
+    }
+
+    /**
+     * 잠겨 있으면 남은 잠금 시간(ms), 아니면 0
+     */
+    public long retryAfterMillis(String key) {
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Counter counter = stripe.get(key);
+            return counter == null ? 0 : Math.max(0, counter.lockedUntil - clock.getAsLong());
+        }
+    }
+
+    /**
+     * 실패 기록, 이번 실패로 잠기면 잠금 시간(ms) 반환 (아니면 0)
+     */
+    public long recordFailure(String key) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Counter counter = stripe.computeIfAbsent(key, k -> new Counter(now));
+            if (now - counter.windowStart >= windowMillis) {
+                // 마지막 잠금 후 window 동안 조용했으면 잠금 단계도 초기화
+                if (now - counter.lockedUntil >= windowMillis) {
+                    counter.lockouts = 0;
+                }
+                counter.failures = 0;
+                counter.windowStart = now;
+            }
+            if (++counter.failures < maxFailures) {
+                return 0;
+            }
+            long lock = Math.min(maxLockMillis, baseLockMillis << Math.min(counter.lockouts, 30));
+            counter.lockouts++;
+            counter.failures = 0;
+            counter.windowStart = now;
+            counter.lockedUntil = now + lock;
+            return lock;
+        }
+    }
+
+    // 로그인 성공 시 실패 기록 삭제
+    public void reset(String key) {
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Counter {
+        int failures;
+        int lockouts;
+        long windowStart;
+        long lockedUntil;
+
+        Counter(long now) {
+            this.windowStart = now;
+        }
+    }
+
+    // 접근 순서 LRU, 가득 차면 가장 오래 쓰이지 않은 키 제거
+    private static final class Stripe extends LinkedHashMap<String, Counter> {
+        private final int maximumKeys;
+
+        Stripe(int maximumKeys) {
+            super(16, 0.75f, true);
+            this.maximumKeys = maximumKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Counter> eldest) {
+            return size() > maximumKeys;
+        }
+    }
+}
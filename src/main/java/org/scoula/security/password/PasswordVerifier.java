@@ -0,0 +1,229 @@
+package org.scoula.security.password;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 비밀번호 검증
+ * 1. 계정 / IP 가 잠겨 있으면 BCrypt 없이 바로 LOCKED
+ * 2. 최근 성공한 (저장된 해시, 입력 비밀번호) 조합이면 BCrypt 없이 SUCCESS (인증 결과 캐시)
+ * 3. 전용 실행기에서 BCrypt 검증 - 스레드 수 / 대기열이 제한되어 있어 로그인 폭주 시에도
+ *    요청 처리 스레드와 다른 API 의 CPU 를 다 쓰지 않음, 대기열이 차거나 시간이 초과되면 BUSY
+ *    없는 계정도 현재 strength 로 만든 더미 해시로 같은 실행기에서 검증 (응답 시간으로 계정 존재 여부가 드러나지 않음)
+ * 4. 성공: 실패 기록 삭제, 해시의 cost 가 현재 strength 보다 낮으면 다시 해시해 rehash 로 전달
+ *    실패: 계정 / IP 실패 횟수 기록
+ *
+ * 인증 결과 캐시의 키는 프로세스마다 새로 만든 비밀 키로 계산한 HMAC-SHA256(저장된 해시 + 입력 비밀번호)
+ * - 비밀번호 원문 / 해시를 보관하지 않고, 비밀번호가 바뀌면 저장된 해시가 달라지므로 이전 결과는 쓰이지 않음
+ * - 성공만 캐시 (실패를 캐시하면 공격자가 같은 비밀번호를 반복할 때만 이득)
+ */
+@Log4j2
+public class PasswordVerifier implements AutoCloseable {
+
+    private static final long BUSY_RETRY_MILLIS = 1000;
+
+    private final PasswordEncoder encoder;
+    private final LoginThrottle accountThrottle;
+    private final LoginThrottle ipThrottle;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Cache<String, Boolean> successCache;
+    private final ThreadLocal<Mac> mac;
+
+    private final Map<LoginResult.Outcome, LongAdder> outcomes = new EnumMap<>(LoginResult.Outcome.class);
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder upgrades = new LongAdder();
+
+    // 없는 계정 검증용 해시 (처음 필요할 때 검증 스레드에서 생성)
+    private volatile String dummyHash;
+
+    /**
+     * @param threads          BCrypt 검증 스레드 수
+     * @param queueCapacity    검증 대기열 크기 (가득 차면 BUSY)
+     * @param timeoutMillis    대기 + 검증 최대 시간 (초과하면 BUSY)
+     * @param cacheSeconds     인증 결과 캐시 유지 시간 (0 이면 캐시 안 함)
+     */
+    public PasswordVerifier(PasswordEncoder encoder, LoginThrottle accountThrottle, LoginThrottle ipThrottle,
+                            int threads, int queueCapacity, long timeoutMillis,
+                            long cacheSeconds, long cacheMaximumSize) {
+        this.encoder = encoder;
+        this.accountThrottle = accountThrottle;
+        this.ipThrottle = ipThrottle;
+        this.timeoutMillis = timeoutMillis;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-verify-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        this.successCache = cacheSeconds <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheSeconds, TimeUnit.SECONDS)
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+        for (LoginResult.Outcome outcome : LoginResult.Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * @param username        로그인 계정
+     * @param ip              요청 IP (request.getRemoteAddr)
+     * @param rawPassword     입력 비밀번호
+     * @param encodedPassword 저장된 해시 (계정이 없으면 null -> 실패로 기록)
+     * @param rehash          해시 업그레이드가 필요할 때 새 해시를 저장하는 함수 (null 이면 업그레이드 안 함)
+     */
+    public LoginResult verify(String username, String ip, String rawPassword, String encodedPassword,
+                              Consumer<String> rehash) {
+        LoginResult result = doVerify(username, ip, rawPassword, encodedPassword, rehash);
+        outcomes.get(result.getOutcome()).increment();
+        return result;
+    }
+
+    private LoginResult doVerify(String username, String ip, String rawPassword, String encodedPassword,
+                                 Consumer<String> rehash) {
+        long locked = Math.max(accountThrottle.retryAfterMillis(username), ipThrottle.retryAfterMillis(ip));
+        if (locked > 0) {
+            return LoginResult.locked(locked);
+        }
+
+        String cacheKey = null;
+        if (successCache != null && encodedPassword != null) {
+            cacheKey = digest(encodedPassword, rawPassword);
+            if (successCache.getIfPresent(cacheKey) != null) {
+                cacheHits.increment();
+                accountThrottle.reset(username);
+                return LoginResult.SUCCESS;
+            }
+        }
+
+        boolean matches;
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                if (encodedPassword == null) {
+                    encoder.matches(rawPassword, dummyHash());   // 시간만 같게, 결과는 항상 실패
+                    return false;
+                }
+                return encoder.matches(rawPassword, encodedPassword);
+            });
+        } catch (RejectedExecutionException e) {
+            return LoginResult.busy(BUSY_RETRY_MILLIS);
+        }
+        try {
+            matches = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return LoginResult.busy(BUSY_RETRY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return LoginResult.busy(BUSY_RETRY_MILLIS);
+        } catch (ExecutionException e) {
+            log.warn("비밀번호 검증 실패: {}", e.getCause().toString());
+            matches = false;
+        }
+
+        if (!matches) {
+            long accountLock = accountThrottle.recordFailure(username);
+            long ipLock = ipThrottle.recordFailure(ip);
+            if (accountLock > 0 || ipLock > 0) {
+                log.info("로그인 잠금: username={}, ip={}, {}ms", username, ip, Math.max(accountLock, ipLock));
+            }
+            return LoginResult.BAD_CREDENTIALS;
+        }
+
+        accountThrottle.reset(username);
+        if (cacheKey != null) {
+            successCache.put(cacheKey, Boolean.TRUE);
+        }
+        if (rehash != null && encoder.upgradeEncoding(encodedPassword)) {
+            upgrade(username, rawPassword, rehash);
+        }
+        return LoginResult.SUCCESS;
+    }
+
+    // 현재 strength 로 만든 해시 (strength 가 바뀌어 cost 가 낮아졌으면 다시 생성)
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null || encoder.upgradeEncoding(hash)) {
+            byte[] random = new byte[16];
+            new SecureRandom().nextBytes(random);
+            hash = encoder.encode(Base64.getEncoder().encodeToString(random));
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    // 새 해시 계산도 BCrypt 비용이므로 같은 실행기에서 (대기열이 가득 차면 다음 로그인 때 다시 시도)
+    private void upgrade(String username, String rawPassword, Consumer<String> rehash) {
+        try {
+            executor.execute(() -> {
+                try {
+                    rehash.accept(encoder.encode(rawPassword));
+                    upgrades.increment();
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 해시 업그레이드 실패: username={}, {}", username, e.toString());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 해시 업그레이드 보류 (실행기 대기열 가득 참): username={}", username);
+        }
+    }
+
+    private String digest(String encodedPassword, String rawPassword) {
+        Mac instance = mac.get();
+        instance.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        instance.update((byte) 0);
+        return Base64.getEncoder().encodeToString(instance.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        outcomes.forEach((outcome, count) -> stats.put(outcome.name(), count.sum()));
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("upgrades", upgrades.sum());
+        stats.put("activeVerifications", executor.getActiveCount());
+        stats.put("queuedVerifications", executor.getQueue().size());
+        stats.put("throttledAccounts", accountThrottle.size());
+        stats.put("throttledIps", ipThrottle.size());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
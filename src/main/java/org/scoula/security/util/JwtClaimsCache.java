@@ -0,0 +1,193 @@
+package org.scoula.security.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 JWT Claims 캐시
+ * - JwtProcessor.validateToken / getUsername / getRole 이 같은 토큰을 매번 파싱 + HMAC 검증하지 않도록 앞단에서 사용
+ * - 키: 토큰 원문의 SHA-256 다이제스트 (토큰 원문은 보관하지 않음)
+ * - 엔트리는 늦어도 토큰의 exp 시각에 만료되며, 조회 시에도 exp 를 다시 확인하므로 만료된 토큰은 절대 캐시에서 반환되지 않음
+ * - 파싱/검증 실패(만료, 서명 오류, 형식 오류)는 캐시하지 않고 예외를 그대로 전달
+ *
+ * 사용 예 (JwtProcessor 내부):
+ * <pre>
+ *   Claims claims = claimsCache.get(token, t -> parser.parseClaimsJws(t).getBody());
+ * </pre>
+ * 반환되는 Claims 인스턴스는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final Cache<TokenDigest, Claims> cache;
+    private final Clock clock;
+    private volatile long maxTtlMillis;
+
+    // exp 재확인에서 걸러진(만료되었지만 아직 제거되지 않은) 엔트리 수
+    private final LongAdder expiredRejections = new LongAdder();
+
+    @Autowired
+    public JwtClaimsCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${jwt.cache.max-ttl-seconds:600}") long maxTtlSeconds) {
+        this(maximumSize, TimeUnit.SECONDS.toMillis(maxTtlSeconds), Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    JwtClaimsCache(long maximumSize, long maxTtlMillis, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.maxTtlMillis = maxTtlMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 Claims 반환, 없으면 parser 로 검증 후 캐시
+     *
+     * @param token  Bearer 접두어를 제거한 JWT 문자열
+     * @param parser 서명 검증 + 파싱을 수행하는 함수 (실패 시 JwtException 계열 예외)
+     */
+    public Claims get(String token, Function<String, Claims> parser) {
+        TokenDigest key = TokenDigest.of(token);
+        Claims claims = cache.get(key, k -> parser.apply(token));
+
+        // Caffeine 만료는 시간 경계에서 약간 늦을 수 있으므로 exp 를 직접 재확인
+        if (isExpired(claims)) {
+            expiredRejections.increment();
+            cache.invalidate(key);
+            // 만료된 토큰이면 parser 가 ExpiredJwtException 을 던짐
+            claims = parser.apply(token);
+        }
+        return claims;
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거 (로그아웃 등)
+     */
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigest.of(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 실행 중 최대 크기 / 최대 TTL 변경 (TTL 은 이후 캐시되는 토큰부터 적용)
+     */
+    public void resize(long maximumSize, long maxTtlSeconds) {
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+        this.maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSeconds);
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public long expiredRejectionCount() {
+        return expiredRejections.sum();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null && exp.getTime() <= clock.millis();
+    }
+
+    /**
+     * 엔트리 수명 = min(exp - now, maxTtl)
+     */
+    private class TokenExpiry implements Expiry<TokenDigest, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Claims claims, long currentTime) {
+            long ttlMillis = maxTtlMillis;
+            Date exp = claims.getExpiration();
+            if (exp != null) {
+                ttlMillis = Math.min(ttlMillis, exp.getTime() - clock.millis());
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 키 (hashCode 는 다이제스트 앞 4바이트로 미리 계산)
+     */
+    private static final class TokenDigest {
+
+        private final byte[] digest;
+        private final int hash;
+
+        private TokenDigest(byte[] digest) {
+            this.digest = digest;
+            this.hash = ((digest[0] & 0xff) << 24) | ((digest[1] & 0xff) << 16)
+                    | ((digest[2] & 0xff) << 8) | (digest[3] & 0xff);
+        }
+
+        static TokenDigest of(String token) {
+            return new TokenDigest(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TokenDigest && Arrays.equals(digest, ((TokenDigest) o).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
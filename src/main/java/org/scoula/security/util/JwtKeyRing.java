@@ -0,0 +1,339 @@
+package org.scoula.security.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.config.ConfigChangeListener;
+import org.scoula.common.config.ConfigSnapshot;
+import org.scoula.common.json.JsonMappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kid(Key ID) 로 찾는 JWT 서명 키 목록
+ * - 서명: 활성 시각이 지난 키 중 가장 최근 키로 서명하고 헤더에 kid 기록
+ * - 검증: kid 로 키를 찾아 검증 (kid 가 없는 기존 토큰은 jwt.secret_key 로 검증, 비우면 거부)
+ * - 교체: 새 키의 활성 시각을 미리 정해 두면 그 시각부터 새 키로 서명하고, 이전 키는 overlap 동안 검증에만 사용
+ *         -> 키를 바꿔도 이미 발급된 토큰이 한꺼번에 무효화되지 않음 (재로그인 폭주 방지)
+ * - 키 목록은 불변 객체 하나로 통째로 교체하므로 검증 경로는 volatile 읽기 + HashMap 조회만 함 (락 없음)
+ * - 파서는 한 번만 만들고, 키 선택은 SigningKeyResolver 가 파싱 중 읽은 헤더의 kid 로 처리
+ * - 헤더 / claims JSON 은 공용 ObjectMapper(RootConfig.objectMapper)로 읽고 씀
+ * - 키 목록이 바뀌거나 키의 폐기 시각이 지나면 키 변경 리스너 호출
+ *   (JwtClaimsCache 를 비워 폐기된 키로 서명된 토큰이 캐시 적중으로 계속 통과하지 않도록 함)
+ *
+ * 설정 (ConfigWatcher 로 실행 중 변경 가능)
+ * <pre>
+ * jwt.secret_key=...                                      # kid 없는 기존 토큰 / 키 목록이 없을 때의 서명 키
+ * jwt.keys=2026-10:secretA,2026-11:secretB@2026-11-01T00:00:00Z
+ * jwt.key-overlap-seconds=3600                            # 새 키 활성 후 이전 키로 검증을 허용하는 시간
+ * </pre>
+ */
+@Component
+@Log4j2
+public class JwtKeyRing implements ConfigChangeListener {
+
+    public static final String LEGACY_KID = "legacy";
+
+    private final Clock clock;
+    private final JwtParser parser;
+    private final Serializer<Map<String, ?>> serializer;
+    private final List<Runnable> keyChangeListeners = new CopyOnWriteArrayList<>();
+    private volatile Ring ring;
+    // 다음 키 폐기 시각 - 지나면 retireDueKeys() 가 키 변경 리스너 호출
+    private volatile long nextRetireAtMillis;
+
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.secret_key:}") String legacySecret,
+                      @Value("${jwt.keys:}") String keys,
+                      @Value("${jwt.key-overlap-seconds:3600}") long overlapSeconds,
+                      ObjectMapper objectMapper) {
+        this(legacySecret, keys, overlapSeconds, objectMapper, Clock.systemUTC());
+    }
+
+    public JwtKeyRing(String legacySecret, String keys, long overlapSeconds) {
+        this(legacySecret, keys, overlapSeconds, JsonMappers.create(), Clock.systemUTC());
+    }
+
+    JwtKeyRing(String legacySecret, String keys, long overlapSeconds, Clock clock) {
+        this(legacySecret, keys, overlapSeconds, JsonMappers.create(), clock);
+    }
+
+    JwtKeyRing(String legacySecret, String keys, long overlapSeconds, ObjectMapper objectMapper, Clock clock) {
+        this.clock = clock;
+        this.ring = Ring.parse(legacySecret, keys, TimeUnit.SECONDS.toMillis(overlapSeconds));
+        this.nextRetireAtMillis = ring.nextRetireAt(clock.millis());
+        this.serializer = new JacksonSerializer<>(objectMapper);
+        Deserializer<Map<String, ?>> deserializer = new JacksonDeserializer<>(objectMapper);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KidResolver())
+                .deserializeJsonWith(deserializer)
+                .setClock(() -> new Date(clock.millis()))
+                .build();
+        log.info("JWT 키 목록: {}", ring.describe());
+    }
+
+    /**
+     * 서명 / 만료 검증 후 Claims 반환 (실패 시 JwtException 계열 예외)
+     */
+    public Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public JwtParser parser() {
+        return parser;
+    }
+
+    /**
+     * 현재 서명 키로 서명 (헤더에 kid 포함)
+     */
+    public String sign(JwtBuilder builder) {
+        SigningKey key = ring.signingKey(clock.millis());
+        if (key == null) {
+            throw new IllegalStateException("활성화된 JWT 서명 키가 없습니다 (jwt.secret_key / jwt.keys)");
+        }
+        if (!LEGACY_KID.equals(key.kid)) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, key.kid);
+        }
+        return builder.serializeToJsonWith(serializer).signWith(key.key).compact();
+    }
+
+    public boolean isEmpty() {
+        return ring.ordered.length == 0 && ring.legacy == null;
+    }
+
+    /**
+     * 키 목록 변경 / 키 폐기 시 호출할 리스너 등록 (검증 결과 캐시 비우기 등)
+     */
+    public void addKeyChangeListener(Runnable listener) {
+        keyChangeListeners.add(listener);
+    }
+
+    /**
+     * 폐기 시각이 지난 키가 있으면 키 변경 리스너 호출 - 캐시된 검증 결과를 쓰기 전에 호출
+     * 평소에는 volatile 읽기 + 시각 비교만 함
+     */
+    public void retireDueKeys() {
+        if (clock.millis() < nextRetireAtMillis) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.millis();
+            if (now < nextRetireAtMillis) {
+                return;
+            }
+            nextRetireAtMillis = ring.nextRetireAt(now);
+            log.info("JWT 키 폐기 시각 경과: {}", ring.describe());
+            fireKeyChange();
+        }
+    }
+
+    /**
+     * 새 키 예약 - activateAt 부터 서명에 사용, 직전 서명 키는 activateAt + overlap 까지 검증 허용
+     */
+    public synchronized void schedule(String kid, String secret, Instant activateAt) {
+        Ring current = ring;
+        List<SigningKey> keys = new ArrayList<>(current.byKid.values());
+        keys.removeIf(key -> key.kid.equals(kid));
+        keys.add(new SigningKey(kid, secret, activateAt.toEpochMilli()));
+        replaceRing(new Ring(current.legacy, keys, current.overlapMillis));
+        log.info("JWT 키 예약: kid={}, activateAt={} -> {}", kid, activateAt, ring.describe());
+    }
+
+    /**
+     * jwt.secret_key / jwt.keys / jwt.key-overlap-seconds 변경 시 키 목록 재구성
+     */
+    @Override
+    public synchronized void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+        if (!changedKeys.contains("jwt.secret_key") && !changedKeys.contains("jwt.keys")
+                && !changedKeys.contains("jwt.key-overlap-seconds")) {
+            return;
+        }
+        replaceRing(Ring.parse(current.get("jwt.secret_key", ""), current.get("jwt.keys", ""),
+                TimeUnit.SECONDS.toMillis(current.getLong("jwt.key-overlap-seconds", 3600))));
+        log.info("JWT 키 목록 변경: {}", ring.describe());
+    }
+
+    // synchronized 메서드에서만 호출
+    private void replaceRing(Ring replacement) {
+        ring = replacement;
+        nextRetireAtMillis = replacement.nextRetireAt(clock.millis());
+        fireKeyChange();
+    }
+
+    private void fireKeyChange() {
+        for (Runnable listener : keyChangeListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * 관리자 조회용 (비밀 값 제외)
+     */
+    public List<Map<String, Object>> snapshot() {
+        Ring current = ring;
+        long now = clock.millis();
+        SigningKey signing = current.signingKey(now);
+        List<Map<String, Object>> result = new ArrayList<>();
+        List<SigningKey> keys = new ArrayList<>();
+        if (current.legacy != null) {
+            keys.add(current.legacy);
+        }
+        keys.addAll(List.of(current.ordered));
+        for (SigningKey key : keys) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("kid", key.kid);
+            values.put("activateAt", Instant.ofEpochMilli(key.activateAtMillis).toString());
+            values.put("retireAt", key.retireAtMillis == Long.MAX_VALUE ? null
+                    : Instant.ofEpochMilli(key.retireAtMillis).toString());
+            values.put("signing", key == signing);
+            values.put("verifying", key.activateAtMillis <= now && now < key.retireAtMillis
+                    || key.activateAtMillis > now);
+            result.add(values);
+        }
+        return result;
+    }
+
+    /**
+     * 파싱 중 헤더의 kid 로 검증 키 선택
+     * - 아직 활성 전인 키도 검증은 허용 (다른 서버가 먼저 새 키로 서명한 경우, 서버 간 시계 차이)
+     * - 폐기 시각이 지난 키, 모르는 kid 는 거부
+     */
+    private class KidResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            Ring current = ring;
+            SigningKey key = kid != null ? current.byKid.get(kid) : current.legacy;
+            if (key == null || clock.millis() >= key.retireAtMillis) {
+                throw new SignatureException("Unknown or retired JWT key id: " + kid);
+            }
+            return key.key;
+        }
+    }
+
+    private static final class SigningKey {
+        final String kid;
+        final Key key;
+        final long activateAtMillis;
+        long retireAtMillis = Long.MAX_VALUE;   // Ring 생성 시에만 설정
+
+        SigningKey(String kid, String secret, long activateAtMillis) {
+            this.kid = kid;
+            this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            this.activateAtMillis = activateAtMillis;
+        }
+
+        SigningKey(SigningKey source) {
+            this.kid = source.kid;
+            this.key = source.key;
+            this.activateAtMillis = source.activateAtMillis;
+        }
+    }
+
+    /**
+     * 불변 키 목록 - 활성 시각 순으로 정렬하고, 각 키는 다음 키 활성 시각 + overlap 에 폐기
+     * legacy(jwt.secret_key) 는 kid 없는 토큰 검증 전용으로 따로 두고, kid 키가 하나도 없을 때만 서명에 사용
+     */
+    private static final class Ring {
+        final SigningKey legacy;
+        final Map<String, SigningKey> byKid;
+        final SigningKey[] ordered;
+        final long overlapMillis;
+
+        Ring(SigningKey legacy, List<SigningKey> keys, long overlapMillis) {
+            this.legacy = legacy;
+            this.overlapMillis = overlapMillis;
+            this.ordered = keys.stream()
+                    .map(SigningKey::new)
+                    .sorted(Comparator.comparingLong((SigningKey key) -> key.activateAtMillis))
+                    .toArray(SigningKey[]::new);
+            Map<String, SigningKey> map = new HashMap<>();
+            for (int i = 0; i < ordered.length; i++) {
+                if (i + 1 < ordered.length) {
+                    ordered[i].retireAtMillis = ordered[i + 1].activateAtMillis + overlapMillis;
+                }
+                map.put(ordered[i].kid, ordered[i]);
+            }
+            this.byKid = map;
+        }
+
+        static Ring parse(String legacySecret, String keys, long overlapMillis) {
+            SigningKey legacy = legacySecret == null || legacySecret.isEmpty() ? null
+                    : new SigningKey(LEGACY_KID, legacySecret, 0L);
+            List<SigningKey> parsed = new ArrayList<>();
+            if (keys != null && !keys.isBlank()) {
+                for (String spec : keys.trim().split("\\s*,\\s*")) {
+                    int colon = spec.indexOf(':');
+                    if (colon <= 0) {
+                        throw new IllegalArgumentException("jwt.keys 형식 오류 (kid:secret[@activateAt]): " + spec);
+                    }
+                    String kid = spec.substring(0, colon);
+                    String rest = spec.substring(colon + 1);
+                    int at = rest.lastIndexOf('@');
+                    long activateAt = at < 0 ? 0L : Instant.parse(rest.substring(at + 1)).toEpochMilli();
+                    parsed.add(new SigningKey(kid, at < 0 ? rest : rest.substring(0, at), activateAt));
+                }
+            }
+            return new Ring(legacy, parsed, overlapMillis);
+        }
+
+        // 활성 시각이 지난 키 중 가장 최근 키
+        SigningKey signingKey(long now) {
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                if (ordered[i].activateAtMillis <= now) {
+                    return ordered[i];
+                }
+            }
+            return ordered.length == 0 ? legacy : null;
+        }
+
+        // now 이후 가장 이른 폐기 시각 (없으면 Long.MAX_VALUE)
+        long nextRetireAt(long now) {
+            long next = Long.MAX_VALUE;
+            for (SigningKey key : ordered) {
+                if (key.retireAtMillis > now && key.retireAtMillis < next) {
+                    next = key.retireAtMillis;
+                }
+            }
+            return next;
+        }
+
+        String describe() {
+            StringBuilder description = new StringBuilder(legacy == null ? "" : LEGACY_KID + " ");
+            for (SigningKey key : ordered) {
+                description.append(key.kid).append("(activate=").append(Instant.ofEpochMilli(key.activateAtMillis))
+                        .append(key.retireAtMillis == Long.MAX_VALUE ? ""
+                                : ", retire=" + Instant.ofEpochMilli(key.retireAtMillis))
+                        .append(") ");
+            }
+            return description.length() == 0 ? "(없음)" : description.toString().trim();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.scoula.perf;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.scoula.common.config.WebConfig;
+import org.springframework.web.SpringServletContainerInitializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 내장 Tomcat 9 에서 WebConfig(루트 / 서블릿 컨텍스트, 필터 전체)를 그대로 실행
+ * - WAR 배포와 같은 SpringServletContainerInitializer 경로로 시작 (web.xml 없음)
+ * - JSP(Jasper) 는 포함하지 않으므로 브라우저용 오류 페이지 대신 JSON 요청으로 측정
+ */
+public class EmbeddedServer implements AutoCloseable {
+
+    private final Tomcat tomcat;
+    private final Connector connector;
+
+    public EmbeddedServer(int port) throws IOException {
+        Path baseDir = Files.createTempDirectory("finmate-perf-tomcat");
+        Path docBase = Files.createDirectories(baseDir.resolve("webapp"));
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(baseDir.toString());
+        tomcat.setPort(port);
+        connector = tomcat.getConnector();
+        connector.setProperty("maxThreads", "200");
+        connector.setProperty("acceptCount", "1000");
+        connector.setProperty("maxKeepAliveRequests", "-1");
+
+        Context context = tomcat.addContext("", docBase.toString());
+        context.addServletContainerInitializer(new SpringServletContainerInitializer(), Set.of(WebConfig.class));
+    }
+
+    public void start() throws LifecycleException {
+        tomcat.start();
+    }
+
+    public int getPort() {
+        return connector.getLocalPort();
+    }
+
+    @Override
+    public void close() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+}
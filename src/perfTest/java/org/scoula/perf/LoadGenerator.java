@@ -0,0 +1,170 @@
+package org.scoula.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 엔드포인트 1개에 대한 부하 생성기
+ * - closed : users 개 스레드가 응답을 받는 즉시 다음 요청 (동시 사용자 수 고정)
+ * - open   : rate(req/s) 간격으로 요청 시작 시각을 정하고 작업 스레드에 전달 (도착률 고정)
+ *            지연시간을 "예정된 시작 시각" 기준으로 측정하여 coordinated omission 보정
+ */
+public class LoadGenerator {
+
+    public enum Model {
+        CLOSED, OPEN
+    }
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final HttpClient client;
+    private final Model model;
+    private final int users;
+    private final int rate;
+    private final String authorization;
+
+    /**
+     * @param authorization 모든 요청에 넣을 Authorization 헤더 값 (null 이면 익명)
+     */
+    public LoadGenerator(Model model, int users, int rate, String authorization) {
+        this.model = model;
+        this.users = users;
+        this.rate = rate;
+        this.authorization = authorization;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4, daemon("perf-http-")))
+                .build();
+    }
+
+    /**
+     * duration 동안 부하를 걸고 결과 반환 (warmup 은 같은 방식으로 실행 후 결과 폐기)
+     */
+    public Result run(URI uri, Duration duration) throws InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        HttpRequest request = builder.build();
+        Result result = new Result(uri.getPath());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        if (model == Model.CLOSED) {
+            runClosed(request, end, result);
+        } else {
+            runOpen(request, start, end, result);
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private void runClosed(HttpRequest request, long end, Result result) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(users, daemon("perf-user-"));
+        for (int i = 0; i < users; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    send(request, System.nanoTime(), result);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(MAX_LATENCY_NANOS + (end - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void runOpen(HttpRequest request, long start, long end, Result result) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(users, daemon("perf-user-"));
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = intended;
+            workers.execute(() -> send(request, scheduled, result));
+        }
+        workers.shutdown();
+        workers.awaitTermination(MAX_LATENCY_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    private void send(HttpRequest request, long startNanos, Result result) {
+        boolean ok;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() < 400;
+        } catch (Exception e) {
+            ok = false;
+        }
+        result.record(System.nanoTime() - startNanos, ok);
+    }
+
+    private static java.util.concurrent.ThreadFactory daemon(String prefix) {
+        AtomicLong sequence = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 엔드포인트별 측정 결과 (지연시간 단위: 나노초)
+     */
+    public static class Result {
+
+        private final String endpoint;
+        private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private long elapsedNanos;
+
+        Result(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        void record(long latencyNanos, boolean ok) {
+            histogram.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public long getRequests() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public double getThroughput() {
+            return getRequests() * 1e9 / elapsedNanos;
+        }
+
+        public double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1e6;
+        }
+
+        public double maxMillis() {
+            return histogram.getMaxValue() / 1e6;
+        }
+    }
+}
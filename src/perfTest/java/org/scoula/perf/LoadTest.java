@@ -0,0 +1,157 @@
+package org.scoula.perf;
+
+import io.jsonwebtoken.Jwts;
+import org.scoula.security.util.JwtKeyRing;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 진입점 (./gradlew perfTest)
+ * 1. 내장 H2 에 스키마 생성 + 회원 / 권한 데이터 생성
+ * 2. 임시 설정 디렉터리(config.location)에 H2 접속 정보를 쓰고 내장 Tomcat 으로 WebConfig 실행
+ * 3. 엔드포인트마다 warmup 후 측정, 엔드포인트별 p50 / p99 / p99.9 / 처리량 출력
+ *    (모든 요청은 회원 1 의 토큰으로 보냄 - /api/portfolio/{memberId} 는 본인만 조회 가능)
+ * 4. /metrics 본문에 측정 중 요청한 경로의 지표가 기록되었는지 확인 (없으면 실패)
+ *
+ * 시스템 속성 (gradle -Pperf.* 로 전달)
+ * - perf.model            : closed | open (기본 closed)
+ * - perf.users            : closed 모델 동시 사용자 수, open 모델 작업 스레드 수 (기본 32)
+ * - perf.rate             : open 모델 도착률 req/s (기본 500)
+ * - perf.duration-seconds : 엔드포인트별 측정 시간 (기본 20)
+ * - perf.warmup-seconds   : 엔드포인트별 warmup 시간 (기본 5)
+ * - perf.members          : 생성할 회원 수 (기본 10000)
+ * - perf.products         : 생성할 상품 수 (기본 5000)
+ * - perf.transactions     : 생성할 거래 수 (기본 100000)
+ * - perf.endpoints        : 쉼표로 구분한 경로 목록 (4xx / 5xx 응답과 연결 오류는 errors 로 집계)
+ * - perf.report-dir       : 결과 파일 디렉터리 (없으면 콘솔만 출력)
+ */
+public final class LoadTest {
+
+    private static final String JWT_SECRET = "perf-test-secret-key-for-finmate-jwt-0123456789";
+    private static final String DEFAULT_ENDPOINTS =
+            "/test,/metrics,/v2/api-docs,/api/products?types=DEPOSIT&minTerm=6&limit=10,/api/portfolio/1,/api/unknown";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator.Model model = LoadGenerator.Model.valueOf(
+                System.getProperty("perf.model", "closed").toUpperCase(Locale.ROOT));
+        int users = Integer.getInteger("perf.users", 32);
+        int rate = Integer.getInteger("perf.rate", 500);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("perf.duration-seconds", 20));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("perf.warmup-seconds", 5));
+        int members = Integer.getInteger("perf.members", 10_000);
+        int products = Integer.getInteger("perf.products", 5_000);
+        int transactions = Integer.getInteger("perf.transactions", 100_000);
+        String[] endpoints = System.getProperty("perf.endpoints", DEFAULT_ENDPOINTS).split(",");
+
+        PerfDatabase.create(members, products, transactions);
+        System.setProperty("config.location", writeConfig().toString());
+
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        try (EmbeddedServer server = new EmbeddedServer(0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort();
+            LoadGenerator generator = new LoadGenerator(model, users, rate, "Bearer " + memberToken(1L));
+
+            for (String endpoint : endpoints) {
+                URI uri = URI.create(base + endpoint.trim());
+                generator.run(uri, warmup);
+                results.add(generator.run(uri, duration));
+            }
+            verifyMetrics(URI.create(base + "/metrics"));
+        }
+
+        String header = String.format("model=%s users=%d rate=%d duration=%ds warmup=%ds members=%d products=%d transactions=%d",
+                model, users, rate, duration.getSeconds(), warmup.getSeconds(), members, products, transactions);
+        report(System.out, header, results);
+        writeReport(header, results);
+    }
+
+    private static String memberToken(long memberId) {
+        return new JwtKeyRing(JWT_SECRET, "", 3600).sign(Jwts.builder()
+                .setSubject(Long.toString(memberId))
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis())));
+    }
+
+    /**
+     * 애플리케이션 설정 파일 (ConfigProperties 가 ${config.location}/application.properties 를 읽음)
+     */
+    private static Path writeConfig() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("active.profile", "perf");
+        properties.setProperty("jdbc.driver", "org.h2.Driver");
+        properties.setProperty("jdbc.url", PerfDatabase.URL);
+        properties.setProperty("jdbc.username", PerfDatabase.USERNAME);
+        properties.setProperty("jdbc.password", "");
+        properties.setProperty("jwt.secret_key", JWT_SECRET);
+        properties.setProperty("swagger.enabled", "true");
+        properties.setProperty("config.watch.enabled", "false");
+        // 측정 대상이 429 응답이 되지 않도록 요청 제한을 사실상 해제
+        properties.setProperty("ratelimit.requests-per-second", "1000000");
+        properties.setProperty("ratelimit.burst", "1000000");
+        properties.setProperty("password.bcrypt.target-ms", "50");
+
+        Path dir = Files.createTempDirectory("finmate-perf-config");
+        try (var out = Files.newBufferedWriter(dir.resolve("application.properties"), StandardCharsets.UTF_8)) {
+            properties.store(out, "FinMate perf test");
+        }
+        return dir;
+    }
+
+    /**
+     * 요청 지표가 /metrics 로 노출되는지 확인 (인터셉터와 exporter 가 다른 RequestMetrics 를 쓰면 샘플이 비어 있음)
+     */
+    private static void verifyMetrics(URI uri) throws IOException, InterruptedException {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() != 200
+                || !response.body().contains("http_server_requests_seconds_count{")) {
+            throw new IllegalStateException("/metrics 에 요청 지표가 없습니다 (status=" + response.statusCode() + ")");
+        }
+    }
+
+    private static void report(PrintStream out, String header, List<LoadGenerator.Result> results) {
+        out.println();
+        out.println(header);
+        out.printf("%-28s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (LoadGenerator.Result result : results) {
+            out.printf(Locale.ROOT, "%-28s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.getEndpoint(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.percentileMillis(50), result.percentileMillis(99), result.percentileMillis(99.9),
+                    result.maxMillis());
+        }
+    }
+
+    private static void writeReport(String header, List<LoadGenerator.Result> results) throws IOException {
+        String reportDir = System.getProperty("perf.report-dir");
+        if (reportDir == null) {
+            return;
+        }
+        Path dir = Files.createDirectories(Path.of(reportDir));
+        Path file = dir.resolve("perf-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+            report(out, header, results);
+        }
+        System.out.println("결과 파일: " + file);
+    }
+}
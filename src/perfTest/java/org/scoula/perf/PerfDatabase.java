@@ -0,0 +1,123 @@
+package org.scoula.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 내장 H2 데이터베이스 (MySQL 호환 모드)
+ * - perf/schema.sql 로 테이블 생성 후 회원 / 권한, 상품, 거래 데이터 생성
+ * - DB_CLOSE_DELAY=-1 이므로 여기서 연결을 닫아도 애플리케이션 커넥션 풀이 같은 DB 를 사용
+ */
+public final class PerfDatabase {
+
+    public static final String URL =
+            "jdbc:h2:mem:finmate-perf;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    public static final String USERNAME = "sa";
+
+    private static final String[] PRODUCT_TYPES = {"DEPOSIT", "SAVING", "FUND"};
+    private static final int[] TERMS = {1, 3, 6, 12, 24, 36};
+    private static final String[] CATEGORIES = {"food", "transport", "shopping", "rent", "medical"};
+
+    private PerfDatabase() {
+    }
+
+    /**
+     * member0 ~ member{count-1} 회원과 ROLE_MEMBER 권한 생성 (member0 은 ROLE_ADMIN 추가)
+     * 상품 products 건 생성 (ProductCatalog 적재 대상)
+     * 거래 transactions 건을 회원 번호 0 ~ members-1 에 무작위로 생성 (최근 2년, PortfolioAggregator 적재 대상)
+     */
+    public static void create(int members, int products, int transactions) throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, "")) {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : schema().split(";")) {
+                    if (!sql.isBlank()) {
+                        statement.execute(sql);
+                    }
+                }
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement member = connection.prepareStatement(
+                    "INSERT INTO tbl_member (username, password, email) VALUES (?, ?, ?)");
+                 PreparedStatement auth = connection.prepareStatement(
+                         "INSERT INTO tbl_member_auth (username, auth) VALUES (?, ?)")) {
+                for (int i = 0; i < members; i++) {
+                    String username = "member" + i;
+                    member.setString(1, username);
+                    member.setString(2, "{bcrypt}dummy");
+                    member.setString(3, username + "@finmate.test");
+                    member.addBatch();
+                    auth.setString(1, username);
+                    auth.setString(2, "ROLE_MEMBER");
+                    auth.addBatch();
+                    if (i % 1000 == 999) {
+                        member.executeBatch();
+                        auth.executeBatch();
+                    }
+                }
+                auth.setString(1, "member0");
+                auth.setString(2, "ROLE_ADMIN");
+                auth.addBatch();
+                member.executeBatch();
+                auth.executeBatch();
+            }
+            try (PreparedStatement product = connection.prepareStatement("INSERT INTO tbl_product "
+                    + "(product_id, product_type, bank_code, product_name, term_months, base_rate, max_rate) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                Random random = new Random(42);
+                for (int i = 1; i <= products; i++) {
+                    int baseRate = 100 + random.nextInt(400);
+                    product.setLong(1, i);
+                    product.setString(2, PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)]);
+                    product.setString(3, String.format("B%03d", random.nextInt(20)));
+                    product.setString(4, "product" + i);
+                    product.setInt(5, TERMS[random.nextInt(TERMS.length)]);
+                    product.setBigDecimal(6, BigDecimal.valueOf(baseRate, 2));
+                    product.setBigDecimal(7, BigDecimal.valueOf(baseRate + random.nextInt(100), 2));
+                    product.addBatch();
+                    if (i % 1000 == 0) {
+                        product.executeBatch();
+                    }
+                }
+                product.executeBatch();
+            }
+            try (PreparedStatement transaction = connection.prepareStatement("INSERT INTO tbl_transaction "
+                    + "(member_id, category, amount, trade_date) VALUES (?, ?, ?, ?)")) {
+                Random random = new Random(7);
+                LocalDate today = LocalDate.now();
+                for (int i = 1; i <= transactions; i++) {
+                    boolean income = random.nextInt(10) == 0;
+                    transaction.setLong(1, random.nextInt(Math.max(1, members)));
+                    transaction.setString(2, income ? "salary" : CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                    transaction.setLong(3, income ? 3_000_000 : -(1_000 + random.nextInt(100_000)));
+                    transaction.setObject(4, today.minusDays(random.nextInt(730)));
+                    transaction.addBatch();
+                    if (i % 1000 == 0) {
+                        transaction.executeBatch();
+                    }
+                }
+                transaction.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private static String schema() throws IOException {
+        try (InputStream in = PerfDatabase.class.getResourceAsStream("/perf/schema.sql")) {
+            if (in == null) {
+                throw new IOException("perf/schema.sql 을 찾을 수 없습니다");
+            }
+            String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return sql.replaceAll("(?m)^\\s*--.*$", "");
+        }
+    }
+}
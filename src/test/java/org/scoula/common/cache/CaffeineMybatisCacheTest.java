@@ -0,0 +1,115 @@
+package org.scoula.common.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.annotations.CacheNamespace;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineMybatisCacheTest {
+
+  private static final String NAMESPACE = "org.scoula.security.account.mapper.UserDetailsMapper";
+  private static final String STATEMENT = NAMESPACE + ".get";
+
+  private CaffeineMybatisCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CaffeineMybatisCache(NAMESPACE);
+    cache.setMaximumSize(100);
+    cache.setExpireAfterWriteSeconds(60);
+    cache.initialize();
+  }
+
+  // MyBatis BaseExecutor.createCacheKey 와 같은 순서로 CacheKey 생성
+  private CacheKey key(String username) {
+    CacheKey key = new CacheKey();
+    key.update(STATEMENT);
+    key.update(0);
+    key.update(Integer.MAX_VALUE);
+    key.update("select * from tbl_member m left join tbl_member_auth a on m.username = a.username where m.username = ?");
+    key.update(username);
+    key.update("development");
+    return key;
+  }
+
+  @Test
+  @DisplayName("미스 후 저장된 값은 다음 조회에서 적중한다.")
+  void hitAfterLoad() {
+    assertNull(cache.getObject(key("admin")));
+    cache.putObject(key("admin"), "admin-member");
+
+    assertEquals("admin-member", cache.getObject(key("admin")));
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+    assertEquals(1, cache.loadCount());
+  }
+
+  @CacheNamespace(implementation = CaffeineMybatisCache.class)
+  public interface MemberMapper {
+    @Select("SELECT username FROM member WHERE member_id = #{memberId}")
+    String findById(String memberId);
+  }
+
+  @Test
+  @DisplayName("statement + 파라미터 값이 정확히 같은 엔트리만 제거된다 (1 을 제거해도 10, 11, 21 은 유지).")
+  void evictOnlyExactParameter() throws Exception {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:mybatiscache;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    try {
+      try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+        stmt.execute("DROP TABLE IF EXISTS member");
+        stmt.execute("CREATE TABLE member (member_id VARCHAR(10) PRIMARY KEY, username VARCHAR(50))");
+        stmt.execute("INSERT INTO member VALUES ('1', 'user1'), ('10', 'user10'), ('11', 'user11'), ('21', 'user21')");
+      }
+      Configuration configuration = new Configuration(
+              new Environment("test", new JdbcTransactionFactory(), dataSource));
+      configuration.addMapper(MemberMapper.class);
+      SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+      String statementId = MemberMapper.class.getName() + ".findById";
+      List<String> ids = List.of("1", "10", "11", "21");
+
+      // 세션 종료 시 2차 캐시에 반영
+      for (String id : ids) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+          assertEquals("user" + id, session.getMapper(MemberMapper.class).findById(id));
+        }
+      }
+      CaffeineMybatisCache memberCache = MybatisCacheRegistry.get(MemberMapper.class.getName());
+      assertEquals(4, memberCache.getSize());
+
+      assertEquals(1, MybatisCacheRegistry.evict(configuration, statementId, "1"));
+      assertEquals(0, MybatisCacheRegistry.evict(configuration, statementId, "1"));
+      assertEquals(0, MybatisCacheRegistry.evict(configuration, statementId + "Missing", "10"));
+      assertEquals(3, memberCache.getSize());
+
+      // 남은 엔트리는 DB 를 바꿔도 캐시에서 조회, 제거한 엔트리만 다시 조회
+      try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+        stmt.execute("UPDATE member SET username = CONCAT(username, '-changed')");
+      }
+      try (SqlSession session = sqlSessionFactory.openSession()) {
+        MemberMapper mapper = session.getMapper(MemberMapper.class);
+        assertEquals("user1-changed", mapper.findById("1"));
+        assertEquals("user10", mapper.findById("10"));
+        assertEquals("user11", mapper.findById("11"));
+        assertEquals("user21", mapper.findById("21"));
+      }
+    } finally {
+      dataSource.close();
+    }
+  }
+}
@@ -0,0 +1,315 @@
+package org.scoula.common.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.common.upload.UploadStorage;
+import org.scoula.common.web.HttpCacheable;
+import org.scoula.portfolio.aggregate.PortfolioAggregator;
+import org.scoula.portfolio.aggregate.TransactionRecorder;
+import org.scoula.portfolio.domain.TransactionVO;
+import org.scoula.product.catalog.ProductCatalog;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import javax.servlet.Filter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * WebConfig 의 루트 / 서블릿 설정과 필터 체인을 그대로 띄워 빈 연결을 검증 (H2 MySQL 호환 모드)
+ */
+class ApplicationContextTest {
+
+  private static final String SECRET = "application-context-test-secret-key-0123456789";
+  private static final String JDBC_URL =
+      "jdbc:h2:mem:appcontext;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+  @TempDir
+  static Path configDir;
+
+  private static String previousLocation;
+  private static HikariDataSource schemaDataSource;
+  private static AnnotationConfigWebApplicationContext rootContext;
+  private static AnnotationConfigWebApplicationContext servletContext;
+  private static MockMvc mockMvc;
+
+  @RestController
+  static class CachedController {
+    static final AtomicInteger calls = new AtomicInteger();
+
+    @HttpCacheable(ttlSeconds = 60)
+    @GetMapping("/api/cached")
+    public String cached() {
+      return "calls=" + calls.incrementAndGet();
+    }
+  }
+
+  private static String bearer(String subject, String role) {
+    return "Bearer " + Jwts.builder()
+        .setSubject(subject)
+        .claim("role", role)
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .compact();
+  }
+
+  // 캐시 통계는 누적값이므로 다른 테스트의 적중 수와 분리해 비교
+  private static long hitCount(String stats) {
+    Matcher matcher = Pattern.compile("\"hitCount\":(\\d+)").matcher(stats);
+    assertTrue(matcher.find(), stats);
+    return Long.parseLong(matcher.group(1));
+  }
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    schemaDataSource = new HikariDataSource();
+    schemaDataSource.setJdbcUrl(JDBC_URL);
+    schemaDataSource.setUsername("sa");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(schemaDataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tbl_product (product_id BIGINT PRIMARY KEY, "
+        + "product_type VARCHAR(10) NOT NULL, bank_code VARCHAR(10) NOT NULL, product_name VARCHAR(100) NOT NULL, "
+        + "term_months INT NOT NULL, base_rate DECIMAL(5,2) NOT NULL, max_rate DECIMAL(5,2) NOT NULL, "
+        + "deleted BOOLEAN DEFAULT FALSE NOT NULL, updated_at DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tbl_transaction (transaction_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "member_id BIGINT NOT NULL, category VARCHAR(20) NOT NULL, amount BIGINT NOT NULL, trade_date DATE NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tbl_transaction_outbox (outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "transaction_id BIGINT NOT NULL, member_id BIGINT NOT NULL, category VARCHAR(20) NOT NULL, "
+        + "amount BIGINT NOT NULL, trade_date DATE NOT NULL, created_at DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+
+    previousLocation = System.getProperty("config.location");
+    System.setProperty("config.location", configDir.toString());
+    Files.write(configDir.resolve("application.properties"), Arrays.asList(
+        "active.profile=test",
+        "jdbc.driver=org.h2.Driver",
+        "jdbc.url=" + JDBC_URL,
+        "jdbc.username=sa",
+        "jdbc.password=",
+        "jwt.secret_key=" + SECRET,
+        "config.watch.enabled=false",
+        "password.bcrypt.target-ms=10",
+        "catalog.enabled=false",
+        "portfolio.enabled=false",
+        "upload.dir=" + configDir.resolve("upload").toString().replace('\\', '/')), StandardCharsets.UTF_8);
+    ConfigProperties.reset();
+
+    WebConfig webConfig = new WebConfig();
+    MockServletContext container = new MockServletContext();
+
+    rootContext = new AnnotationConfigWebApplicationContext();
+    rootContext.setServletContext(container);
+    rootContext.register(webConfig.getRootConfigClasses());
+    rootContext.refresh();
+    container.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, rootContext);
+
+    servletContext = new AnnotationConfigWebApplicationContext();
+    servletContext.setParent(rootContext);
+    servletContext.setServletContext(container);
+    servletContext.register(ServletConfig.class, CachedController.class);
+    servletContext.refresh();
+
+    Filter[] filters = webConfig.getServletFilters();
+    // OncePerRequestFilter 는 필터 이름으로 중복 실행을 막으므로 필터마다 다른 이름 지정
+    for (Filter filter : filters) {
+      filter.init(new MockFilterConfig(container, filter.getClass().getName()));
+    }
+    mockMvc = MockMvcBuilders.webAppContextSetup(servletContext).addFilters(filters).build();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    if (servletContext != null) {
+      servletContext.close();
+    }
+    if (rootContext != null) {
+      rootContext.close();
+    }
+    schemaDataSource.close();
+    if (previousLocation == null) {
+      System.clearProperty("config.location");
+    } else {
+      System.setProperty("config.location", previousLocation);
+    }
+    ConfigProperties.reset();
+  }
+
+  @Test
+  @DisplayName("@MapperScan 매퍼는 SIMPLE 템플릿으로 실행되어 거래 생성 키가 채워지고 outbox 까지 기록된다.")
+  void scannedMappersUseSimpleTemplate() {
+    TransactionRecorder recorder = rootContext.getBean(TransactionRecorder.class);
+    PortfolioAggregator aggregator = rootContext.getBean(PortfolioAggregator.class);
+
+    TransactionVO recorded = recorder.record(new TransactionVO(null, 7L, "food", -12_000, LocalDate.now()));
+
+    assertNotNull(recorded.getTransactionId());
+    aggregator.poll();
+    assertEquals(-12_000, aggregator.get(7).getBalance());
+    assertEquals(0, aggregator.reconcile());
+  }
+
+  @Test
+  @DisplayName("상품 매퍼도 SIMPLE 템플릿으로 조회되어 카탈로그가 적재된다.")
+  void productCatalogLoads() {
+    new JdbcTemplate(schemaDataSource).update("INSERT INTO tbl_product (product_id, product_type, bank_code, "
+        + "product_name, term_months, base_rate, max_rate) VALUES (1, 'DEPOSIT', 'B001', '정기예금', 12, 3.10, 3.50)");
+
+    ProductCatalog catalog = rootContext.getBean(ProductCatalog.class);
+
+    assertEquals(1, catalog.reload());
+    assertEquals("정기예금", catalog.get(1).getProductName());
+  }
+
+  @Test
+  @DisplayName("인터셉터가 기록한 요청 지표가 /metrics 로 노출된다.")
+  void metricsExposeRecordedRequests() throws Exception {
+    assertEquals(200, mockMvc.perform(get("/api/products").param("limit", "1"))
+        .andReturn().getResponse().getStatus());
+
+    MockHttpServletResponse metrics = mockMvc.perform(get("/metrics")).andReturn().getResponse();
+
+    assertEquals(200, metrics.getStatus());
+    String body = metrics.getContentAsString(StandardCharsets.UTF_8);
+    assertTrue(body.contains("http_server_requests_seconds_count{method=\"GET\",route=\"/api/products\"}"), body);
+  }
+
+  @Test
+  @DisplayName("관리자 캐시 통계 / 비우기가 요청을 처리하는 HTTP 응답 캐시와 같은 인스턴스에 적용된다.")
+  void httpCacheAdminSeesServingCache() throws Exception {
+    String admin = bearer("admin", "ROLE_ADMIN");
+    mockMvc.perform(delete("/admin/cache/http").header("Authorization", admin));
+    int before = CachedController.calls.get();
+    long hitsBefore = hitCount(mockMvc.perform(get("/admin/cache/http").header("Authorization", admin))
+        .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+    mockMvc.perform(get("/api/cached"));
+    mockMvc.perform(get("/api/cached"));
+    assertEquals(before + 1, CachedController.calls.get());
+
+    String stats = mockMvc.perform(get("/admin/cache/http").header("Authorization", admin)).andReturn().getResponse()
+        .getContentAsString(StandardCharsets.UTF_8);
+    assertTrue(stats.contains("\"size\":1"), stats);
+    assertEquals(hitsBefore + 1, hitCount(stats), stats);
+
+    assertEquals(200, mockMvc.perform(delete("/admin/cache/http").header("Authorization", admin))
+        .andReturn().getResponse().getStatus());
+    mockMvc.perform(get("/api/cached"));
+    assertEquals(before + 2, CachedController.calls.get());
+  }
+
+  @Test
+  @DisplayName("관리자 API 는 토큰이 없으면 401, ROLE_ADMIN 이 아니면 403, 관리자만 실행")
+  void adminRequiresAdminRole() throws Exception {
+    MockHttpServletResponse anonymous = mockMvc.perform(post("/admin/portfolio/rebuild")).andReturn().getResponse();
+    assertEquals(401, anonymous.getStatus());
+    assertEquals("Bearer", anonymous.getHeader("WWW-Authenticate"));
+
+    String forged = bearer("admin", "ROLE_ADMIN");
+    assertEquals(401, mockMvc.perform(get("/admin/ratelimit")
+        .header("Authorization", forged.substring(0, forged.length() - 2) + "xx")).andReturn().getResponse().getStatus());
+    assertEquals(403, mockMvc.perform(post("/admin/portfolio/rebuild")
+        .header("Authorization", bearer("member1", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+    assertEquals(403, mockMvc.perform(get("/admin/sql/top")
+        .header("Authorization", bearer("member1", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+
+    assertEquals(200, mockMvc.perform(get("/admin/ratelimit")
+        .header("Authorization", bearer("admin", "ROLE_ADMIN"))).andReturn().getResponse().getStatus());
+    assertEquals(200, mockMvc.perform(get("/admin/startup")
+        .header("Authorization", bearer("admin", "ADMIN"))).andReturn().getResponse().getStatus());
+  }
+
+  @Test
+  @DisplayName("회원 집계는 본인 토큰으로만 조회되고, 다른 회원 조회는 관리자 API 로만 가능")
+  void portfolioRequiresOwnToken() throws Exception {
+    MockHttpServletResponse anonymous = mockMvc.perform(get("/api/portfolio/7")).andReturn().getResponse();
+    assertEquals(401, anonymous.getStatus());
+    assertEquals("Bearer", anonymous.getHeader("WWW-Authenticate"));
+    assertEquals(403, mockMvc.perform(get("/api/portfolio/7")
+        .header("Authorization", bearer("8", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+    assertEquals(200, mockMvc.perform(get("/api/portfolio/7")
+        .header("Authorization", bearer("7", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+
+    assertEquals(403, mockMvc.perform(get("/admin/portfolio/7")
+        .header("Authorization", bearer("8", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+    assertEquals(200, mockMvc.perform(get("/admin/portfolio/7")
+        .header("Authorization", bearer("admin", "ROLE_ADMIN"))).andReturn().getResponse().getStatus());
+  }
+
+  @Test
+  @DisplayName("업로드 제한은 검증된 토큰의 subject 기준, 비로그인 요청은 IP 기준")
+  void uploadLimitsKeyedOnVerifiedSubject() throws Exception {
+    byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+    assertEquals(201, mockMvc.perform(put("/api/files/a.txt").contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .content(body).header("Authorization", bearer("7", "ROLE_MEMBER"))).andReturn().getResponse().getStatus());
+    assertEquals(201, mockMvc.perform(put("/api/files/b.txt").contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .content(body)).andReturn().getResponse().getStatus());
+
+    @SuppressWarnings("unchecked")
+    Cache<String, ?> permits = (Cache<String, ?>) ReflectionTestUtils.getField(
+        servletContext.getBean(UploadStorage.class), "permits");
+    assertTrue(permits.asMap().containsKey("sub:7"), permits.asMap().keySet().toString());
+    assertTrue(permits.asMap().containsKey("ip:127.0.0.1"), permits.asMap().keySet().toString());
+  }
+
+  @Test
+  @DisplayName("상품 응답은 캐시되고, 카탈로그 스냅샷이 바뀌면 무효화된다.")
+  void productResponsesInvalidatedOnCatalogChange() throws Exception {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(schemaDataSource);
+    jdbcTemplate.update("INSERT INTO tbl_product (product_id, product_type, bank_code, product_name, term_months, "
+        + "base_rate, max_rate) VALUES (2, 'SAVING', 'B002', '자유적금', 6, 2.90, 3.30)");
+    ProductCatalog catalog = rootContext.getBean(ProductCatalog.class);
+    catalog.reload();
+
+    MockHttpServletResponse first = mockMvc.perform(get("/api/products/2")).andReturn().getResponse();
+    assertTrue(first.getContentAsString(StandardCharsets.UTF_8).contains("자유적금"));
+    assertEquals(304, mockMvc.perform(get("/api/products/2").header("If-None-Match", first.getHeader("ETag")))
+        .andReturn().getResponse().getStatus());
+
+    jdbcTemplate.update("UPDATE tbl_product SET product_name = '자유적금 플러스' WHERE product_id = 2");
+    catalog.reload();
+
+    assertEquals(200, mockMvc.perform(get("/api/products/2").header("If-None-Match", first.getHeader("ETag")))
+        .andReturn().getResponse().getStatus());
+    assertTrue(mockMvc.perform(get("/api/products/2")).andReturn().getResponse()
+        .getContentAsString(StandardCharsets.UTF_8).contains("자유적금 플러스"));
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 minRate 는 500 이 아니라 400")
+  void outOfRangeMinRateIsBadRequest() throws Exception {
+    assertEquals(400, mockMvc.perform(get("/api/products").param("minRate", "1e12"))
+        .andReturn().getResponse().getStatus());
+    assertEquals(400, mockMvc.perform(get("/api/products").param("minRate", "-0.5"))
+        .andReturn().getResponse().getStatus());
+    assertEquals(200, mockMvc.perform(get("/api/products").param("minRate", "999.99"))
+        .andReturn().getResponse().getStatus());
+  }
+}
@@ -0,0 +1,83 @@
+package org.scoula.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigPropertiesTest {
+
+  @TempDir
+  Path configDir;
+
+  private String previousLocation;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    previousLocation = System.getProperty("config.location");
+    System.setProperty("config.location", configDir.toString());
+    ConfigProperties.reset();
+
+    Files.write(configDir.resolve("application.properties"),
+            Arrays.asList("active.profile=local,prod", "jdbc.url=jdbc:base", "jdbc.username=base"),
+            StandardCharsets.UTF_8);
+    Files.write(configDir.resolve("application-prod.properties"),
+            Arrays.asList("jdbc.url=jdbc:prod"), StandardCharsets.UTF_8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (previousLocation == null) {
+      System.clearProperty("config.location");
+    } else {
+      System.setProperty("config.location", previousLocation);
+    }
+    ConfigProperties.reset();
+  }
+
+  @Test
+  @DisplayName("기본 설정 위에 active.profile 순서대로 덮어쓰고, 없는 프로필 파일은 건너뜀")
+  void overlaysProfilesInOrder() throws Exception {
+    Properties properties = ConfigProperties.load();
+
+    assertEquals("jdbc:prod", properties.getProperty("jdbc.url"));
+    assertEquals("base", properties.getProperty("jdbc.username"));
+    assertEquals(Arrays.asList("local", "prod"), ConfigProperties.activeProfiles());
+  }
+
+  @Test
+  @DisplayName("설정 파일은 한 번만 읽고 루트 / 서블릿 컨텍스트가 같은 값을 공유")
+  void loadsOnceAndShares() throws Exception {
+    Properties first = ConfigProperties.load();
+    Files.write(configDir.resolve("application-prod.properties"),
+            Arrays.asList("jdbc.url=jdbc:changed"), StandardCharsets.UTF_8);
+
+    assertSame(first, ConfigProperties.load());
+    assertEquals("jdbc:prod", ConfigProperties.get("jdbc.url", null));
+  }
+
+  @Test
+  @DisplayName("Swagger 는 swagger.enabled 가 없으면 local / dev 프로필에서만 활성화")
+  void swaggerEnabledByProfile() throws Exception {
+    assertTrue(new SwaggerEnabledCondition().matches(null, null));
+
+    Files.write(configDir.resolve("application.properties"),
+            Arrays.asList("active.profile=prod"), StandardCharsets.UTF_8);
+    ConfigProperties.reset();
+    assertFalse(new SwaggerEnabledCondition().matches(null, null));
+
+    Files.write(configDir.resolve("application.properties"),
+            Arrays.asList("active.profile=prod", "swagger.enabled=true"), StandardCharsets.UTF_8);
+    ConfigProperties.reset();
+    assertTrue(new SwaggerEnabledCondition().matches(null, null));
+  }
+}
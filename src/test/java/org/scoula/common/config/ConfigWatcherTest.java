@@ -0,0 +1,107 @@
+package org.scoula.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigWatcherTest {
+
+  @TempDir
+  Path configDir;
+
+  private String previousLocation;
+  private ConfigWatcher watcher;
+  private final BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    previousLocation = System.getProperty("config.location");
+    System.setProperty("config.location", configDir.toString());
+    ConfigProperties.reset();
+    write("application.properties", "active.profile=prod", "ratelimit.burst=40");
+    write("application-prod.properties", "jdbc.pool.maximum-pool-size=10", "jwt.secret_key=s3cret");
+    ConfigProperties.load();
+
+    watcher = new ConfigWatcher(configDir, 100);
+    watcher.addListener((previous, current, changedKeys) -> changes.add(changedKeys));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    watcher.close();
+    if (previousLocation == null) {
+      System.clearProperty("config.location");
+    } else {
+      System.setProperty("config.location", previousLocation);
+    }
+    ConfigProperties.reset();
+  }
+
+  private void write(String name, String... lines) throws Exception {
+    // 배포 스크립트처럼 임시 파일에 쓰고 교체
+    Path temp = Files.write(configDir.resolve(name + ".tmp"), Arrays.asList(lines), StandardCharsets.UTF_8);
+    Files.move(temp, configDir.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Test
+  @DisplayName("파일이 바뀌면 새 스냅샷으로 교체하고 바뀐 키만 리스너에 전달")
+  void reloadsOnFileChange() throws Exception {
+    ConfigSnapshot before = ConfigProperties.current();
+    watcher.start();
+
+    write("application-prod.properties", "jdbc.pool.maximum-pool-size=20", "jwt.secret_key=s3cret",
+            "logging.level.org.scoula=DEBUG");
+
+    Set<String> changed = changes.poll(15, TimeUnit.SECONDS);
+    assertEquals(Set.of("jdbc.pool.maximum-pool-size", "logging.level.org.scoula"), changed);
+
+    ConfigSnapshot after = ConfigProperties.current();
+    assertEquals(before.getVersion() + 1, after.getVersion());
+    assertEquals(20, after.getInt("jdbc.pool.maximum-pool-size", 0));
+    // 이전 스냅샷은 불변
+    assertEquals(10, before.getInt("jdbc.pool.maximum-pool-size", 0));
+    assertThrows(UnsupportedOperationException.class, () -> after.asMap().put("x", "y"));
+  }
+
+  @Test
+  @DisplayName("값이 같으면 통지하지 않고, 삭제된 키는 변경으로 통지")
+  void notifiesOnlyRealChanges() throws Exception {
+    assertTrue(watcher.reload().isEmpty());
+    assertNull(changes.poll());
+
+    write("application.properties", "active.profile=prod");
+    assertEquals(Set.of("ratelimit.burst"), watcher.reload());
+    assertNull(ConfigProperties.current().get("ratelimit.burst"));
+  }
+
+  @Test
+  @DisplayName("리스너 하나가 실패해도 다른 리스너는 호출됨")
+  void failingListenerDoesNotBlockOthers() throws Exception {
+    ConfigWatcher failing = new ConfigWatcher(configDir, 100);
+    List<String> calls = new CopyOnWriteArrayList<>();
+    failing.addListener((previous, current, changedKeys) -> {
+      throw new IllegalStateException("listener failure");
+    });
+    failing.addListener((previous, current, changedKeys) -> calls.add("second"));
+
+    write("application.properties", "active.profile=prod", "ratelimit.burst=80");
+    assertEquals(Set.of("ratelimit.burst"), failing.reload());
+    assertEquals(List.of("second"), calls);
+  }
+}
@@ -0,0 +1,116 @@
+package org.scoula.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import springfox.documentation.spring.web.DocumentationCache;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class SwaggerConfigTest {
+
+  @TempDir
+  Path configDir;
+
+  private String previousLocation;
+  private AnnotationConfigWebApplicationContext context;
+  private MockMvc mockMvc;
+
+  @EnableWebMvc
+  @Configuration
+  static class MvcConfig {
+  }
+
+  @RestController
+  static class SampleController {
+    @GetMapping("/api/sample")
+    public String sample() {
+      return "ok";
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    previousLocation = System.getProperty("config.location");
+    System.setProperty("config.location", configDir.toString());
+    Files.write(configDir.resolve("application.properties"),
+            Arrays.asList("active.profile=prod", "swagger.enabled=true"), StandardCharsets.UTF_8);
+    ConfigProperties.reset();
+
+    context = new AnnotationConfigWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.register(MvcConfig.class, SwaggerConfig.class, SampleController.class);
+    context.refresh();
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+    if (previousLocation == null) {
+      System.clearProperty("config.location");
+    } else {
+      System.setProperty("config.location", previousLocation);
+    }
+    ConfigProperties.reset();
+  }
+
+  @Test
+  @DisplayName("첫 요청에서 스캔 / 생성 후 같은 바이트 재사용, ETag 일치 시 304, gzip 요청은 미리 압축한 본문")
+  void cachedDocument() throws Exception {
+    // 시작 시에는 스캔하지 않음
+    assertTrue(context.getBean(DocumentationCache.class).all().isEmpty());
+
+    MockHttpServletResponse first = mockMvc.perform(get("/v2/api-docs")).andReturn().getResponse();
+    assertEquals(200, first.getStatus());
+    assertTrue(first.getContentType().startsWith("application/json"));
+    String json = first.getContentAsString(StandardCharsets.UTF_8);
+    assertTrue(json.contains("/api/sample"), json);
+    assertFalse(json.contains("\"host\""));
+    String etag = first.getHeader("ETag");
+    assertNotNull(etag);
+
+    MockHttpServletResponse second = mockMvc.perform(get("/v2/api-docs")).andReturn().getResponse();
+    assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+
+    assertEquals(304, mockMvc.perform(get("/v2/api-docs").header("If-None-Match", etag))
+            .andReturn().getResponse().getStatus());
+
+    MockHttpServletResponse gzip = mockMvc.perform(get("/v2/api-docs").header("Accept-Encoding", "gzip, br"))
+            .andReturn().getResponse();
+    assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+    assertTrue(gzip.getContentAsByteArray().length < first.getContentAsByteArray().length);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+      assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    assertEquals(404, mockMvc.perform(get("/v2/api-docs?group=none")).andReturn().getResponse().getStatus());
+  }
+
+  @Test
+  @DisplayName("/swagger-resources 도 첫 요청 전에 스캔해 그룹 목록 반환")
+  void swaggerResourcesTriggerScan() throws Exception {
+    String resources = mockMvc.perform(get("/swagger-resources")).andReturn().getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    assertTrue(resources.contains("/v2/api-docs"), resources);
+  }
+}
@@ -0,0 +1,112 @@
+package org.scoula.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2 DB 두 개(primary, replica)로 읽기/쓰기 분리 라우팅 확인
+ */
+class ReplicationRoutingDataSourceTest {
+
+  private HikariDataSource primary;
+  private HikariDataSource replicaPool;
+  private ReplicaRouter router;
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  private static HikariDataSource h2(String name) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    config.setMaximumPoolSize(2);
+    HikariDataSource dataSource = new HikariDataSource(config);
+
+    JdbcTemplate init = new JdbcTemplate(dataSource);
+    init.execute("CREATE TABLE IF NOT EXISTS db_role (name VARCHAR(20))");
+    init.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+    init.execute("DELETE FROM db_role");
+    init.execute("DELETE FROM replica_lag");
+    init.update("INSERT INTO db_role VALUES (?)", name);
+    init.update("INSERT INTO replica_lag VALUES (0)");
+    return dataSource;
+  }
+
+  @BeforeEach
+  void setUp() {
+    primary = h2("primary");
+    replicaPool = h2("replica");
+    router = new ReplicaRouter(List.of(new Replica("replica", replicaPool)),
+            ReplicaRouter.Strategy.ROUND_ROBIN, "SELECT seconds FROM replica_lag", 5);
+
+    DataSource dataSource = ReplicationRoutingDataSource.lazy(primary, router);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    router.close();
+    primary.close();
+  }
+
+  private String currentDb(TransactionTemplate template) {
+    return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+  }
+
+  @Test
+  @DisplayName("readOnly 트랜잭션은 복제본으로, 쓰기 트랜잭션은 primary 로 간다.")
+  void routeByReadOnly() {
+    assertEquals("replica", currentDb(readOnly));
+    assertEquals("primary", currentDb(readWrite));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖의 호출은 primary 로 간다.")
+  void outsideTransactionGoesToPrimary() {
+    assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+  }
+
+  @Test
+  @DisplayName("복제 지연이 허용치를 넘으면 primary 로 대체되고, 회복되면 다시 복제본을 사용한다.")
+  void lagAwareFallback() {
+    new JdbcTemplate(replicaPool).update("UPDATE replica_lag SET seconds = 30");
+    router.checkLag();
+    assertEquals("primary", currentDb(readOnly));
+
+    new JdbcTemplate(replicaPool).update("UPDATE replica_lag SET seconds = 1");
+    router.checkLag();
+    assertEquals("replica", currentDb(readOnly));
+  }
+
+  @Test
+  @DisplayName("LEAST_ACTIVE 전략은 활성 커넥션이 적은 복제본을 고른다.")
+  void leastActive() throws Exception {
+    HikariDataSource second = h2("replica2");
+    ReplicaRouter leastActive = new ReplicaRouter(
+            List.of(new Replica("replica", replicaPool), new Replica("replica2", second)),
+            ReplicaRouter.Strategy.LEAST_ACTIVE, null, 5);
+    try (var busy = replicaPool.getConnection()) {
+      assertEquals("replica2", leastActive.select().getName());
+    } finally {
+      leastActive.close();
+    }
+  }
+}
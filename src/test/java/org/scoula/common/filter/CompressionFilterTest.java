@@ -0,0 +1,136 @@
+package org.scoula.common.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionFilterTest {
+
+  private CompressionFilter filter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    filter = new CompressionFilter();
+    filter.setMinSize(1024);
+    filter.init(new MockFilterConfig());
+  }
+
+  private MockHttpServletResponse perform(String acceptEncoding, String contentType, String contentEncoding,
+                                          String body) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+    if (acceptEncoding != null) {
+      request.addHeader("Accept-Encoding", acceptEncoding);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    HttpServlet servlet = new HttpServlet() {
+      @Override
+      protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setContentType(contentType);
+        resp.setHeader("ETag", "\"0abc\"");
+        if (contentEncoding != null) {
+          resp.setHeader("Content-Encoding", contentEncoding);
+        }
+        resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+      }
+    };
+    filter.doFilter(request, response, new MockFilterChain(servlet));
+    return response;
+  }
+
+  // @ResponseBody 와 같은 경로 - 컨버터가 본문을 쓴 뒤 스트림을 flush 함
+  private MockHttpServletResponse performJackson(Object value) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+    request.addHeader("Accept-Encoding", "gzip");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    HttpServlet servlet = new HttpServlet() {
+      @Override
+      protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        new MappingJackson2HttpMessageConverter().write(value, MediaType.APPLICATION_JSON,
+            new ServletServerHttpResponse(resp));
+      }
+    };
+    filter.doFilter(request, response, new MockFilterChain(servlet));
+    return response;
+  }
+
+  private static String json(int items) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < items; i++) {
+      json.append(i > 0 ? "," : "").append("{\"productCode\":\"P").append(i).append("\",\"name\":\"정기예금\"}");
+    }
+    return json.append(']').toString();
+  }
+
+  @Test
+  @DisplayName("minSize 이상 JSON 은 gzip 압축, Vary 추가 및 약한 ETag")
+  void gzip() throws Exception {
+    String body = json(500);
+    MockHttpServletResponse response = perform("gzip, deflate, br", "application/json", null, body);
+
+    assertEquals("gzip", response.getHeader("Content-Encoding"));
+    assertEquals("Accept-Encoding", response.getHeader("Vary"));
+    assertEquals("W/\"0abc\"", response.getHeader("ETag"));
+    assertTrue(response.getContentAsByteArray().length < body.length() / 5);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      assertEquals(body, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @DisplayName("minSize 미만, 허용되지 않은 타입, 이미 인코딩된 응답은 그대로 전달")
+  void passThrough() throws Exception {
+    MockHttpServletResponse small = perform("gzip", "application/json", null, "{\"ok\":true}");
+    assertNull(small.getHeader("Content-Encoding"));
+    assertEquals("{\"ok\":true}", small.getContentAsString());
+    assertEquals(11, small.getContentLength());
+
+    assertNull(perform("gzip", "image/png", null, json(100)).getHeader("Content-Encoding"));
+    assertEquals("br", perform("gzip", "text/css", "br", json(100)).getHeader("Content-Encoding"));
+    assertNull(perform(null, "application/json", null, json(100)).getHeader("Content-Encoding"));
+  }
+
+  @Test
+  @DisplayName("메시지 컨버터의 flush 로는 압축 여부를 정하지 않음 - 작은 JSON 은 그대로, 큰 JSON 은 압축")
+  void jacksonConverterFlush() throws Exception {
+    MockHttpServletResponse small = performJackson(Map.of("ok", true));
+    assertNull(small.getHeader("Content-Encoding"));
+    assertEquals("{\"ok\":true}", small.getContentAsString());
+    assertEquals(11, small.getContentLength());
+
+    List<Map<String, String>> items = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      items.add(Map.of("productCode", "P" + i));
+    }
+    MockHttpServletResponse large = performJackson(items);
+    assertEquals("gzip", large.getHeader("Content-Encoding"));
+  }
+
+  @Test
+  @DisplayName("Accept-Encoding 협상")
+  void negotiate() {
+    assertEquals(CompressingOutputStream.Encoding.GZIP, CompressionFilter.negotiate("deflate, gzip;q=0.8"));
+    assertEquals(CompressingOutputStream.Encoding.DEFLATE, CompressionFilter.negotiate("gzip;q=0, deflate"));
+    assertEquals(CompressingOutputStream.Encoding.GZIP, CompressionFilter.negotiate("*"));
+    assertNull(CompressionFilter.negotiate("br, identity"));
+  }
+}
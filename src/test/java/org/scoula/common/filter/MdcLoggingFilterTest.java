@@ -0,0 +1,72 @@
+package org.scoula.common.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.security.util.JwtClaimsCache;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcLoggingFilterTest {
+
+  private static final String SECRET = "test-secret-key-for-finmate-jwt-0123456789";
+
+  private final MdcLoggingFilter filter = new MdcLoggingFilter(
+      new RequestKeyResolver(new JwtKeyRing(SECRET, "", 3600), new JwtClaimsCache(100, 60)));
+
+  private static String token(String subject) {
+    return Jwts.builder()
+        .setSubject(subject)
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .compact();
+  }
+
+  // 필터 체인 안에서 본 MDC 의 user 값
+  private String userDuringChain(String authorization) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+    if (authorization != null) {
+      request.addHeader("Authorization", authorization);
+    }
+    AtomicReference<String> user = new AtomicReference<>();
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> user.set(ThreadContext.get(MdcLoggingFilter.USER)));
+    assertNull(ThreadContext.get(MdcLoggingFilter.USER));
+    return user.get();
+  }
+
+  @Test
+  @DisplayName("검증된 Bearer 토큰의 subject 를 MDC user 로 사용하고, 요청이 끝나면 지운다.")
+  void userFromBearerToken() throws Exception {
+    assertEquals("user0", userDuringChain("Bearer " + token("user0")));
+  }
+
+  @Test
+  @DisplayName("토큰이 없거나 서명이 맞지 않으면 user 는 '-'")
+  void anonymousOrForged() throws Exception {
+    String forged = token("admin");
+    assertEquals("-", userDuringChain(null));
+    assertEquals("-", userDuringChain("Bearer " + forged.substring(0, forged.length() - 2) + "xx"));
+  }
+
+  @Test
+  @DisplayName("요청 ID 헤더가 안전한 형식이면 그대로, 아니면 새로 생성해 응답 헤더로 반환")
+  void requestId() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+    request.addHeader(MdcLoggingFilter.REQUEST_ID_HEADER, "gw-123_abc");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, (req, res) -> { });
+
+    assertEquals("gw-123_abc", response.getHeader(MdcLoggingFilter.REQUEST_ID_HEADER));
+    assertNotEquals("a b", MdcLoggingFilter.resolveRequestId("a b"));
+  }
+}
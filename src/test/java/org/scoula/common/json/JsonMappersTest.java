@@ -0,0 +1,62 @@
+package org.scoula.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.security.util.JwtKeyRing;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMappersTest {
+
+  private final ObjectMapper objectMapper = JsonMappers.create();
+
+  @Getter
+  @Setter
+  public static class Product {
+    private String productCode;
+    private double baseRate;
+    private Date updatedAt;
+  }
+
+  @Test
+  @DisplayName("Blackbird 등록, 날짜는 숫자, 알 수 없는 속성은 무시")
+  void settings() throws Exception {
+    assertTrue(objectMapper.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().contains("Blackbird")));
+
+    Product product = new Product();
+    product.setProductCode("DEP100000");
+    product.setBaseRate(2.5);
+    product.setUpdatedAt(new Date(1_750_000_000_000L));
+    assertEquals("{\"productCode\":\"DEP100000\",\"baseRate\":2.5,\"updatedAt\":1750000000000}",
+            objectMapper.writeValueAsString(product));
+
+    Product read = objectMapper.readValue(
+            "{\"productCode\":\"DEP1\",\"baseRate\":3.1,\"updatedAt\":1750000000000,\"unknown\":true}", Product.class);
+    assertEquals("DEP1", read.getProductCode());
+    assertEquals(3.1, read.getBaseRate());
+    assertEquals(1_750_000_000_000L, read.getUpdatedAt().getTime());
+    assertEquals("{}", objectMapper.writeValueAsString(new Object()));
+  }
+
+  @Test
+  @DisplayName("JWT claims 도 같은 ObjectMapper 로 서명 / 검증")
+  void jwtClaims() {
+    JwtKeyRing keyRing = new JwtKeyRing("", "k1:json-mappers-test-secret-key-0123456789abcdef", 3600);
+    String token = keyRing.sign(Jwts.builder()
+            .setSubject("user0")
+            .claim("roles", List.of("ROLE_MEMBER", "ROLE_ADMIN"))
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+
+    Claims claims = keyRing.parse(token);
+    assertEquals("user0", claims.getSubject());
+    assertEquals(List.of("ROLE_MEMBER", "ROLE_ADMIN"), claims.get("roles", List.class));
+  }
+}
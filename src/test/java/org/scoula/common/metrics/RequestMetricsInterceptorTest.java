@@ -0,0 +1,100 @@
+package org.scoula.common.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.controller.MetricsController;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class RequestMetricsInterceptorTest {
+
+  @RestController
+  static class ProductController {
+    @GetMapping("/api/products/{id}")
+    public String product(@PathVariable long id) {
+      if (id < 0) {
+        throw new IllegalStateException("음수 id");
+      }
+      return "상품-" + id;
+    }
+  }
+
+  private RequestMetrics metrics;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new RequestMetrics();
+    mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController(),
+                    new MetricsController(new PrometheusExporter(metrics, new HikariMetricsTrackerFactory())))
+            .addInterceptors(new RequestMetricsInterceptor(metrics))
+            .build();
+  }
+
+  private String scrape() throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(get("/metrics")).andReturn().getResponse();
+    assertEquals(200, response.getStatus());
+    assertTrue(response.getContentType().startsWith("text/plain"));
+    assertTrue(response.getContentType().contains("version=0.0.4"));
+    return response.getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("실제 URI 가 아닌 경로 템플릿 단위로 집계")
+  void aggregatesByRouteTemplate() throws Exception {
+    for (int id = 1; id <= 3; id++) {
+      mockMvc.perform(get("/api/products/" + id));
+    }
+
+    String body = scrape();
+    String labels = "method=\"GET\",route=\"/api/products/{id}\"";
+    assertTrue(body.contains("http_server_requests_seconds_count{" + labels + "} 3"), body);
+    assertTrue(body.contains("http_server_requests_seconds_bucket{" + labels + ",le=\"+Inf\"} 3"), body);
+    assertTrue(body.contains("http_server_requests_total{" + labels + ",status=\"200\"} 3"), body);
+    assertTrue(body.contains("http_server_requests_in_flight{" + labels + "} 0"), body);
+    assertFalse(body.contains("/api/products/1"), body);
+  }
+
+  @Test
+  @DisplayName("처리되지 않은 예외는 500 으로 기록")
+  void recordsUnhandledExceptionAsServerError() {
+    assertThrows(Exception.class, () -> mockMvc.perform(get("/api/products/-1")));
+
+    RequestMetrics.Route route = metrics.route("GET", "/api/products/{id}");
+    assertEquals(1, route.getStatuses().get(500).sum());
+    assertEquals(0, route.getInFlight().sum());
+  }
+
+  @Test
+  @DisplayName("JVM 지표 포함, 버킷은 누적 값")
+  void exportsJvmMetricsAndCumulativeBuckets() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1_000_000L);        // 1ms
+    histogram.record(200_000_000L);      // 200ms
+    histogram.record(20_000_000_000L);   // 20s (+Inf)
+
+    long[] counts = histogram.cumulativeCounts();
+    assertEquals(1, counts[0]);
+    assertEquals(2, counts[5]);
+    assertEquals(2, counts[counts.length - 2]);
+    assertEquals(3, counts[counts.length - 1]);
+    assertEquals(20.201, histogram.sumSeconds(), 1e-9);
+
+    String body = scrape();
+    assertTrue(body.contains("# TYPE jvm_memory_bytes_used gauge"));
+    assertTrue(body.contains("jvm_memory_bytes_used{area=\"heap\"} "));
+    assertTrue(body.contains("jvm_threads_current "));
+    assertTrue(body.contains("jvm_gc_collection_seconds_count{gc="));
+  }
+}
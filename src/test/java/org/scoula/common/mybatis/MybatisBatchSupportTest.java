@@ -0,0 +1,154 @@
+package org.scoula.common.mybatis;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MybatisBatchSupportTest {
+
+  public interface RateMapper {
+    @Insert("INSERT INTO rate (name) VALUES (#{name})")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insert(Rate rate);
+
+    @Insert("<script>INSERT INTO rate (name) VALUES "
+            + "<foreach collection='names' item='n' separator=','>(#{n})</foreach></script>")
+    int insertAll(@Param("names") List<String> names);
+
+    @Select("SELECT COUNT(*) FROM rate")
+    int count();
+  }
+
+  public static class Rate {
+    private Long id;
+    private final String name;
+
+    Rate(String name) {
+      this.name = name;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  private HikariDataSource dataSource;
+  private DataSourceTransactionManager transactionManager;
+  private SqlSessionTemplate simpleTemplate;
+  private MybatisBatchSupport batchSupport;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:batchsupport;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+      stmt.execute("DROP TABLE IF EXISTS rate");
+      stmt.execute("CREATE TABLE rate (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+    }
+
+    Configuration configuration = new Configuration(
+            new Environment("test", new SpringManagedTransactionFactory(), dataSource));
+    configuration.addMapper(RateMapper.class);
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    simpleTemplate = new SqlSessionTemplate(sqlSessionFactory);
+    batchSupport = new MybatisBatchSupport(
+            new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH), transactionManager, 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  private static List<Rate> rates(int n) {
+    return IntStream.range(0, n).mapToObj(i -> new Rate("rate-" + i)).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("batch 는 flushSize 단위로 실행하고 처리 행 수를 합산한다.")
+  void batchCountsRowsAcrossFlushes() {
+    int rows = batchSupport.batch(RateMapper.class, rates(7), RateMapper::insert);
+
+    assertEquals(7, rows);
+    assertEquals(7, simpleTemplate.getMapper(RateMapper.class).count());
+  }
+
+  @Test
+  @DisplayName("빈 목록이면 트랜잭션을 열지 않고 0을 반환한다.")
+  void batchEmpty() {
+    assertEquals(0, batchSupport.batch(RateMapper.class, List.of(), RateMapper::insert));
+    assertEquals(0, simpleTemplate.getMapper(RateMapper.class).count());
+  }
+
+  @Test
+  @DisplayName("바깥 트랜잭션이 롤백되면 batch 로 넣은 행도 함께 롤백된다.")
+  void batchJoinsOuterTransaction() {
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+    tx.executeWithoutResult(status -> {
+      assertEquals(4, batchSupport.batch(RateMapper.class, rates(4), RateMapper::insert));
+      status.setRollbackOnly();
+    });
+
+    assertEquals(0, simpleTemplate.getMapper(RateMapper.class).count());
+  }
+
+  @Test
+  @DisplayName("SIMPLE 템플릿 매퍼는 생성 키를 즉시 채운다.")
+  void simpleTemplateFillsGeneratedKeys() {
+    Rate rate = new Rate("정기예금");
+
+    assertEquals(1, simpleTemplate.getMapper(RateMapper.class).insert(rate));
+    assertNotNull(rate.getId());
+  }
+
+  @Test
+  @DisplayName("chunked 는 chunkSize 단위로 나눠 호출하고 반환 행 수를 합산한다.")
+  void chunkedSplitsList() {
+    RateMapper mapper = simpleTemplate.getMapper(RateMapper.class);
+    List<String> names = IntStream.range(0, 5).mapToObj(i -> "n" + i).collect(Collectors.toList());
+    List<Integer> sizes = new ArrayList<>();
+
+    int rows = MybatisBatchSupport.chunked(names, 2, chunk -> {
+      sizes.add(chunk.size());
+      return mapper.insertAll(chunk);
+    });
+
+    assertEquals(5, rows);
+    assertEquals(List.of(2, 2, 1), sizes);
+    assertEquals(5, mapper.count());
+  }
+}
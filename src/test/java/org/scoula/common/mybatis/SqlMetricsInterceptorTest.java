@@ -0,0 +1,135 @@
+package org.scoula.common.mybatis;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.annotations.CacheNamespace;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlMetricsInterceptorTest {
+
+  public interface ProductMapper {
+    @Insert("INSERT INTO product (name) VALUES (#{name})")
+    int insert(String name);
+
+    @Select("SELECT name FROM product")
+    List<String> selectAll();
+  }
+
+  @CacheNamespace
+  public interface CachedProductMapper {
+    @Select("SELECT name FROM product ORDER BY name")
+    List<String> selectCached();
+  }
+
+  private HikariDataSource dataSource;
+  private SqlMetricsInterceptor interceptor;
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:sqlmetrics;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    Configuration configuration = new Configuration(
+            new Environment("test", new JdbcTransactionFactory(), dataSource));
+    configuration.addMapper(ProductMapper.class);
+    configuration.addMapper(CachedProductMapper.class);
+    interceptor = new SqlMetricsInterceptor(500);
+    configuration.addInterceptor(interceptor);
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    try (SqlSession session = sqlSessionFactory.openSession(true)) {
+      session.getConnection().createStatement().execute(
+              "CREATE TABLE IF NOT EXISTS product (name VARCHAR(50)); DELETE FROM product");
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  private SqlStatementStats stats(String suffix) {
+    return interceptor.top(10, "count").stream()
+            .filter(s -> s.getStatementId().endsWith(suffix))
+            .findFirst()
+            .orElseThrow();
+  }
+
+  @Test
+  @DisplayName("statement 별 실행 횟수와 처리 행 수가 기록된다.")
+  void recordsPerStatement() {
+    try (SqlSession session = sqlSessionFactory.openSession(true)) {
+      ProductMapper mapper = session.getMapper(ProductMapper.class);
+      mapper.insert("정기예금");
+      mapper.insert("적금");
+      assertEquals(2, mapper.selectAll().size());
+      mapper.selectAll();   // 세션 로컬 캐시에서 반환
+    }
+
+    SqlStatementStats insert = stats(".insert");
+    SqlStatementStats select = stats(".selectAll");
+
+    assertEquals(2, insert.getCount());
+    assertEquals(2, insert.getRows());
+    assertEquals(1, select.getCount());
+    assertEquals(2, select.getRows());
+    assertEquals(1, select.getCacheHits());
+  }
+
+  @Test
+  @DisplayName("2차 캐시 적중은 SQL 실행으로 세지 않고 cacheHits 로 따로 집계")
+  void secondLevelCacheHitsCountedSeparately() {
+    try (SqlSession session = sqlSessionFactory.openSession(true)) {
+      session.getMapper(ProductMapper.class).insert("정기예금");
+    }
+    for (int i = 0; i < 3; i++) {
+      try (SqlSession session = sqlSessionFactory.openSession(true)) {
+        assertEquals(List.of("정기예금"), session.getMapper(CachedProductMapper.class).selectCached());
+        session.commit();
+      }
+    }
+
+    SqlStatementStats select = stats(".selectCached");
+    assertEquals(1, select.getCount());
+    assertEquals(1, select.getRows());
+    assertEquals(2, select.getCacheHits());
+    assertEquals(2L, select.snapshot().get("cacheHits"));
+  }
+
+  @Test
+  @DisplayName("BATCH 실행기의 음수 반환값은 처리 행 수에 더하지 않고, 음수 N 은 빈 목록")
+  void batchUpdatesAndNegativeTop() {
+    try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+      ProductMapper mapper = session.getMapper(ProductMapper.class);
+      mapper.insert("정기예금");
+      mapper.insert("적금");
+      session.flushStatements();
+      session.commit();
+    }
+
+    SqlStatementStats insert = stats(".insert");
+    assertEquals(2, insert.getCount());
+    assertEquals(0, insert.getRows());
+
+    assertTrue(interceptor.top(-1, "total").isEmpty());
+    assertTrue(interceptor.top(0, "rows").isEmpty());
+  }
+}
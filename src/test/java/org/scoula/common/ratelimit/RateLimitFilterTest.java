@@ -0,0 +1,109 @@
+package org.scoula.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.security.util.JwtClaimsCache;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+  private static final String SECRET = "test-secret-key-for-finmate-jwt-0123456789";
+
+  @Test
+  @DisplayName("GCRA - burst 만큼 즉시 허용, 이후 1/rate 간격으로 허용")
+  void gcra() {
+    AtomicLong now = new AtomicLong(0);
+    GcraRateLimiter limiter = new GcraRateLimiter(10, 3, 100, now::get, Ticker.systemTicker());
+
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertEquals(0, limiter.tryAcquire("a"));
+    long wait = limiter.tryAcquire("a");
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+    assertEquals(0, limiter.tryAcquire("b"));
+
+    now.addAndGet(wait);
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertTrue(limiter.tryAcquire("a") > 0);
+  }
+
+  private static MockHttpServletResponse perform(RateLimitFilter filter, String uri, String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+    request.setRemoteAddr("10.0.0.1");
+    if (token != null) {
+      request.addHeader("Authorization", "Bearer " + token);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private static String token(String subject) {
+    return Jwts.builder()
+            .setSubject(subject)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+  }
+
+  @Test
+  @DisplayName("JWT subject 별로 제한, 초과 시 429 + Retry-After, 제외 경로는 제한 없음")
+  void rateLimitPerSubject() throws Exception {
+    RateLimitFilter filter = new RateLimitFilter(new GcraRateLimiter(0.5, 2, 100), new RouteBulkheads(""),
+            new RequestKeyResolver(new JwtKeyRing(SECRET, "", 3600), new JwtClaimsCache(100, 60)), List.of("/resources/**"));
+    String user0 = token("user0");
+
+    assertEquals(200, perform(filter, "/api/products", user0).getStatus());
+    assertEquals(200, perform(filter, "/api/products", user0).getStatus());
+    MockHttpServletResponse limited = perform(filter, "/api/products", user0);
+    assertEquals(429, limited.getStatus());
+    assertEquals("2", limited.getHeader("Retry-After"));
+
+    // 같은 IP 라도 다른 사용자 / 익명(IP 키)은 별도 버킷, 위조 토큰은 IP 로 처리
+    assertEquals(200, perform(filter, "/api/products", token("user1")).getStatus());
+    assertEquals(200, perform(filter, "/api/products", null).getStatus());
+    assertEquals(200, perform(filter, "/api/products", user0.substring(0, user0.length() - 2) + "xx").getStatus());
+    assertEquals(429, perform(filter, "/api/products", null).getStatus());
+    assertEquals(200, perform(filter, "/resources/app.css", user0).getStatus());
+
+    assertEquals(2L, filter.stats().get("rateLimited"));
+  }
+
+  @Test
+  @DisplayName("bulkhead 가 가득 차면 503 + Retry-After, 처리가 끝나면 반환")
+  void bulkhead() throws Exception {
+    RouteBulkheads bulkheads = new RouteBulkheads("/api/files/**=1,/api/**=10");
+    RouteBulkheads.Bulkhead files = bulkheads.match("/api/files/abc");
+    assertEquals("/api/files/**", files.getPattern());
+    assertEquals("/api/**", bulkheads.match("/api/products").getPattern());
+    assertNull(bulkheads.match("/admin/pool"));
+
+    RateLimitFilter filter = new RateLimitFilter(new GcraRateLimiter(1000, 1000, 100), bulkheads,
+            new RequestKeyResolver(null, null), List.of());
+
+    assertTrue(files.tryEnter());
+    MockHttpServletResponse rejected = perform(filter, "/api/files/abc", null);
+    assertEquals(503, rejected.getStatus());
+    assertEquals("1", rejected.getHeader("Retry-After"));
+    assertEquals(200, perform(filter, "/api/products", null).getStatus());
+
+    files.exit();
+    assertEquals(200, perform(filter, "/api/files/abc", null).getStatus());
+    assertEquals(1, files.getSemaphore().availablePermits());
+    assertEquals(1L, filter.stats().get("bulkheadRejected"));
+  }
+}
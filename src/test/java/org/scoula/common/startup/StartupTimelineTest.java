@@ -0,0 +1,96 @@
+package org.scoula.common.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+
+  static final AtomicInteger created = new AtomicInteger();
+
+  static class Service {
+    Service() {
+      created.incrementAndGet();
+    }
+  }
+
+  static class SlowRepository {
+    SlowRepository() throws InterruptedException {
+      created.incrementAndGet();
+      Thread.sleep(30);
+    }
+  }
+
+  @Configuration
+  static class AppConfig {
+    @Bean
+    public static StartupTimeline startupTimeline() {
+      return new StartupTimeline();
+    }
+
+    @Bean
+    public static LazyInitBeanFactoryPostProcessor lazyInit() {
+      return new LazyInitBeanFactoryPostProcessor(true, Collections.singletonList("slowRepository"));
+    }
+
+    @Bean
+    @Lazy(false)
+    public Service eagerService(SlowRepository slowRepository) {
+      return new Service();
+    }
+
+    @Bean
+    public SlowRepository slowRepository() throws InterruptedException {
+      return new SlowRepository();
+    }
+
+    @Bean
+    public Service service() {
+      return new Service();
+    }
+  }
+
+  @Test
+  @DisplayName("lazy-init 모드에서는 제외 목록 / @Lazy(false) 빈만 시작 시 생성")
+  void lazyInitSkipsNonCriticalBeans() {
+    created.set(0);
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AppConfig.class)) {
+      assertEquals(2, created.get());   // slowRepository, eagerService
+
+      context.getBean("service");
+      assertEquals(3, created.get());
+    }
+  }
+
+  @Test
+  @DisplayName("빈별 생성 시간: 의존 빈 시간은 total 에만 포함되고 self 에서는 빠짐")
+  @SuppressWarnings("unchecked")
+  void recordsSelfAndTotalTime() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AppConfig.class)) {
+      Map<String, Object> snapshot = context.getBean(StartupTimeline.class).snapshot(10);
+      assertTrue((Long) snapshot.get("refreshMillis") >= 0);
+
+      List<Map<String, Object>> beans = (List<Map<String, Object>>) snapshot.get("beans");
+      Map<String, Object> repository = find(beans, "slowRepository");
+      assertTrue((Double) repository.get("selfMillis") >= 30);
+
+      Map<String, Object> eager = find(beans, "eagerService");
+      assertTrue((Double) eager.get("totalMillis") >= 30);   // 생성 중 slowRepository 를 만듦
+      assertTrue((Double) eager.get("selfMillis") < 30);
+    }
+  }
+
+  private static Map<String, Object> find(List<Map<String, Object>> beans, String name) {
+    return beans.stream().filter(b -> name.equals(b.get("name"))).findFirst().orElseThrow();
+  }
+}
@@ -0,0 +1,113 @@
+package org.scoula.common.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadStorageTest {
+
+  @TempDir
+  Path directory;
+
+  private static byte[] randomBytes(int size) {
+    byte[] data = new byte[size];
+    ThreadLocalRandom.current().nextBytes(data);
+    return data;
+  }
+
+  @Test
+  @DisplayName("스트리밍 저장 - 크기, CRC32C, 메타데이터, Range 다운로드")
+  void storeAndDownload() throws IOException {
+    UploadStorage storage = new UploadStorage(directory, 10 * 1024 * 1024, 2, 0);
+    byte[] data = randomBytes(3 * 1024 * 1024 + 123);
+    CRC32C crc = new CRC32C();
+    crc.update(data);
+
+    StoredFile stored = storage.store("user0", "../../etc/계좌내역.csv", new ByteArrayInputStream(data), true);
+
+    assertEquals(data.length, stored.getSize());
+    assertEquals(String.format("%08x", crc.getValue()), stored.getCrc32c());
+    assertEquals("계좌내역.csv", stored.getOriginalName());
+    assertArrayEquals(data, Files.readAllBytes(storage.path(stored)));
+    assertEquals(stored.getCrc32c(), storage.find(stored.getId()).orElseThrow().getCrc32c());
+    assertTrue(storage.find("../" + stored.getId()).isEmpty());
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/" + stored.getId());
+    request.addHeader("Range", "bytes=100-199");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FileSender.send(stored, storage.path(stored), request, response);
+
+    assertEquals(206, response.getStatus());
+    assertEquals("bytes 100-199/" + data.length, response.getHeader("Content-Range"));
+    assertArrayEquals(Arrays.copyOfRange(data, 100, 200), response.getContentAsByteArray());
+  }
+
+  @Test
+  @DisplayName("최대 크기 초과 시 413, 임시 파일 삭제")
+  void tooLarge() throws IOException {
+    UploadStorage storage = new UploadStorage(directory, 1024 * 1024, 2, 0);
+
+    UploadLimitException e = assertThrows(UploadLimitException.class,
+            () -> storage.store("user0", "big.bin", new ByteArrayInputStream(randomBytes(1024 * 1024 + 1)), true));
+
+    assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, e.getStatus());
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("사용자별 동시 업로드 수 제한 (다른 사용자는 영향 없음)")
+  void concurrencyPerUser() throws Exception {
+    UploadStorage storage = new UploadStorage(directory, 1024 * 1024, 1, 0);
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    InputStream slow = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        reading.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+        return -1;
+      }
+    };
+
+    CompletableFuture<StoredFile> first = CompletableFuture.supplyAsync(() -> {
+      try {
+        return storage.store("user0", "a.bin", slow, true);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+    UploadLimitException e = assertThrows(UploadLimitException.class,
+            () -> storage.store("user0", "b.bin", new ByteArrayInputStream(new byte[10]), true));
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatus());
+    assertEquals(10, storage.store("user1", "c.bin", new ByteArrayInputStream(new byte[10]), true).getSize());
+
+    release.countDown();
+    assertEquals(0, first.get(5, TimeUnit.SECONDS).getSize());
+    assertEquals(10, storage.store("user0", "b.bin", new ByteArrayInputStream(new byte[10]), true).getSize());
+  }
+}
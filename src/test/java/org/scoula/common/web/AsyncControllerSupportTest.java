@@ -0,0 +1,105 @@
+package org.scoula.common.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class AsyncControllerSupportTest {
+
+  @RestController
+  static class SlowController extends AsyncControllerSupport {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @GetMapping("/api/slow")
+    public DeferredResult<String> slow() {
+      return deferred(() -> {
+        started.countDown();
+        try {
+          Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+          return "done";
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          Thread.currentThread().interrupt();
+          return "interrupted";
+        }
+      });
+    }
+
+    @GetMapping("/api/fast")
+    public DeferredResult<String> fast() {
+      return deferred(() -> "fast");
+    }
+  }
+
+  private ThreadPoolTaskExecutor executor;
+  private SlowController controller;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.initialize();
+    controller = new SlowController();
+    ReflectionTestUtils.setField(controller, "applicationTaskExecutor", executor);
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("callable 은 applicationTaskExecutor 와 기본 타임아웃을 지정한 WebAsyncTask")
+  void callableUsesExecutorAndTimeout() throws Exception {
+    WebAsyncTask<String> task = controller.callable(() -> "ok");
+
+    assertSame(executor, task.getExecutor());
+    assertEquals(30_000L, task.getTimeout());
+    assertEquals("ok", task.getCallable().call());
+    assertEquals(500L, controller.callable(() -> "ok", 500).getTimeout());
+  }
+
+  @Test
+  @DisplayName("deferred 작업 결과로 응답")
+  void deferredResult() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/fast")).andReturn();
+    assertEquals("fast", mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString());
+  }
+
+  @Test
+  @DisplayName("요청 타임아웃 시 실행 중인 deferred 작업 스레드를 interrupt")
+  void timeoutInterruptsRunningTask() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/slow")).andReturn();
+    assertTrue(controller.started.await(5, TimeUnit.SECONDS));
+
+    MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+    for (AsyncListener listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext));
+    }
+
+    assertTrue(controller.interrupted.await(5, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,147 @@
+package org.scoula.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Data;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorExporterTest {
+
+  public interface RateMapper {
+    @Select("SELECT product_code, base_rate FROM product_rate ORDER BY product_code")
+    Cursor<Rate> streamAll();
+  }
+
+  @Data
+  public static class Rate {
+    private String productCode;
+    private String baseRate;
+  }
+
+  private HikariDataSource dataSource;
+  private RateMapper mapper;
+  private CursorExporter exporter;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:cursorexport;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS product_rate (product_code VARCHAR(20), base_rate VARCHAR(10))");
+    jdbcTemplate.execute("DELETE FROM product_rate");
+    for (int i = 0; i < 1000; i++) {
+      jdbcTemplate.update("INSERT INTO product_rate VALUES (?, ?)", String.format("P%04d", i), "3.5");
+    }
+    jdbcTemplate.update("INSERT INTO product_rate VALUES (?, ?)", "Z\"quoted,\"", "1.0");
+
+    Configuration configuration = new Configuration(
+            new Environment("test", new SpringManagedTransactionFactory(), dataSource));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.addMapper(RateMapper.class);
+    mapper = new SqlSessionTemplate(new SqlSessionFactoryBuilder().build(configuration)).getMapper(RateMapper.class);
+
+    exporter = new CursorExporter(new DataSourceTransactionManager(dataSource), new ObjectMapper(), 100, 60_000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  private String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("JSON Lines - 한 행에 JSON 객체 하나")
+  void jsonLines() throws IOException {
+    ResponseEntity<StreamingResponseBody> response = exporter.jsonLines("rates", mapper::streamAll);
+
+    assertEquals(CursorExporter.JSON_LINES, response.getHeaders().getContentType());
+    String[] lines = write(response).split("\n");
+    assertEquals(1001, lines.length);
+    assertEquals("{\"productCode\":\"P0000\",\"baseRate\":\"3.5\"}", lines[0]);
+  }
+
+  @Test
+  @DisplayName("CSV - BOM, 헤더, 따옴표 이스케이프")
+  void csv() throws IOException {
+    String csv = write(exporter.csv("rates", mapper::streamAll, CursorExporter.CsvColumns.<Rate>of()
+            .column("상품코드", Rate::getProductCode)
+            .column("기본금리", Rate::getBaseRate)));
+
+    assertTrue(csv.startsWith("\uFEFF상품코드,기본금리\r\nP0000,3.5\r\n"));
+    assertTrue(csv.endsWith("\"Z\"\"quoted,\"\"\",1.0\r\n"));
+  }
+
+  @Test
+  @DisplayName("CSV - 수식으로 해석되는 문자열은 ' 를 붙이고, 숫자는 음수도 그대로")
+  void csvFormulaInjection() throws IOException {
+    CursorExporter.CsvColumns<Object[]> columns = CursorExporter.CsvColumns.<Object[]>of()
+            .column("메모", r -> r[0])
+            .column("금액", r -> r[1]);
+    StringWriter writer = new StringWriter();
+
+    columns.writeRow(writer, new Object[]{"=HYPERLINK(\"http://evil\",\"x\")", -12000L});
+    columns.writeRow(writer, new Object[]{"+1+cmd|' /C calc'!A0", 3.5});
+    columns.writeRow(writer, new Object[]{"-2+3", null});
+    columns.writeRow(writer, new Object[]{"@SUM(A1)", 0});
+    columns.writeRow(writer, new Object[]{"\tcell", 1});
+    columns.writeRow(writer, new Object[]{"\r=1", 1});
+    columns.writeRow(writer, new Object[]{"정기예금 -3%", 1});
+
+    assertEquals("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",-12000\r\n"
+            + "'+1+cmd|' /C calc'!A0,3.5\r\n"
+            + "'-2+3,\r\n"
+            + "'@SUM(A1),0\r\n"
+            + "'\tcell,1\r\n"
+            + "\"'\r=1\",1\r\n"
+            + "정기예금 -3%,1\r\n", writer.toString());
+  }
+
+  @Test
+  @DisplayName("클라이언트 연결 종료 시 Cursor 를 닫고 IOException 전파")
+  void clientDisconnect() {
+    AtomicReference<Cursor<Rate>> opened = new AtomicReference<>();
+    ResponseEntity<StreamingResponseBody> response = exporter.jsonLines("rates", () -> {
+      opened.set(mapper.streamAll());
+      return opened.get();
+    });
+    OutputStream brokenPipe = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    assertThrows(IOException.class, () -> response.getBody().writeTo(brokenPipe));
+    assertFalse(opened.get().isOpen());
+    assertTrue(opened.get().getCurrentIndex() < 1000);
+  }
+}
@@ -0,0 +1,172 @@
+package org.scoula.common.web;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.filter.HttpCacheFilter;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.scoula.security.util.JwtClaimsCache;
+import org.scoula.security.util.JwtKeyRing;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class HttpCacheInterceptorTest {
+
+  @RestController
+  static class ProductController {
+    final AtomicInteger calls = new AtomicInteger();
+
+    @HttpCacheable(ttlSeconds = 60)
+    @GetMapping("/api/products")
+    public List<String> list(@RequestParam(defaultValue = "1") int page) {
+      calls.incrementAndGet();
+      return Arrays.asList("예금-" + page, "적금-" + page);
+    }
+
+    @HttpCacheable(ttlSeconds = 60, maxAgeSeconds = 30, versionKey = "rates")
+    @GetMapping("/api/rates")
+    public List<String> rates() {
+      calls.incrementAndGet();
+      return Arrays.asList("3.5");
+    }
+
+    @HttpCacheable(ttlSeconds = 60, privateCache = true)
+    @GetMapping("/api/me")
+    public String me(@RequestHeader(value = "Authorization", required = false) String authorization) {
+      calls.incrementAndGet();
+      return "me:" + (authorization != null ? authorization.hashCode() : "anonymous");
+    }
+
+    @GetMapping("/api/uncached")
+    public String uncached() {
+      calls.incrementAndGet();
+      return "ok";
+    }
+  }
+
+  private static final String SECRET = "test-secret-key-for-finmate-jwt-0123456789";
+
+  private ProductController controller;
+  private HttpResponseCache cache;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    controller = new ProductController();
+    cache = new HttpResponseCache(1024 * 1024);
+    mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addInterceptors(new HttpCacheInterceptor(cache,
+                    new RequestKeyResolver(new JwtKeyRing(SECRET, "", 3600), new JwtClaimsCache(100, 60))))
+            .addFilters(new HttpCacheFilter())
+            .build();
+  }
+
+  private static String bearer(String subject) {
+    return "Bearer " + Jwts.builder()
+            .setSubject(subject)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(request).andReturn().getResponse();
+  }
+
+  @Test
+  @DisplayName("본문 ETag - 두 번째 요청은 핸들러 없이 캐시 응답, If-None-Match 일치 시 304")
+  void bodyEtag() throws Exception {
+    MockHttpServletResponse first = perform(get("/api/products"));
+    String etag = first.getHeader("ETag");
+    String body = first.getContentAsString(StandardCharsets.UTF_8);
+    assertEquals(200, first.getStatus());
+    assertEquals("no-cache, public", first.getHeader("Cache-Control"));
+    assertNotNull(etag);
+    assertTrue(body.contains("예금-1"));
+
+    MockHttpServletResponse cached = perform(get("/api/products"));
+    assertEquals(200, cached.getStatus());
+    assertEquals(etag, cached.getHeader("ETag"));
+    assertEquals(body, cached.getContentAsString(StandardCharsets.UTF_8));
+
+    MockHttpServletResponse notModified = perform(get("/api/products").header("If-None-Match", etag));
+    assertEquals(304, notModified.getStatus());
+    assertEquals(0, notModified.getContentAsByteArray().length);
+    assertEquals(1, controller.calls.get());
+
+    // 쿼리가 다르면 별도 엔트리
+    assertTrue(perform(get("/api/products?page=2")).getContentAsString(StandardCharsets.UTF_8).contains("예금-2"));
+    assertEquals(2, controller.calls.get());
+  }
+
+  @Test
+  @DisplayName("버전 ETag - bump 전까지 304, bump 후 새 ETag 로 다시 조회")
+  void versionEtag() throws Exception {
+    MockHttpServletResponse first = perform(get("/api/rates"));
+    String etag = first.getHeader("ETag");
+    assertEquals("max-age=30, public", first.getHeader("Cache-Control"));
+
+    assertEquals(304, perform(get("/api/rates").header("If-None-Match", etag)).getStatus());
+    assertEquals(1, controller.calls.get());
+
+    cache.bump("rates");
+    MockHttpServletResponse afterBump = perform(get("/api/rates").header("If-None-Match", etag));
+    assertEquals(200, afterBump.getStatus());
+    assertNotEquals(etag, afterBump.getHeader("ETag"));
+    assertEquals(2, controller.calls.get());
+  }
+
+  @Test
+  @DisplayName("@HttpCacheable 이 없는 핸들러는 캡처/캐시하지 않음")
+  void uncached() throws Exception {
+    MockHttpServletResponse response = perform(get("/api/uncached"));
+    assertEquals("ok", response.getContentAsString(StandardCharsets.UTF_8));
+    assertNull(response.getHeader("ETag"));
+    assertEquals("ok", perform(get("/api/uncached")).getContentAsString(StandardCharsets.UTF_8));
+    assertEquals(2, controller.calls.get());
+  }
+
+  @Test
+  @DisplayName("privateCache - 검증된 JWT subject 별로 저장하여 다른 사용자에게 응답이 섞이지 않고, 익명 요청은 캐시하지 않음")
+  void privateCachePerSubject() throws Exception {
+    String user0 = bearer("user0");
+    String user1 = bearer("user1");
+
+    MockHttpServletResponse first = perform(get("/api/me").header("Authorization", user0));
+    String user0Body = first.getContentAsString(StandardCharsets.UTF_8);
+    assertEquals("no-cache, private", first.getHeader("Cache-Control"));
+    assertEquals(user0Body, perform(get("/api/me").header("Authorization", user0))
+            .getContentAsString(StandardCharsets.UTF_8));
+    assertEquals(1, controller.calls.get());
+
+    // 다른 사용자는 user0 의 캐시 응답을 받지 않음
+    String user1Body = perform(get("/api/me").header("Authorization", user1)).getContentAsString(StandardCharsets.UTF_8);
+    assertNotEquals(user0Body, user1Body);
+    assertEquals(2, controller.calls.get());
+
+    // 서명이 맞지 않는 토큰 / 익명 요청은 매번 핸들러 실행
+    String forged = user0.substring(0, user0.length() - 2) + "xx";
+    assertNotEquals(user0Body, perform(get("/api/me").header("Authorization", forged))
+            .getContentAsString(StandardCharsets.UTF_8));
+    perform(get("/api/me"));
+    perform(get("/api/me"));
+    assertEquals(5, controller.calls.get());
+  }
+}
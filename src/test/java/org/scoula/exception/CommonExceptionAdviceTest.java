@@ -0,0 +1,85 @@
+package org.scoula.exception;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class CommonExceptionAdviceTest {
+
+  @RestController
+  static class FailingController {
+    @GetMapping({"/api/fail", "/page/fail"})
+    public String fail() {
+      throw new IllegalStateException("내부 오류 상세");
+    }
+  }
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    InternalResourceViewResolver viewResolver = new InternalResourceViewResolver("/WEB-INF/views/", ".jsp");
+    mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+            .setControllerAdvice(new CommonExceptionAdvice(60))
+            .setViewResolvers(viewResolver)
+            .addDispatcherServletCustomizer(servlet -> servlet.setThrowExceptionIfNoHandlerFound(true))
+            .build();
+  }
+
+  @Test
+  @DisplayName("API 요청은 JSP 대신 problem+json, 예외 메시지는 노출하지 않음")
+  void apiErrorReturnsProblemJson() throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(get("/api/fail")).andReturn().getResponse();
+
+    assertEquals(500, response.getStatus());
+    assertEquals(MediaType.APPLICATION_PROBLEM_JSON_VALUE, response.getContentType());
+    assertEquals("{\"type\":\"about:blank\",\"title\":\"Internal Server Error\",\"status\":500}",
+            response.getContentAsString(StandardCharsets.UTF_8));
+    assertNull(response.getForwardedUrl());
+
+    MockHttpServletResponse notFound = mockMvc.perform(get("/missing").accept(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse();
+    assertEquals(404, notFound.getStatus());
+    assertTrue(notFound.getContentAsString().contains("\"status\":404"));
+  }
+
+  @Test
+  @DisplayName("브라우저 요청은 기존 error_page / custom404 JSP")
+  void browserErrorRendersJsp() throws Exception {
+    MvcResult result = mockMvc.perform(get("/page/fail").accept(MediaType.TEXT_HTML)).andReturn();
+    assertEquals("/WEB-INF/views/error_page.jsp", result.getResponse().getForwardedUrl());
+    assertTrue(result.getModelAndView().getModel().get("exception") instanceof IllegalStateException);
+
+    MvcResult notFound = mockMvc.perform(get("/missing").accept(MediaType.TEXT_HTML)).andReturn();
+    assertEquals(404, notFound.getResponse().getStatus());
+    assertEquals("/WEB-INF/views/custom404.jsp", notFound.getResponse().getForwardedUrl());
+    assertEquals("/missing", notFound.getModelAndView().getModel().get("uri"));
+  }
+
+  @Test
+  @DisplayName("같은 예외 클래스의 스택 트레이스는 간격 내 한 번만, 생략 건수는 다음 기록에 포함")
+  void samplesStackTracesPerExceptionClass() throws Exception {
+    StackTraceSampler sampler = new StackTraceSampler(50_000_000L);   // 50ms
+
+    assertEquals(0, sampler.sample(new IllegalStateException()));
+    assertEquals(-1, sampler.sample(new IllegalStateException()));
+    assertEquals(-1, sampler.sample(new IllegalStateException()));
+    assertEquals(0, sampler.sample(new IllegalArgumentException()));   // 다른 클래스는 별도
+
+    Thread.sleep(60);
+    assertEquals(2, sampler.sample(new IllegalStateException()));
+  }
+}
@@ -0,0 +1,176 @@
+package org.scoula.portfolio.aggregate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.scoula.portfolio.domain.PortfolioSummary;
+import org.scoula.portfolio.domain.TransactionVO;
+import org.scoula.portfolio.mapper.PortfolioMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortfolioAggregatorTest {
+
+  // 2026-10-18 기준, 최근 3개월(2026-08 ~ 2026-10) 월별 지출 보관
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+  private HikariDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private DataSourceTransactionManager transactionManager;
+  private PortfolioMapper mapper;
+  private TransactionRecorder recorder;
+  private PortfolioAggregator aggregator;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:portfolio;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS tbl_transaction");
+    jdbcTemplate.execute("DROP TABLE IF EXISTS tbl_transaction_outbox");
+    jdbcTemplate.execute("CREATE TABLE tbl_transaction (transaction_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "member_id BIGINT NOT NULL, category VARCHAR(20) NOT NULL, amount BIGINT NOT NULL, trade_date DATE NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE tbl_transaction_outbox (outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+        + "transaction_id BIGINT NOT NULL, member_id BIGINT NOT NULL, category VARCHAR(20) NOT NULL, "
+        + "amount BIGINT NOT NULL, trade_date DATE NOT NULL, created_at DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+
+    Configuration configuration = new Configuration(
+        new Environment("test", new SpringManagedTransactionFactory(), dataSource));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.addMapper(PortfolioMapper.class);
+    mapper = new SqlSessionTemplate(new SqlSessionFactoryBuilder().build(configuration)).getMapper(PortfolioMapper.class);
+
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    recorder = new TransactionRecorder(mapper, transactionManager);
+    aggregator = new PortfolioAggregator(mapper, transactionManager, 2, 3, 5_000, CLOCK);
+  }
+
+  @AfterEach
+  void tearDown() {
+    aggregator.close();
+    dataSource.close();
+  }
+
+  private void record(long memberId, String category, long amount, String tradeDate) {
+    recorder.record(new TransactionVO(null, memberId, category, amount, LocalDate.parse(tradeDate)));
+  }
+
+  @Test
+  @DisplayName("전체 적재 후 outbox 반영분만 증분 집계, 롤백된 거래는 반영되지 않음")
+  void rebuildThenApplyOutbox() {
+    record(1, "salary", 3_000_000, "2026-09-25");
+    record(1, "food", -12_000, "2026-09-26");
+    record(2, "salary", 2_000_000, "2026-09-25");
+    assertEquals(2, aggregator.rebuild());
+
+    record(1, "food", -8_000, "2026-10-01");
+    record(1, "rent", -500_000, "2026-10-05");
+    record(1, "food", -3_000, "2026-06-30");    // 월별 지출 보관 기간 밖
+    record(3, "food", -1_000, "2026-10-10");
+    // 롤백된 거래는 원본 / outbox 모두 남지 않음
+    assertThrows(IllegalStateException.class, () -> new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> {
+          record(2, "food", -99_000, "2026-10-02");
+          throw new IllegalStateException("rollback");
+        }));
+
+    // batchSize=2 이므로 여러 배치로 나눠 반영
+    assertEquals(4, aggregator.poll());
+    assertEquals(0, aggregator.poll());
+
+    PortfolioSummary member1 = aggregator.get(1);
+    assertEquals(3_000_000 - 12_000 - 8_000 - 500_000 - 3_000, member1.getBalance());
+    assertEquals(5, member1.getTransactionCount());
+    assertEquals(Map.of("salary", 3_000_000L, "food", -23_000L, "rent", -500_000L), member1.getCategoryTotals());
+    assertEquals(Map.of("2026-09", 12_000L, "2026-10", 508_000L), member1.getMonthlySpending());
+
+    assertEquals(2_000_000, aggregator.get(2).getBalance());
+    assertEquals(Map.of("2026-10", 1_000L), aggregator.get(3).getMonthlySpending());
+    assertEquals(0, aggregator.get(99).getTransactionCount());
+
+    // 증분 반영 결과가 원본 재집계와 같음
+    assertEquals(0, aggregator.reconcile());
+  }
+
+  @Test
+  @DisplayName("outbox 를 거치지 않은 변경은 정합성 점검에서 원본 기준으로 보정, 반영된 outbox 만 보관 기간 후 삭제")
+  void reconcileRepairsDrift() {
+    record(1, "food", -10_000, "2026-10-01");
+    aggregator.poll();   // 처음 호출은 전체 적재
+    record(1, "food", -5_000, "2026-10-02");
+
+    // outbox 없이 직접 수정 / 추가
+    jdbcTemplate.update("UPDATE tbl_transaction SET amount = -20000 WHERE amount = -10000");
+    jdbcTemplate.update("INSERT INTO tbl_transaction (member_id, category, amount, trade_date) VALUES (2, 'bonus', 700, DATE '2026-10-03')");
+
+    assertEquals(2, aggregator.reconcile());
+    assertEquals(-25_000, aggregator.get(1).getBalance());
+    assertEquals(Map.of("2026-10", 25_000L), aggregator.get(1).getMonthlySpending());
+    assertEquals(700, aggregator.get(2).getBalance());
+    assertEquals(2L, aggregator.stats().get("mismatches"));
+
+    // 보관 기간이 지나도 아직 반영하지 않은 outbox 행(outbox 위치 이후)은 삭제하지 않음
+    record(1, "food", -1_000, "2026-10-04");
+    jdbcTemplate.update("UPDATE tbl_transaction_outbox SET created_at = TIMESTAMP '2026-10-01 00:00:00'");
+    assertEquals(2, aggregator.purgeOutbox(24));
+    assertEquals(1, aggregator.poll());
+    assertEquals(-26_000, aggregator.get(1).getBalance());
+  }
+
+  @Test
+  @DisplayName("빈 outbox_id 는 gap-grace 동안 기다려 늦게 커밋된 거래를 반영하고, 지나면 건너뜀")
+  void waitsForLateCommitsBeforeSkippingGaps() {
+    AtomicLong now = new AtomicLong(CLOCK.millis());
+    Clock clock = new Clock() {
+      @Override public ZoneId getZone() { return CLOCK.getZone(); }
+      @Override public Clock withZone(ZoneId zone) { return this; }
+      @Override public Instant instant() { return Instant.ofEpochMilli(now.get()); }
+    };
+    aggregator.close();
+    aggregator = new PortfolioAggregator(mapper, transactionManager, 10, 3, 5_000, clock);
+    aggregator.rebuild();
+
+    // outbox_id 2 를 먼저 받은 트랜잭션이 3 보다 늦게 커밋되는 상황
+    insertOutbox(1, -1_000);
+    insertOutbox(3, -3_000);
+    assertEquals(1, aggregator.poll());
+    assertEquals(1L, aggregator.stats().get("outboxPosition"));
+
+    now.addAndGet(1_000);
+    insertOutbox(2, -2_000);
+    assertEquals(2, aggregator.poll());
+    assertEquals(-6_000, aggregator.get(1).getBalance());
+
+    // 롤백으로 비어 버린 outbox_id 4 는 gap-grace 가 지난 뒤 건너뜀
+    insertOutbox(5, -5_000);
+    assertEquals(0, aggregator.poll());
+    now.addAndGet(5_000);
+    assertEquals(1, aggregator.poll());
+    assertEquals(-11_000, aggregator.get(1).getBalance());
+    assertEquals(5L, aggregator.stats().get("outboxPosition"));
+    assertEquals(1L, aggregator.stats().get("skippedGaps"));
+  }
+
+  private void insertOutbox(long outboxId, long amount) {
+    jdbcTemplate.update("INSERT INTO tbl_transaction_outbox (outbox_id, transaction_id, member_id, category, amount, "
+        + "trade_date) VALUES (?, ?, 1, 'food', ?, DATE '2026-10-01')", outboxId, outboxId, amount);
+  }
+}
@@ -0,0 +1,179 @@
+package org.scoula.product.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.product.domain.ProductSearch;
+import org.scoula.product.domain.ProductSort;
+import org.scoula.product.domain.ProductType;
+import org.scoula.product.domain.ProductVO;
+import org.scoula.product.mapper.ProductMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+  private static final int[] TERMS = {1, 3, 6, 12, 24, 36};
+
+  // DB 대신 목록을 돌려주는 매퍼 (updatedSince 는 updated_at >= since 조건을 흉내)
+  private static class ListProductMapper implements ProductMapper {
+    final List<ProductVO> table = new ArrayList<>();
+
+    @Override
+    public List<ProductVO> findAll() {
+      return table.stream().filter(p -> !p.isDeleted()).map(ListProductMapper::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ProductVO> findUpdatedSince(LocalDateTime since) {
+      return table.stream().filter(p -> !p.getUpdatedAt().isBefore(since)).map(ListProductMapper::copy)
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ProductVO> search(ProductSearch search) {
+      throw new UnsupportedOperationException();
+    }
+
+    static ProductVO copy(ProductVO p) {
+      return new ProductVO(p.getProductId(), p.getProductType(), p.getBankCode(), p.getProductName(),
+          p.getTermMonths(), p.getBaseRate(), p.getMaxRate(), p.isDeleted(), p.getUpdatedAt());
+    }
+  }
+
+  private static ProductVO product(long id, ProductType type, String bank, int term, String baseRate,
+                                   String maxRate, LocalDateTime updatedAt) {
+    return new ProductVO(id, type, bank, "product" + id, term, new BigDecimal(baseRate), new BigDecimal(maxRate),
+        false, updatedAt);
+  }
+
+  // SQL (WHERE ... ORDER BY rate DESC, product_id LIMIT n) 과 같은 의미의 단순 구현
+  private static List<Long> expected(List<ProductVO> products, ProductSearch search) {
+    boolean byBase = search.getSort() == ProductSort.BASE_RATE;
+    Comparator<ProductVO> order = Comparator.comparing((ProductVO p) -> byBase ? p.getBaseRate() : p.getMaxRate())
+        .reversed().thenComparing(ProductVO::getProductId);
+    return products.stream()
+        .filter(p -> search.getTypes() == null || search.getTypes().contains(p.getProductType()))
+        .filter(p -> search.getBankCodes() == null || search.getBankCodes().contains(p.getBankCode()))
+        .filter(p -> search.getMinTerm() == null || p.getTermMonths() >= search.getMinTerm())
+        .filter(p -> search.getMaxTerm() == null || p.getTermMonths() <= search.getMaxTerm())
+        .filter(p -> search.getMinRate() == null
+            || (byBase ? p.getBaseRate() : p.getMaxRate()).compareTo(search.getMinRate()) >= 0)
+        .sorted(order)
+        .limit(search.getLimit())
+        .map(ProductVO::getProductId)
+        .collect(Collectors.toList());
+  }
+
+  private static List<Long> ids(List<ProductVO> products) {
+    return products.stream().map(ProductVO::getProductId).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("비트맵 필터 + 금리 순위 검색 결과가 SQL 과 같은 조건 / 순서")
+  void searchMatchesSqlSemantics() {
+    Random random = new Random(7);
+    ListProductMapper mapper = new ListProductMapper();
+    ProductType[] types = ProductType.values();
+    for (long id = 1; id <= 500; id++) {
+      int baseRate = 100 + random.nextInt(400);
+      mapper.table.add(product(id, types[random.nextInt(types.length)], "B" + random.nextInt(5),
+          TERMS[random.nextInt(TERMS.length)], BigDecimal.valueOf(baseRate, 2).toPlainString(),
+          BigDecimal.valueOf(baseRate + random.nextInt(100), 2).toPlainString(), T0));
+    }
+    ProductCatalog catalog = new ProductCatalog(mapper);
+    assertEquals(500, catalog.reload());
+
+    for (int i = 0; i < 200; i++) {
+      ProductSearch search = new ProductSearch();
+      if (random.nextBoolean()) {
+        search.setTypes(Set.of(types[random.nextInt(types.length)]));
+      }
+      if (random.nextBoolean()) {
+        search.setBankCodes(Set.copyOf(List.of("B" + random.nextInt(5), "B" + random.nextInt(7))));
+      }
+      if (random.nextBoolean()) {
+        search.setMinTerm(TERMS[random.nextInt(3)]);
+        search.setMaxTerm(TERMS[3 + random.nextInt(3)]);
+      }
+      if (random.nextBoolean()) {
+        search.setMinRate(new BigDecimal("3.005"));
+      }
+      search.setSort(random.nextBoolean() ? ProductSort.MAX_RATE : ProductSort.BASE_RATE);
+      search.setLimit(1 + random.nextInt(30));
+
+      assertEquals(expected(mapper.table, search), ids(catalog.search(search)), search.toString());
+    }
+
+    ProductSearch unknownBank = new ProductSearch();
+    unknownBank.setBankCodes(Set.of("NONE"));
+    assertTrue(catalog.search(unknownBank).isEmpty());
+  }
+
+  @Test
+  @DisplayName("증분 갱신은 변경 / 삭제분만 반영하고 이전 스냅샷은 그대로 유지")
+  void incrementalRefresh() {
+    ListProductMapper mapper = new ListProductMapper();
+    mapper.table.add(product(1, ProductType.DEPOSIT, "KB", 12, "3.00", "3.50", T0));
+    mapper.table.add(product(2, ProductType.DEPOSIT, "KB", 12, "3.10", "3.20", T0));
+    mapper.table.add(product(3, ProductType.SAVING, "NH", 6, "2.50", "4.00", T0));
+    ProductCatalog catalog = new ProductCatalog(mapper);
+
+    // 처음 refresh 는 전체 적재, 변경이 없으면 스냅샷 교체 없음
+    assertEquals(3, catalog.refresh());
+    CatalogSnapshot first = catalog.snapshot();
+    assertEquals(1L, first.version);
+    assertEquals(0, catalog.refresh());
+    assertEquals(1L, catalog.stats().get("version"));
+
+    ProductSearch deposits = new ProductSearch();
+    deposits.setTypes(Set.of(ProductType.DEPOSIT));
+    assertEquals(List.of(1L, 2L), ids(catalog.search(deposits)));
+
+    // 2번 금리 인상, 1번 삭제, 4번 추가
+    LocalDateTime t1 = T0.plusMinutes(1);
+    mapper.table.set(1, product(2, ProductType.DEPOSIT, "KB", 12, "3.10", "3.90", t1));
+    mapper.table.get(0).setDeleted(true);
+    mapper.table.get(0).setUpdatedAt(t1);
+    mapper.table.add(product(4, ProductType.DEPOSIT, "SH", 24, "3.30", "3.60", t1));
+
+    assertEquals(3, catalog.refresh());
+    assertEquals(2L, catalog.stats().get("version"));
+    assertEquals(t1.toString(), catalog.stats().get("watermark"));
+    assertEquals(List.of(2L, 4L), ids(catalog.search(deposits)));
+    assertNull(catalog.get(1));
+    assertEquals(new BigDecimal("3.90"), catalog.get(2).getMaxRate());
+
+    // 교체 전 스냅샷으로 진행 중이던 검색은 이전 데이터를 그대로 봄
+    assertEquals(List.of(1L, 2L), ids(first.search(deposits)));
+    assertEquals(3, first.size());
+  }
+
+  @Test
+  @DisplayName("기준 시각보다 refresh-lag 만큼 앞에서부터 다시 읽어 늦게 커밋된 행도 반영")
+  void refreshLagCatchesLateCommits() {
+    ListProductMapper mapper = new ListProductMapper();
+    mapper.table.add(product(1, ProductType.DEPOSIT, "KB", 12, "3.00", "3.50", T0.plusMinutes(1)));
+    ProductCatalog catalog = new ProductCatalog(mapper, 60);
+    assertEquals(1, catalog.refresh());
+
+    // updated_at 은 기준 시각보다 이르지만 그 뒤에 커밋된 행
+    mapper.table.add(product(2, ProductType.DEPOSIT, "KB", 12, "3.10", "3.20", T0.plusSeconds(30)));
+    assertEquals(1, catalog.refresh());
+    assertNotNull(catalog.get(2));
+    assertEquals(T0.plusMinutes(1).toString(), catalog.stats().get("watermark"));
+
+    // 다시 읽힌 같은 행은 변경으로 보지 않음
+    assertEquals(0, catalog.refresh());
+    assertEquals(2L, catalog.stats().get("version"));
+  }
+}
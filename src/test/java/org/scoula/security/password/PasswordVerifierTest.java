@@ -0,0 +1,161 @@
+package org.scoula.security.password;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordVerifierTest {
+
+  // 테스트에서 시간을 직접 움직이기 위한 가짜 시계 (epoch millis)
+  private final AtomicLong now = new AtomicLong(1_750_000_000_000L);
+
+  private PasswordVerifier verifier;
+
+  @AfterEach
+  void tearDown() {
+    if (verifier != null) {
+      verifier.close();
+    }
+  }
+
+  private LoginThrottle throttle(int maxFailures) {
+    return new LoginThrottle(maxFailures, 300, 30, 900, 4, 100, now::get);
+  }
+
+  @Test
+  @DisplayName("strength 보정은 범위 안에서 선택, 낮은 cost 해시는 로그인 성공 시 업그레이드")
+  void calibrateAndUpgrade() throws Exception {
+    AdaptiveBCryptPasswordEncoder calibrated = AdaptiveBCryptPasswordEncoder.calibrated(0, 4, 6);
+    assertEquals(4, calibrated.getStrength());
+    assertEquals(6, AdaptiveBCryptPasswordEncoder.calibrated(60_000, 4, 6).getStrength());
+
+    AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+    String legacyHash = new BCryptPasswordEncoder(4).encode("1234");
+    assertTrue(encoder.upgradeEncoding(legacyHash));
+    assertFalse(encoder.upgradeEncoding(encoder.encode("1234")));
+    assertFalse(encoder.upgradeEncoding("{noop}1234"));
+
+    verifier = new PasswordVerifier(encoder, throttle(5), throttle(50), 1, 4, 5000, 60, 100);
+    AtomicReference<String> rehashed = new AtomicReference<>();
+    CountDownLatch upgraded = new CountDownLatch(1);
+    assertTrue(verifier.verify("user0", "10.0.0.1", "1234", legacyHash, hash -> {
+      rehashed.set(hash);
+      upgraded.countDown();
+    }).isSuccess());
+
+    assertTrue(upgraded.await(5, TimeUnit.SECONDS));
+    assertTrue(rehashed.get().startsWith("$2a$05$"));
+    assertTrue(encoder.matches("1234", rehashed.get()));
+
+    // 같은 해시 + 비밀번호 재로그인은 인증 결과 캐시 적중, 다른 비밀번호는 캐시를 타지 않음
+    assertTrue(verifier.verify("user0", "10.0.0.1", "1234", legacyHash, null).isSuccess());
+    assertEquals(1L, verifier.stats().get("cacheHits"));
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS,
+            verifier.verify("user0", "10.0.0.1", "12345", legacyHash, null).getOutcome());
+  }
+
+  @Test
+  @DisplayName("계정별 실패 횟수 초과 시 잠금, 반복 잠금은 2배, 성공하면 실패 기록 삭제")
+  void throttleFailures() {
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+    String hash = bcrypt.encode("1234");
+    verifier = new PasswordVerifier(new AdaptiveBCryptPasswordEncoder(4), throttle(3), throttle(50), 1, 4, 5000, 0, 0);
+
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("user0", "10.0.0.1", "x", hash, null).getOutcome());
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("user0", "10.0.0.2", "x", hash, null).getOutcome());
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("user0", "10.0.0.3", "x", null, null).getOutcome());
+
+    // 잠긴 동안은 올바른 비밀번호도 거부
+    LoginResult locked = verifier.verify("user0", "10.0.0.4", "1234", hash, null);
+    assertEquals(LoginResult.Outcome.LOCKED, locked.getOutcome());
+    assertEquals(30_000, locked.getRetryAfterMillis());
+    assertTrue(verifier.verify("user1", "10.0.0.4", "1234", hash, null).isSuccess());
+
+    now.addAndGet(30_000);
+    for (int i = 0; i < 3; i++) {
+      verifier.verify("user0", "10.0.0.5", "x", hash, null);
+    }
+    assertEquals(60_000, verifier.verify("user0", "10.0.0.5", "1234", hash, null).getRetryAfterMillis());
+
+    now.addAndGet(60_000);
+    assertTrue(verifier.verify("user0", "10.0.0.5", "1234", hash, null).isSuccess());
+    verifier.verify("user0", "10.0.0.5", "x", hash, null);
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("user0", "10.0.0.5", "x", hash, null).getOutcome());
+  }
+
+  @Test
+  @DisplayName("없는 계정도 현재 strength 의 더미 해시로 BCrypt 검증 후 실패")
+  void unknownAccountRunsBcrypt() {
+    AtomicInteger verified = new AtomicInteger();
+    AtomicReference<String> verifiedHash = new AtomicReference<>();
+    AdaptiveBCryptPasswordEncoder counting = new AdaptiveBCryptPasswordEncoder(5) {
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        verified.incrementAndGet();
+        verifiedHash.set(encodedPassword);
+        return super.matches(rawPassword, encodedPassword);
+      }
+    };
+    verifier = new PasswordVerifier(counting, throttle(5), throttle(50), 1, 4, 5000, 60, 100);
+
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("ghost", "10.0.0.1", "1234", null, null).getOutcome());
+    assertEquals(1, verified.get());
+    assertTrue(verifiedHash.get().startsWith("$2a$05$"));
+    String dummy = verifiedHash.get();
+
+    // 더미 해시는 한 번 만들어 재사용
+    assertEquals(LoginResult.Outcome.BAD_CREDENTIALS, verifier.verify("ghost", "10.0.0.1", "x", null, null).getOutcome());
+    assertEquals(2, verified.get());
+    assertEquals(dummy, verifiedHash.get());
+  }
+
+  @Test
+  @DisplayName("검증 실행기 대기열이 가득 차면 BCrypt 없이 BUSY")
+  void busyWhenSaturated() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AdaptiveBCryptPasswordEncoder blocking = new AdaptiveBCryptPasswordEncoder(4) {
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return true;
+      }
+    };
+    verifier = new PasswordVerifier(blocking, throttle(5), throttle(50), 1, 1, 200, 0, 0);
+
+    Thread first = new Thread(() -> verifier.verify("user0", "10.0.0.1", "1234", "hash", null));
+    first.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // 대기열 1칸을 차지한 요청은 시간 초과, 그 다음 요청은 대기열이 가득 차 바로 거부
+    Thread second = new Thread(() -> verifier.verify("user1", "10.0.0.1", "1234", "hash", null));
+    second.start();
+    while (verifier.stats().get("queuedVerifications").equals(0)) {
+      Thread.onSpinWait();
+    }
+    LoginResult rejected = verifier.verify("user2", "10.0.0.1", "1234", "hash", null);
+    assertEquals(LoginResult.Outcome.BUSY, rejected.getOutcome());
+    assertEquals(1000, rejected.getRetryAfterMillis());
+
+    // 실행 중인 검증도 대기 시간(200ms)을 넘기면 호출한 쪽은 BUSY 로 끝남
+    second.join();
+    first.join();
+    release.countDown();
+    assertEquals(3L, verifier.stats().get("BUSY"));
+    assertEquals(0L, verifier.stats().get("SUCCESS"));
+  }
+}
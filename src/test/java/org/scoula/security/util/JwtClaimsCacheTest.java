@@ -0,0 +1,135 @@
+package org.scoula.security.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Log4j2
+class JwtClaimsCacheTest {
+
+  private static final Key KEY =
+          Keys.hmacShaKeyFor("test-secret-key-for-jwt-claims-cache-0123456789".getBytes(StandardCharsets.UTF_8));
+
+  // 테스트에서 시간을 직접 움직이기 위한 가짜 시계 (epoch millis)
+  private final AtomicLong now = new AtomicLong(1_750_000_000_000L);
+  // Caffeine 만료 판정용 ticker (nanos) - 시계와 따로 움직일 수 있음
+  private final AtomicLong ticker = new AtomicLong();
+  private final AtomicInteger parseCount = new AtomicInteger();
+
+  private JwtClaimsCache cache;
+  private Function<String, Claims> parser;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = new Clock() {
+      @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+      @Override public Clock withZone(ZoneId zone) { return this; }
+      @Override public Instant instant() { return Instant.ofEpochMilli(now.get()); }
+    };
+    cache = new JwtClaimsCache(100, TimeUnit.MINUTES.toMillis(10), clock, ticker::get);
+
+    JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(KEY)
+            .setClock(() -> new Date(now.get()))
+            .build();
+    parser = token -> {
+      parseCount.incrementAndGet();
+      return jwtParser.parseClaimsJws(token).getBody();
+    };
+  }
+
+  private void advance(long millis) {
+    now.addAndGet(millis);
+    ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  private String token(String username, long expiresInMillis) {
+    return Jwts.builder()
+            .setSubject(username)
+            .setIssuedAt(new Date(now.get()))
+            .setExpiration(new Date(now.get() + expiresInMillis))
+            .signWith(KEY)
+            .compact();
+  }
+
+  @Test
+  @DisplayName("두 번째 조회부터는 파싱/HMAC 검증 없이 캐시에서 반환된다.")
+  void warmHit() {
+    String token = token("user0", 300_000L);
+
+    assertEquals("user0", cache.get(token, parser).getSubject());
+    assertEquals("user0", cache.get(token, parser).getSubject());
+    assertEquals("user0", cache.get(token, parser).getSubject());
+
+    assertEquals(1, parseCount.get());
+    assertEquals(1, cache.missCount());
+    assertEquals(2, cache.hitCount());
+  }
+
+  @Test
+  @DisplayName("이미 만료된 토큰은 캐시되지 않는다. (validateToken_Expired 케이스)")
+  void expiredTokenIsNeverCached() {
+    String expiredToken = token("user0", 300_000L);
+    advance(300_001L);
+
+    assertThrows(ExpiredJwtException.class, () -> cache.get(expiredToken, parser));
+    assertThrows(ExpiredJwtException.class, () -> cache.get(expiredToken, parser));
+
+    assertEquals(2, parseCount.get());
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("캐시된 토큰도 exp 가 지나면 캐시에서 반환되지 않는다.")
+  void cachedTokenExpires() {
+    String token = token("user0", 2_000L);
+    assertNotNull(cache.get(token, parser));
+
+    advance(3_000L);
+
+    assertThrows(ExpiredJwtException.class, () -> cache.get(token, parser));
+    assertEquals(2, parseCount.get());
+    log.info("hit={}, miss={}, eviction={}", cache.hitCount(), cache.missCount(), cache.evictionCount());
+  }
+
+  @Test
+  @DisplayName("Caffeine 만료 처리가 늦어도 exp 재확인으로 만료된 Claims 를 반환하지 않는다.")
+  void expRecheckGuardsLateEviction() {
+    String token = token("user0", 1_000L);
+    assertNotNull(cache.get(token, parser));
+
+    // ticker 는 그대로 두고 시계만 exp 직후로 이동 -> Caffeine 기준으로는 아직 유효한 엔트리
+    now.addAndGet(1_001L);
+
+    assertThrows(ExpiredJwtException.class, () -> cache.get(token, parser));
+    assertEquals(1, cache.expiredRejectionCount());
+  }
+
+  @Test
+  @DisplayName("서명이 잘못된 토큰은 캐시되지 않는다.")
+  void invalidTokenIsNotCached() {
+    assertThrows(RuntimeException.class, () -> cache.get("invalid.jwt.token", parser));
+    assertEquals(0, cache.size());
+  }
+}
@@ -0,0 +1,174 @@
+package org.scoula.security.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.config.ConfigSnapshot;
+import org.scoula.common.ratelimit.RequestKeyResolver;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+  private static final String LEGACY = "legacy-secret-key-for-finmate-jwt-0123456789";
+  private static final String SECRET_A = "key-a-secret-for-finmate-jwt-key-ring-0123456";
+  private static final String SECRET_B = "key-b-secret-for-finmate-jwt-key-ring-0123456";
+  private static final Instant ROTATE_AT = Instant.parse("2026-11-01T00:00:00Z");
+
+  // 테스트에서 시간을 직접 움직이기 위한 가짜 시계 (epoch millis)
+  private final AtomicLong now = new AtomicLong(ROTATE_AT.minusSeconds(600).toEpochMilli());
+
+  private Clock clock;
+  private JwtKeyRing keyRing;
+
+  @BeforeEach
+  void setUp() {
+    clock = new Clock() {
+      @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+      @Override public Clock withZone(ZoneId zone) { return this; }
+      @Override public Instant instant() { return Instant.ofEpochMilli(now.get()); }
+    };
+    keyRing = new JwtKeyRing(LEGACY, "a:" + SECRET_A + ", b:" + SECRET_B + "@" + ROTATE_AT, 3600, clock);
+  }
+
+  private String sign(String subject) {
+    return keyRing.sign(Jwts.builder()
+            .setSubject(subject)
+            .setExpiration(new Date(now.get() + TimeUnit.DAYS.toMillis(1))));
+  }
+
+  private static String kid(String token) {
+    String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+            StandardCharsets.UTF_8);
+    int start = header.indexOf("\"kid\":\"");
+    return start < 0 ? null : header.substring(start + 7, header.indexOf('"', start + 7));
+  }
+
+  @Test
+  @DisplayName("활성 시각 전에는 이전 키로 서명, 이후에는 새 키로 서명하고 overlap 동안 이전 키 토큰도 검증")
+  void rotationWithOverlap() {
+    String tokenA = sign("user0");
+    assertEquals("a", kid(tokenA));
+    assertEquals("user0", keyRing.parse(tokenA).getSubject());
+
+    now.set(ROTATE_AT.plusSeconds(1).toEpochMilli());
+    String tokenB = sign("user1");
+    assertEquals("b", kid(tokenB));
+    assertEquals("user1", keyRing.parse(tokenB).getSubject());
+    assertEquals("user0", keyRing.parse(tokenA).getSubject());
+
+    // overlap(1시간) 이 지나면 이전 키 토큰은 만료 전이라도 거부
+    now.set(ROTATE_AT.plusSeconds(3600).toEpochMilli());
+    assertThrows(SignatureException.class, () -> keyRing.parse(tokenA));
+    assertEquals("user1", keyRing.parse(tokenB).getSubject());
+
+    Map<String, Object> b = keyRing.snapshot().get(2);
+    assertEquals("b", b.get("kid"));
+    assertEquals(true, b.get("signing"));
+    assertFalse(b.containsValue(SECRET_B));
+  }
+
+  @Test
+  @DisplayName("kid 없는 기존 토큰은 jwt.secret_key 로 검증, 모르는 kid / 다른 키 서명은 거부")
+  void legacyAndUnknownKid() {
+    String legacyToken = Jwts.builder()
+            .setSubject("user0")
+            .setExpiration(new Date(now.get() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(LEGACY.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    assertEquals("user0", keyRing.parse(legacyToken).getSubject());
+
+    String unknownKid = Jwts.builder()
+            .setHeaderParam("kid", "z")
+            .setSubject("user0")
+            .signWith(Keys.hmacShaKeyFor(SECRET_A.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    assertThrows(SignatureException.class, () -> keyRing.parse(unknownKid));
+
+    String wrongKey = Jwts.builder()
+            .setHeaderParam("kid", "b")
+            .setSubject("user0")
+            .signWith(Keys.hmacShaKeyFor(SECRET_A.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    assertThrows(SignatureException.class, () -> keyRing.parse(wrongKey));
+  }
+
+  @Test
+  @DisplayName("실행 중 새 키를 예약하면 활성 시각부터 서명 키가 바뀜")
+  void schedule() {
+    keyRing.schedule("c", SECRET_A.replace('a', 'c'), Instant.ofEpochMilli(now.get() + 1000));
+    assertEquals("a", kid(sign("user0")));
+
+    now.addAndGet(1000);
+    String tokenC = sign("user0");
+    assertEquals("c", kid(tokenC));
+    assertEquals("user0", keyRing.parse(tokenC).getSubject());
+    assertTrue(new JwtKeyRing("", "", 3600).isEmpty());
+  }
+
+  @Test
+  @DisplayName("키가 제거되면 캐시에 있던 토큰도 바로 거부")
+  void removedKeyInvalidatesCachedClaims() throws Exception {
+    JwtClaimsCache claimsCache = new JwtClaimsCache(100, TimeUnit.MINUTES.toMillis(10), clock, System::nanoTime);
+    RequestKeyResolver resolver = new RequestKeyResolver(keyRing, claimsCache);
+    String tokenA = sign("user0");
+    assertEquals("user0", resolver.subject(bearer(tokenA)));
+    assertEquals(1, claimsCache.size());
+
+    Properties properties = new Properties();
+    properties.setProperty("jwt.secret_key", LEGACY);
+    properties.setProperty("jwt.keys", "b:" + SECRET_B);
+    keyRing.onConfigChange(null, snapshot(properties), Set.of("jwt.keys"));
+
+    assertNull(resolver.subject(bearer(tokenA)));
+    assertEquals("user1", resolver.subject(bearer(sign("user1"))));
+  }
+
+  @Test
+  @DisplayName("키의 폐기 시각이 지나면 캐시에 있던 토큰도 거부")
+  void retiredKeyInvalidatesCachedClaims() {
+    JwtClaimsCache claimsCache = new JwtClaimsCache(100, TimeUnit.MINUTES.toMillis(10), clock, System::nanoTime);
+    RequestKeyResolver resolver = new RequestKeyResolver(keyRing, claimsCache);
+    String tokenA = sign("user0");
+    assertEquals("user0", resolver.subject(bearer(tokenA)));
+
+    now.set(ROTATE_AT.plusSeconds(1).toEpochMilli());
+    assertEquals("user0", resolver.subject(bearer(tokenA)));
+
+    now.set(ROTATE_AT.plusSeconds(3600).toEpochMilli());
+    assertNull(resolver.subject(bearer(tokenA)));
+  }
+
+  private static MockHttpServletRequest bearer(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    return request;
+  }
+
+  // ConfigSnapshot 생성자는 설정 패키지 전용
+  private static ConfigSnapshot snapshot(Properties properties) throws Exception {
+    Constructor<ConfigSnapshot> constructor =
+            ConfigSnapshot.class.getDeclaredConstructor(long.class, Properties.class, List.class);
+    constructor.setAccessible(true);
+    return constructor.newInstance(1L, properties, List.of());
+  }
+}